@@ -0,0 +1,76 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.format.MonetaryAmountFormat;
+import javax.money.format.MonetaryFormats;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks formatting and parsing with the locale based
+ * {@link org.javamoney.moneta.spi.format.DefaultMonetaryAmountFormat}, and looking up the format from
+ * {@link MonetaryFormats}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmountFormatBenchmark {
+
+    private MonetaryAmountFormat format;
+    private MonetaryAmount amount;
+    private String text;
+
+    @Setup
+    public void setup() {
+        format = MonetaryFormats.getAmountFormat(Locale.GERMANY);
+        amount = Money.of(new BigDecimal("1234567.34"), Monetary.getCurrency("EUR"));
+        text = format.format(amount);
+    }
+
+    @Benchmark
+    public String format() {
+        return format.format(amount);
+    }
+
+    @Benchmark
+    public MonetaryAmount parse() {
+        return format.parse(text);
+    }
+
+    @Benchmark
+    public MonetaryAmountFormat lookupFormat() {
+        return MonetaryFormats.getAmountFormat(Locale.GERMANY);
+    }
+}
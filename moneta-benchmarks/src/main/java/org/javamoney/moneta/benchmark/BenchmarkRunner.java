@@ -0,0 +1,177 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks of this module, optionally profiling allocations and comparing the results with a
+ * baseline recorded earlier, e.g. before upgrading to a new version:
+ * <pre><code>
+ * java -cp target/benchmarks.jar org.javamoney.moneta.benchmark.BenchmarkRunner --gc --save baseline.properties
+ * java -cp target/benchmarks.jar org.javamoney.moneta.benchmark.BenchmarkRunner --gc --baseline baseline.properties
+ * </code></pre>
+ * Supported options are:
+ * <ul>
+ *     <li>{@code --gc} adds the JMH GC profiler, reporting the allocation rate per operation.</li>
+ *     <li>{@code --save <file>} stores the scores as baseline.</li>
+ *     <li>{@code --baseline <file>} compares the scores with the given baseline and exits with status
+ *     {@code 1}, if a benchmark regressed by more than the threshold.</li>
+ *     <li>{@code --threshold <percent>} sets the threshold for regressions, defaults to 10 percent.</li>
+ * </ul>
+ * All other arguments are passed to JMH, e.g. a regular expression selecting the benchmarks to run.
+ */
+public final class BenchmarkRunner {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+        boolean gc = false;
+        Path save = null;
+        Path baseline = null;
+        double threshold = DEFAULT_THRESHOLD_PERCENT;
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--gc":
+                    gc = true;
+                    break;
+                case "--save":
+                    save = Paths.get(requireValue(args, ++i));
+                    break;
+                case "--baseline":
+                    baseline = Paths.get(requireValue(args, ++i));
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(requireValue(args, ++i));
+                    break;
+                default:
+                    jmhArgs.add(args[i]);
+            }
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs.toArray(new String[0])));
+        if (jmhArgs.isEmpty()) {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+        if (gc) {
+            options.addProfiler(GCProfiler.class);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+        Properties scores = toScores(results);
+        if (save != null) {
+            try (OutputStream out = Files.newOutputStream(save)) {
+                scores.store(out, "Moneta benchmark baseline");
+            }
+        }
+        if (baseline != null) {
+            Properties baselineScores = new Properties();
+            try (InputStream in = Files.newInputStream(baseline)) {
+                baselineScores.load(in);
+            }
+            if (compare(baselineScores, results, threshold) > 0) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static String requireValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for option " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static String getKey(BenchmarkParams params) {
+        StringBuilder key = new StringBuilder(params.getBenchmark());
+        for (String param : params.getParamsKeys()) {
+            key.append(':').append(param).append('=').append(params.getParam(param));
+        }
+        return key.append(':').append(params.getMode().shortLabel()).toString();
+    }
+
+    private static Properties toScores(Collection<RunResult> results) {
+        Properties scores = new Properties();
+        for (RunResult result : results) {
+            scores.setProperty(getKey(result.getParams()), String.valueOf(result.getPrimaryResult().getScore()));
+        }
+        return scores;
+    }
+
+    /**
+     * Prints the change of each score compared to the baseline.
+     *
+     * @return the number of benchmarks regressed by more than the threshold.
+     */
+    private static int compare(Properties baseline, Collection<RunResult> results, double thresholdPercent) {
+        TreeMap<String, RunResult> sorted = new TreeMap<>();
+        for (RunResult result : results) {
+            sorted.put(getKey(result.getParams()), result);
+        }
+        int regressions = 0;
+        System.out.println();
+        System.out.println("Comparison with baseline (threshold " + thresholdPercent + "%):");
+        for (RunResult result : sorted.values()) {
+            String key = getKey(result.getParams());
+            String baselineValue = baseline.getProperty(key);
+            if (baselineValue == null) {
+                System.out.println("  NEW        " + key);
+                continue;
+            }
+            double before = Double.parseDouble(baselineValue);
+            double after = result.getPrimaryResult().getScore();
+            double changePercent = (after - before) * 100.0 / before;
+            // for throughput higher scores are better, for all other modes lower scores
+            double regressionPercent = result.getParams().getMode() == Mode.Throughput ? -changePercent : changePercent;
+            String status = "OK";
+            if (regressionPercent > thresholdPercent) {
+                status = "REGRESSION";
+                regressions++;
+            } else if (regressionPercent < -thresholdPercent) {
+                status = "IMPROVED";
+            }
+            System.out.println(String.format(Locale.ENGLISH, "  %-10s %s: %.3f -> %.3f %s (%+.1f%%)", status, key,
+                    before, after, result.getPrimaryResult().getScoreUnit(), changePercent));
+        }
+        System.out.println(regressions + " regression(s) found.");
+        return regressions;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyQuery;
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the currency lookups of {@link Monetary}, which pass through the currency provider chain on
+ * each call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyLookupBenchmark {
+
+    private final CurrencyQuery numericCodeQuery = CurrencyQueryBuilder.of().setNumericCodes(978).build();
+
+    @Benchmark
+    public CurrencyUnit getCurrencyByCode() {
+        return Monetary.getCurrency("EUR");
+    }
+
+    @Benchmark
+    public CurrencyUnit getCurrencyByLocale() {
+        return Monetary.getCurrency(Locale.GERMANY);
+    }
+
+    @Benchmark
+    public boolean isCurrencyAvailable() {
+        return Monetary.isCurrencyAvailable("CHF");
+    }
+
+    @Benchmark
+    public Collection<CurrencyUnit> getCurrenciesByNumericCode() {
+        return Monetary.getCurrencies(numericCodeQuery);
+    }
+
+    @Benchmark
+    public Collection<CurrencyUnit> getAllCurrencies() {
+        return Monetary.getCurrencies();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.MonetaryConversions;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks rate lookups and conversions of the ECB and IMF rate providers. The providers are configured in
+ * the {@code javamoney.properties} of this module to load the rates only from the files bundled with the
+ * providers, so results do not depend on network access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeRateBenchmark {
+
+    private static final long LOAD_TIMEOUT_MILLIS = 30_000L;
+
+    @Param({"ECB", "IMF"})
+    private String providerName;
+
+    private ExchangeRateProvider provider;
+    private CurrencyConversion conversion;
+    private CurrencyUnit eur;
+    private CurrencyUnit usd;
+    private MonetaryAmount amount;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        eur = Monetary.getCurrency("EUR");
+        usd = Monetary.getCurrency("USD");
+        provider = MonetaryConversions.getExchangeRateProvider(providerName);
+        long deadline = System.currentTimeMillis() + LOAD_TIMEOUT_MILLIS;
+        while (!provider.isAvailable(eur, usd)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("No rates loaded by provider " + providerName);
+            }
+            Thread.sleep(100L);
+        }
+        conversion = provider.getCurrencyConversion(usd);
+        amount = Money.of(new BigDecimal("1234567.34"), eur);
+    }
+
+    @Benchmark
+    public ExchangeRate getExchangeRate() {
+        return provider.getExchangeRate(eur, usd);
+    }
+
+    @Benchmark
+    public ExchangeRate getReversedExchangeRate() {
+        return provider.getExchangeRate(usd, eur);
+    }
+
+    @Benchmark
+    public MonetaryAmount convert() {
+        return amount.with(conversion);
+    }
+
+    @Benchmark
+    public ExchangeRateProvider lookupProvider() {
+        return MonetaryConversions.getExchangeRateProvider(providerName);
+    }
+}
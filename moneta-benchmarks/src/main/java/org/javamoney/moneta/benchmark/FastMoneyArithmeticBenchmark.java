@@ -0,0 +1,119 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the arithmetic operations of {@link FastMoney}. For {@link FastMoney#add(MonetaryAmount)} and
+ * {@link FastMoney#subtract(MonetaryAmount)} the {@code long} based path taken for {@link FastMoney} operands is
+ * compared with the generic path taken for any other {@link MonetaryAmount} implementation. Multiplication and
+ * division are measured with {@code long}, {@code double} and {@link BigDecimal} factors, e.g. FX rates or tax
+ * rates.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar FastMoneyArithmeticBenchmark -prof gc} to also see the
+ * allocation rate per operation.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastMoneyArithmeticBenchmark {
+
+    private FastMoney fastMoney;
+    private FastMoney fastOperand;
+    private MonetaryAmount moneyOperand;
+    private BigDecimal rate;
+
+    @Setup
+    public void setup() {
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        fastMoney = FastMoney.of(new BigDecimal("1234567.3444"), eur);
+        fastOperand = FastMoney.of(new BigDecimal("232323.12"), eur);
+        moneyOperand = Money.of(new BigDecimal("232323.12"), eur);
+        rate = new BigDecimal("1.0825");
+    }
+
+    @Benchmark
+    public FastMoney addFastMoney() {
+        return fastMoney.add(fastOperand);
+    }
+
+    @Benchmark
+    public FastMoney subtractFastMoney() {
+        return fastMoney.subtract(fastOperand);
+    }
+
+    @Benchmark
+    public FastMoney addMoney() {
+        return fastMoney.add(moneyOperand);
+    }
+
+    @Benchmark
+    public FastMoney subtractMoney() {
+        return fastMoney.subtract(moneyOperand);
+    }
+
+    @Benchmark
+    public FastMoney multiplyLong() {
+        return fastMoney.multiply(3L);
+    }
+
+    @Benchmark
+    public FastMoney multiplyDouble() {
+        return fastMoney.multiply(1.0825d);
+    }
+
+    @Benchmark
+    public FastMoney multiplyBigDecimal() {
+        return fastMoney.multiply(rate);
+    }
+
+    @Benchmark
+    public FastMoney divideLong() {
+        return fastMoney.divide(3L);
+    }
+
+    @Benchmark
+    public FastMoney divideDouble() {
+        return fastMoney.divide(1.0825d);
+    }
+
+    @Benchmark
+    public FastMoney divideBigDecimal() {
+        return fastMoney.divide(rate);
+    }
+}
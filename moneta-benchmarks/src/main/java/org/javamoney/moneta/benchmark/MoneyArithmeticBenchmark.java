@@ -0,0 +1,107 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the arithmetic operations and comparisons of {@link Money}, with {@link Money} and {@link FastMoney}
+ * operands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    private Money money;
+    private Money moneyOperand;
+    private MonetaryAmount fastOperand;
+    private BigDecimal rate;
+
+    @Setup
+    public void setup() {
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        money = Money.of(new BigDecimal("1234567.3444"), eur);
+        moneyOperand = Money.of(new BigDecimal("232323.12"), eur);
+        fastOperand = FastMoney.of(new BigDecimal("232323.12"), eur);
+        rate = new BigDecimal("1.0825");
+    }
+
+    @Benchmark
+    public Money addMoney() {
+        return money.add(moneyOperand);
+    }
+
+    @Benchmark
+    public Money subtractMoney() {
+        return money.subtract(moneyOperand);
+    }
+
+    @Benchmark
+    public Money addFastMoney() {
+        return money.add(fastOperand);
+    }
+
+    @Benchmark
+    public Money multiplyLong() {
+        return money.multiply(3L);
+    }
+
+    @Benchmark
+    public Money multiplyBigDecimal() {
+        return money.multiply(rate);
+    }
+
+    @Benchmark
+    public Money divideLong() {
+        return money.divide(3L);
+    }
+
+    @Benchmark
+    public Money divideBigDecimal() {
+        return money.divide(rate);
+    }
+
+    @Benchmark
+    public int compareToMoney() {
+        return money.compareTo(moneyOperand);
+    }
+
+    @Benchmark
+    public int compareToFastMoney() {
+        return money.compareTo(fastOperand);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryRounding;
+import javax.money.RoundingQuery;
+import javax.money.RoundingQueryBuilder;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks applying the default rounding, a currency rounding and a cash rounding, as well as looking up
+ * roundings from {@link Monetary}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundingBenchmark {
+
+    private MonetaryAmount eurAmount;
+    private MonetaryAmount chfAmount;
+    private MonetaryRounding defaultRounding;
+    private MonetaryRounding currencyRounding;
+    private MonetaryRounding cashRounding;
+    private RoundingQuery cashRoundingQuery;
+
+    @Setup
+    public void setup() {
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        CurrencyUnit chf = Monetary.getCurrency("CHF");
+        eurAmount = Money.of(new BigDecimal("1234567.34567"), eur);
+        chfAmount = Money.of(new BigDecimal("1234567.34567"), chf);
+        defaultRounding = Monetary.getDefaultRounding();
+        currencyRounding = Monetary.getRounding(eur);
+        cashRoundingQuery = RoundingQueryBuilder.of().setCurrency(chf).set("cashRounding", true).build();
+        cashRounding = Monetary.getRounding(cashRoundingQuery);
+    }
+
+    @Benchmark
+    public MonetaryAmount applyDefaultRounding() {
+        return defaultRounding.apply(eurAmount);
+    }
+
+    @Benchmark
+    public MonetaryAmount applyCurrencyRounding() {
+        return currencyRounding.apply(eurAmount);
+    }
+
+    @Benchmark
+    public MonetaryAmount applyCashRounding() {
+        return cashRounding.apply(chfAmount);
+    }
+
+    @Benchmark
+    public MonetaryAmount lookupAndApplyDefaultRounding() {
+        return eurAmount.with(Monetary.getDefaultRounding());
+    }
+
+    @Benchmark
+    public MonetaryRounding lookupCashRounding() {
+        return Monetary.getRounding(cashRoundingQuery);
+    }
+}
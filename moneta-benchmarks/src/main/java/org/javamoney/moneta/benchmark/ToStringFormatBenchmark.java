@@ -0,0 +1,96 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@code toString()}, {@code print(Appendable)} and {@code parse(CharSequence)} of the amount
+ * types, which use the {@link org.javamoney.moneta.format.ToStringMonetaryAmountFormat} by default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToStringFormatBenchmark {
+
+    private FastMoney fastMoney;
+    private Money money;
+    private RoundedMoney roundedMoney;
+    private String text;
+    private final StringBuilder builder = new StringBuilder(64);
+
+    @Setup
+    public void setup() {
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        fastMoney = FastMoney.of(new BigDecimal("1234567.3444"), eur);
+        money = Money.of(new BigDecimal("1234567.3444"), eur);
+        roundedMoney = RoundedMoney.of(new BigDecimal("1234567.34"), eur);
+        text = money.toString();
+    }
+
+    @Benchmark
+    public String fastMoneyToString() {
+        return fastMoney.toString();
+    }
+
+    @Benchmark
+    public String moneyToString() {
+        return money.toString();
+    }
+
+    @Benchmark
+    public String roundedMoneyToString() {
+        return roundedMoney.toString();
+    }
+
+    @Benchmark
+    public StringBuilder fastMoneyPrint() throws IOException {
+        builder.setLength(0);
+        fastMoney.print(builder);
+        return builder;
+    }
+
+    @Benchmark
+    public Money parseMoney() {
+        return Money.parse(text);
+    }
+
+    @Benchmark
+    public FastMoney parseFastMoney() {
+        return FastMoney.parse(text);
+    }
+}
@@ -98,7 +98,7 @@ class ExchangeRateMonetarySummaryStatistics  extends DefaultMonetarySummaryStati
 		CurrencyConversion currencyConversion = provider.getCurrencyConversion(unit);
 		ExchangeRateMonetarySummaryStatistics another = new ExchangeRateMonetarySummaryStatistics(
 				unit, provider);
-		another.average = currencyConversion.apply(average);
+		another.average = currencyConversion.apply(getAverage());
 		another.count = count;
 		another.max = currencyConversion.apply(max);
 		another.min = currencyConversion.apply(min);
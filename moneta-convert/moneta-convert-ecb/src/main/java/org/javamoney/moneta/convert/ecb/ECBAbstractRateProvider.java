@@ -34,7 +34,6 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import java.io.InputStream;
 import java.math.MathContext;
-import java.net.URL;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
@@ -128,7 +127,7 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
             //Reader isr = new InputStreamReader(is);
             //InputSource src = new InputSource();
             //src.setCharacterStream(isr);
-            InputSource src = new InputSource(new URL(remoteResource).openStream());
+            InputSource src = new InputSource(is);
             parser.parse(src, new ECBRateReadingHandler(rates, getContext()));
 
             int newSize = this.rates.size();
@@ -0,0 +1,83 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.convert.ecb;
+
+import static org.javamoney.moneta.convert.ecb.defaults.Defaults.ECB_CURRENT_FALLBACK_PATH;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+
+import javax.money.Monetary;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContextBuilder;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.spi.loader.LoadDataInformation;
+import org.javamoney.moneta.spi.loader.LoadDataInformationBuilder;
+import org.javamoney.moneta.spi.loader.LoaderService;
+import org.testng.annotations.Test;
+
+public class ECBAbstractRateProviderTest {
+
+    /**
+     * Remote resource, which cannot be read, so rates are only available if the stream passed by the loader
+     * is parsed.
+     */
+    private static final String UNREACHABLE_URL = "http://localhost:1/eurofxref-daily.xml";
+
+    @Test
+    public void testLoadsFromBundledFallbackStream() throws Exception {
+        OfflineRateProvider provider = new OfflineRateProvider();
+        try (InputStream is = ECBAbstractRateProviderTest.class.getResourceAsStream(ECB_CURRENT_FALLBACK_PATH)) {
+            assertNotNull(is);
+            provider.newDataLoaded("ECBAbstractRateProviderTest", is);
+        }
+        assertTrue(provider.loadState.startsWith("Loaded"), provider.loadState);
+        assertTrue(!provider.rates.isEmpty());
+        ExchangeRate rate = provider.getExchangeRate(Monetary.getCurrency("EUR"), Monetary.getCurrency("USD"));
+        assertNotNull(rate);
+        assertEquals(rate.getCurrency(), Monetary.getCurrency("USD"));
+    }
+
+    private static final class OfflineRateProvider extends ECBAbstractRateProvider {
+
+        OfflineRateProvider() {
+            super(ProviderContextBuilder.of("ECB-OFFLINE", RateType.DEFERRED).set("days", 1).build(),
+                    UNREACHABLE_URL);
+        }
+
+        @Override
+        protected String getDataId() {
+            return "ECBAbstractRateProviderTest";
+        }
+
+        @Override
+        protected LoadDataInformation getDefaultLoadData() {
+            return new LoadDataInformationBuilder()
+                    .withResourceId(getDataId())
+                    .withUpdatePolicy(LoaderService.UpdatePolicy.NEVER)
+                    .withProperties(Collections.emptyMap())
+                    .withBackupResource(getResourceFromPath(ECB_CURRENT_FALLBACK_PATH, getClass()))
+                    .withResourceLocations(URI.create(UNREACHABLE_URL))
+                    .withStartRemote(false)
+                    .build();
+        }
+    }
+}
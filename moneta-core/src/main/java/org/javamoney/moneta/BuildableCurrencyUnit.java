@@ -16,6 +16,7 @@
 package org.javamoney.moneta;
 
 
+import org.javamoney.moneta.spi.CanonicalCurrencyUnits;
 import org.javamoney.moneta.spi.ConfigurableCurrencyUnitProvider;
 
 import javax.money.CurrencyContext;
@@ -131,6 +132,16 @@ final class BuildableCurrencyUnit implements CurrencyUnit,
 		return false;
 	}
 
+	/**
+	 * Resolves deserialized instances to the instance registered in the
+	 * {@link ConfigurableCurrencyUnitProvider}, if equivalent.
+	 *
+	 * @return the registered instance, or this instance.
+	 */
+	private Object readResolve() {
+		return CanonicalCurrencyUnits.canonicalize(this);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -20,14 +20,18 @@ import org.javamoney.moneta.format.ToStringMonetaryAmountFormat.ToStringMonetary
 import org.javamoney.moneta.format.MonetaryAmountDecimalFormat;
 import org.javamoney.moneta.spi.FastMoneyAmountFactory;
 import org.javamoney.moneta.spi.DefaultNumberValue;
-import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.MonetaryAmountCache;
+import org.javamoney.moneta.spi.MonetaryAmountCodec;
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
 import org.javamoney.moneta.spi.MoneyUtils;
 
 import javax.money.*;
 import javax.money.format.MonetaryAmountFormat;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -129,6 +133,18 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * Minimum possible numeric value supported.
      */
     private static final BigDecimal MIN_BD = MIN_VALUE.getBigDecimal();
+    /**
+     * Maximum integral part of a numeric parameter supported.
+     */
+    private static final long MAX_INTEGRAL = MAX_BD.longValue();
+    /**
+     * Shared instances of small values, such as zero.
+     */
+    private static final MonetaryAmountCache<FastMoney> CACHE = new MonetaryAmountCache<>(FastMoney::new);
+    /**
+     * Biggest internal number, that may be cached.
+     */
+    private static final long MAX_CACHED = Math.max(-1L, CACHE.getMaxValue() * 100_000L);
 
 
     /**
@@ -144,19 +160,6 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         this.number = getInternalNumber(number);
     }
 
-    /**
-     * Creates a new instance of {@link FastMoney}.
-     *
-     * @param currency    the currency, not null.
-     * @param numberValue the numeric value, not null.
-     */
-    private FastMoney(NumberValue numberValue, CurrencyUnit currency) {
-        Objects.requireNonNull(currency, "Currency is required.");
-        this.currency = currency;
-        Objects.requireNonNull(numberValue, "Number is required.");
-        this.number = getInternalNumber(numberValue.numberValue(BigDecimal.class));
-    }
-
     /**
      * Creates a new instance of {@link FastMoney}.
      *
@@ -193,7 +196,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return MONETARY_CONTEXT;
     }
 
-    private long getInternalNumber(Number number) {
+    private static long getInternalNumber(Number number) {
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         if (bd.scale() > SCALE) {
             throw new ArithmeticException(number + " can not be represented by this class, scale > " + SCALE);
@@ -215,7 +218,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @return A new instance of {@link FastMoney}.
      */
     public static FastMoney of(NumberValue numberBinding, CurrencyUnit currency) {
-        return new FastMoney(numberBinding, currency);
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(numberBinding, "Number is required.");
+        return ofUnscaled(getInternalNumber(numberBinding.numberValue(BigDecimal.class)), currency);
     }
 
     /**
@@ -226,7 +231,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @return A new instance of {@link FastMoney}.
      */
     public static FastMoney of(Number number, CurrencyUnit currency) {
-        return new FastMoney(number, currency);
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        return ofUnscaled(getInternalNumber(number), currency);
     }
 
     /**
@@ -241,6 +248,30 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return of(number, currency);
     }
 
+    /**
+     * Creates a new instance from an unscaled value, as returned by {@link #getUnscaledValue()}. Small values,
+     * such as zero, are served from {@link #CACHE}.
+     * @param unscaledValue the numeric value multiplied by {@code 10^}{@link #getScale()}.
+     * @param currency the currency, not null.
+     * @return the new instance.
+     * @since 1.5
+     */
+    public static FastMoney ofUnscaled(long unscaledValue, CurrencyUnit currency) {
+        if (unscaledValue >= 0L && unscaledValue <= MAX_CACHED) {
+            long value = unscaledValue;
+            int scale = SCALE;
+            while (scale > 0 && value % 10L == 0L) {
+                value /= 10L;
+                scale--;
+            }
+            FastMoney cached = CACHE.get(value, scale, currency);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return new FastMoney(unscaledValue, currency);
+    }
+
     /**
      * Obtains an instance of {@link FastMoney} representing zero.
      * @param currency the target currency
@@ -289,13 +320,62 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public int compareTo(MonetaryAmount o) {
         Objects.requireNonNull(o);
-        int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        int compare = MoneyUtils.compareCurrencies(this.currency, o.getCurrency());
         if (compare == 0) {
-            compare = getNumber().numberValue(BigDecimal.class).compareTo(o.getNumber().numberValue(BigDecimal.class));
+            compare = compareNumber(o);
         }
         return compare;
     }
 
+    /**
+     * Compares the numeric values, comparing the internal {@code long} values for {@link FastMoney} and
+     * the scaled {@code long} with the {@link BigDecimal} for {@link Money}, without any {@link NumberValue}
+     * conversions.
+     *
+     * @param amount the amount to compare with, not null.
+     * @return the result of comparing the numeric values.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof FastMoney) {
+            return Long.compare(this.number, ((FastMoney) amount).number);
+        }
+        if (amount instanceof Money) {
+            return compareUnscaled(this.number, ((Money) amount).getBigDecimal());
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    /**
+     * Compares a {@link FastMoney} numeric value, given as unscaled {@code long}, with a {@link BigDecimal}.
+     *
+     * @param unscaledValue the internal value of a {@link FastMoney}.
+     * @param decimal       the value to compare with, not null.
+     * @return the result of comparing {@code unscaledValue * 10^-SCALE} with {@code decimal}.
+     */
+    static int compareUnscaled(long unscaledValue, BigDecimal decimal) {
+        int signum = Long.signum(unscaledValue);
+        if (signum != decimal.signum()) {
+            return signum < decimal.signum() ? -1 : 1;
+        }
+        if (signum == 0) {
+            return 0;
+        }
+        return BigDecimal.valueOf(unscaledValue, SCALE).compareTo(decimal);
+    }
+
+    /**
+     * Checks the currency and compares the numeric values, skipping the scale and precision checks of
+     * {@link #checkAmountParameter(MonetaryAmount)} for {@link FastMoney} operands.
+     */
+    private int compareChecked(MonetaryAmount amount) {
+        if (amount instanceof FastMoney) {
+            MoneyUtils.checkAmountParameter(amount, this.currency);
+        } else {
+            checkAmountParameter(amount);
+        }
+        return compareNumber(amount);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(currency, number);
@@ -324,6 +404,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney add(MonetaryAmount amount) {
+        if (amount instanceof FastMoney) {
+            return add((FastMoney) amount);
+        }
         checkAmountParameter(amount);
         if (amount.isZero()) {
             return this;
@@ -331,6 +414,40 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return new FastMoney(Math.addExact(this.number, getInternalNumber(amount.getNumber())), getCurrency());
     }
 
+    /**
+     * Adds another {@link FastMoney} by operating directly on the internal {@code long} values, hereby avoiding
+     * any intermediate {@link BigDecimal} or {@link NumberValue} conversions.
+     *
+     * @param amount the amount to be added, not null and of the same currency.
+     * @return the sum of both amounts.
+     * @throws MonetaryException   if the currencies do not match.
+     * @throws ArithmeticException if the result exceeds the range of {@link FastMoney}.
+     */
+    private FastMoney add(FastMoney amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if (amount.number == 0L) {
+            return this;
+        }
+        return new FastMoney(Math.addExact(this.number, amount.number), this.currency);
+    }
+
+    /**
+     * Subtracts another {@link FastMoney} by operating directly on the internal {@code long} values, hereby avoiding
+     * any intermediate {@link BigDecimal} or {@link NumberValue} conversions.
+     *
+     * @param subtrahend the amount to be subtracted, not null and of the same currency.
+     * @return the difference of both amounts.
+     * @throws MonetaryException   if the currencies do not match.
+     * @throws ArithmeticException if the result exceeds the range of {@link FastMoney}.
+     */
+    private FastMoney subtract(FastMoney subtrahend) {
+        MoneyUtils.checkAmountParameter(subtrahend, this.currency);
+        if (subtrahend.number == 0L) {
+            return this;
+        }
+        return new FastMoney(Math.subtractExact(this.number, subtrahend.number), this.currency);
+    }
+
     private void checkAmountParameter(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
         // numeric check for overflow...
@@ -348,13 +465,33 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
             return new FastMoney(0L, getCurrency());
         }
-        checkNumber(divisor);
-        if (isOne(divisor)) {
-            return this;
+        if (isIntegral(divisor)) {
+            long div = divisor.longValue();
+            checkNumber(div);
+            return divide(div);
         }
-        BigDecimal div = MoneyUtils.getBigDecimal(divisor);
-        BigDecimal res = getBigDecimal().divide(div);
-        return new FastMoney(res, getCurrency());
+        if (isFloatingPoint(divisor)) {
+            return divide(divisor.doubleValue());
+        }
+        BigDecimal div = toBigDecimal(divisor);
+        checkNumber(div);
+        return divideDecimal(div);
+    }
+
+    /**
+     * Divides by a decimal divisor. If the divisor can be represented as scaled {@code long} the quotient is
+     * evaluated using {@link LongMath}, otherwise {@link BigDecimal} arithmetic is used. In both cases the
+     * result is rounded {@link RoundingMode#HALF_EVEN} to the scale of this class.
+     */
+    private FastMoney divideDecimal(BigDecimal divisor) {
+        if (isScaledLong(divisor)) {
+            if (divisor.scale() == 0) {
+                return divide(divisor.longValue());
+            }
+            return new FastMoney(LongMath.divide(this.number, divisor.unscaledValue().longValue(), divisor.scale()),
+                    this.currency);
+        }
+        return new FastMoney(getBigDecimal().divide(divisor, SCALE, RoundingMode.HALF_EVEN), this.currency);
     }
 
     @Override
@@ -385,19 +522,33 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public FastMoney multiply(Number multiplicand) {
         NumberVerifier.checkNoInfinityOrNaN(multiplicand);
-        checkNumber(multiplicand);
-        if (isOne(multiplicand)) {
-            return this;
+        if (isIntegral(multiplicand)) {
+            long factor = multiplicand.longValue();
+            checkNumber(factor);
+            return multiply(factor);
         }
-        long internalMultiplicand = getInternalNumber(multiplicand);
-        try {
-            return new FastMoney(Math.multiplyExact(this.number, internalMultiplicand) / 100000L,
-                    getCurrency());
-        } catch (ArithmeticException e) {
-            // since we scale by 100000 even allowed values may overflow so we try again
-            return new FastMoney(getBigDecimal().multiply(BigDecimal.valueOf(internalMultiplicand))
-                    .movePointLeft(SCALE), getCurrency());
+        if (isFloatingPoint(multiplicand)) {
+            return multiply(multiplicand.doubleValue());
         }
+        BigDecimal factor = toBigDecimal(multiplicand);
+        checkNumber(factor);
+        return multiplyDecimal(factor);
+    }
+
+    /**
+     * Multiplies with a decimal factor. If the factor can be represented as scaled {@code long} the product is
+     * evaluated using {@link LongMath}, otherwise {@link BigDecimal} arithmetic is used. In both cases the
+     * result is rounded {@link RoundingMode#HALF_EVEN} to the scale of this class.
+     */
+    private FastMoney multiplyDecimal(BigDecimal factor) {
+        if (isScaledLong(factor)) {
+            if (factor.scale() == 0) {
+                return multiply(factor.longValue());
+            }
+            return new FastMoney(LongMath.multiply(this.number, factor.unscaledValue().longValue(), factor.scale()),
+                    this.currency);
+        }
+        return new FastMoney(getBigDecimal().multiply(factor).setScale(SCALE, RoundingMode.HALF_EVEN), this.currency);
     }
 
     @Override
@@ -412,6 +563,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney subtract(MonetaryAmount subtrahend) {
+        if (subtrahend instanceof FastMoney) {
+            return subtract((FastMoney) subtrahend);
+        }
         checkAmountParameter(subtrahend);
         if (subtrahend.isZero()) {
             return this;
@@ -426,6 +580,41 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return new FastMoney(this.number % getInternalNumber(divisor), getCurrency());
     }
 
+    /**
+     * Checks if the given number is of a primitive integral type, which can be processed as {@code long}.
+     */
+    private static boolean isIntegral(Number number) {
+        Class<?> type = number.getClass();
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    /**
+     * Checks if the given number is of a primitive floating point type, which can be processed as {@code double}.
+     */
+    private static boolean isFloatingPoint(Number number) {
+        Class<?> type = number.getClass();
+        return type == Double.class || type == Float.class;
+    }
+
+    /**
+     * Converts a numeric parameter to {@link BigDecimal}. Plain {@link BigDecimal} instances, that do not exceed
+     * the scale of this class, are used as is, all other numbers are converted and stripped of trailing zeros.
+     */
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number.getClass() == BigDecimal.class && ((BigDecimal) number).scale() <= SCALE) {
+            return (BigDecimal) number;
+        }
+        return MoneyUtils.getBigDecimal(number);
+    }
+
+    /**
+     * Checks if the given {@link BigDecimal} can be represented by a {@code long} unscaled value and a
+     * non negative scale, as supported by {@link LongMath}.
+     */
+    private static boolean isScaledLong(BigDecimal number) {
+        return number.scale() >= 0 && number.scale() <= LongMath.MAX_SCALE && number.precision() <= LongMath.MAX_SCALE;
+    }
+
     private boolean isOne(Number number) {
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         try {
@@ -476,6 +665,16 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return SCALE;
     }
 
+    /**
+     * Returns the unscaled value of this <type>FastMoney</type>, which is its numeric value multiplied by
+     * {@code 10^}{@link #getScale()}. Unlike {@link #getNumber()} this does not allocate any objects.
+     * @return the unscaled value of this <type>FastMoney</type>.
+     * @since 1.5
+     */
+    public long getUnscaledValue() {
+        return this.number;
+    }
+
     /**
      * Returns the precision of this <type>RoundedMoney</type>. (The precision is the number of digits in the unscaled value.)
      * The precision of a zero value is 1.
@@ -500,8 +699,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isLessThan(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) < 0;
+        return compareChecked(amount) < 0;
     }
 
     public boolean isLessThan(Number number) {
@@ -511,8 +709,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) <= 0;
+        return compareChecked(amount) <= 0;
     }
 
     public boolean isLessThanOrEqualTo(Number number) {
@@ -523,8 +720,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isGreaterThan(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) > 0;
+        return compareChecked(amount) > 0;
     }
 
     public boolean isGreaterThan(Number number) {
@@ -534,8 +730,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) >= 0;
+        return compareChecked(amount) >= 0;
     }
 
     public boolean isGreaterThanOrEqualTo(Number number) {
@@ -545,8 +740,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isEqualTo(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) == 0;
+        return compareChecked(amount) == 0;
     }
 
     public boolean hasSameNumberAs(Number number) {
@@ -579,6 +773,18 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         }
     }
 
+    /**
+     * Appends the text returned by {@link #toString()} to the given {@link Appendable}. When using the default
+     * formatter and appending to a {@link StringBuilder}, no intermediate {@link String} is created.
+     *
+     * @param appendable the target, not null.
+     * @throws IOException if writing to the target fails.
+     * @since 1.5
+     */
+    public void print(Appendable appendable) throws IOException {
+        defaultFormat().print(appendable, this);
+    }
+
     // Internal helper methods
 
     /**
@@ -591,25 +797,45 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     protected void checkNumber(Number number) {
         Objects.requireNonNull(number, "Number is required.");
         // numeric check for overflow...
-        if (number.longValue() > MAX_BD.longValue()) {
+        if (number.longValue() > MAX_INTEGRAL) {
+            throw new ArithmeticException("Value exceeds maximal value: " + MAX_BD);
+        }
+        checkNumber(MoneyUtils.getBigDecimal(number));
+    }
+
+    /**
+     * Internal method to check for correct integral number parameter.
+     *
+     * @param number the number to be checked.
+     * @throws java.lang.ArithmeticException If the number exceeds the capabilities of this class.
+     */
+    private static void checkNumber(long number) {
+        if (number > MAX_INTEGRAL) {
+            throw new ArithmeticException("Value exceeds maximal value: " + MAX_BD);
+        }
+    }
+
+    /**
+     * Internal method to check for correct number parameter.
+     *
+     * @param bd the number to be checked.
+     * @throws java.lang.ArithmeticException If the number exceeds the capabilities of this class.
+     */
+    private static void checkNumber(BigDecimal bd) {
+        if (bd.longValue() > MAX_INTEGRAL) {
             throw new ArithmeticException("Value exceeds maximal value: " + MAX_BD);
         }
-        BigDecimal bd = MoneyUtils.getBigDecimal(number);
         if (bd.precision() > MAX_BD.precision()) {
             throw new ArithmeticException("Precision exceeds maximal precision: " + MAX_BD.precision());
         }
         if (bd.scale() > SCALE) {
-            String val = MonetaryConfig.getConfig()
-                    .get("org.javamoney.moneta.FastMoney.enforceScaleCompatibility");
-            if(val==null){
-                val = "false";
-            }
-            if (Boolean.parseBoolean(val)) {
+            if (MonetaryConfigSnapshot.current()
+                    .getBoolean("org.javamoney.moneta.FastMoney.enforceScaleCompatibility", false)) {
                 throw new ArithmeticException("Scale of " + bd + " exceeds maximal scale: " + SCALE);
             } else {
                 if (LOG.isLoggable(Level.FINEST)) {
                     LOG.finest("Scale exceeds maximal scale of FastMoney (" + SCALE +
-                            "), implicit rounding will be applied to " + number);
+                            "), implicit rounding will be applied to " + bd);
                 }
             }
         }
@@ -643,7 +869,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (FastMoney.class.isInstance(amount)) {
             return FastMoney.class.cast(amount);
         }
-        return new FastMoney(amount.getNumber(), amount.getCurrency());
+        return of(amount.getNumber(), amount.getCurrency());
     }
 
     /**
@@ -670,9 +896,8 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     }
 
     private static MonetaryAmountFormat defaultFormat() {
-        final String useJDK = MonetaryConfig.getConfig().getOrDefault("org.javamoney.moneta.useJDKdefaultFormat", "false");
         try {
-            if(Boolean.parseBoolean(useJDK)){
+            if (MonetaryConfigSnapshot.current().getBoolean("org.javamoney.moneta.useJDKdefaultFormat", false)) {
                 LOG.finest("Using JDK formatter for print/parse.");
                 return MonetaryAmountDecimalFormat.of();
             } else {
@@ -700,7 +925,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (multiplicand == 0.0) {
             return new FastMoney(0, this.currency);
         }
-        return new FastMoney(Math.round(this.number * multiplicand), this.currency);
+        return multiplyDecimal(MoneyUtils.getBigDecimal(multiplicand));
     }
 
     @Override
@@ -708,7 +933,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (divisor == 1L) {
             return this;
         }
-        return new FastMoney(this.number / divisor, this.currency);
+        return new FastMoney(LongMath.divide(this.number, divisor, 0), this.currency);
     }
 
     @Override
@@ -722,7 +947,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (divisor == 1.0d) {
             return this;
         }
-        return new FastMoney(Math.round(this.number / divisor), getCurrency());
+        return divideDecimal(MoneyUtils.getBigDecimal(divisor));
     }
 
     @Override
@@ -793,4 +1018,13 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     public MonetaryAmountFactory<FastMoney> getFactory() {
         return new FastMoneyAmountFactory().setAmount(this);
     }
+
+    /**
+     * Replaces this instance by its compact serialized form, see {@link MonetaryAmountCodec}.
+     *
+     * @return the object to be serialized.
+     */
+    private Object writeReplace() {
+        return MonetaryAmountCodec.toSerializedForm(this);
+    }
 }
@@ -0,0 +1,456 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable, columnar representation of a sequence of {@link FastMoney} amounts in one currency. The amounts
+ * are stored as unscaled {@code long} values (see {@link FastMoney#getUnscaledValue()}) in a single array, so
+ * an element takes 8 bytes instead of a {@link FastMoney} instance each.
+ * <p>
+ * The bulk operations are implemented as simple counted loops over the arrays, which allows the JIT to unroll
+ * and vectorize them. As with {@link FastMoney} an {@link ArithmeticException} is thrown, if a result exceeds
+ * the numeric capabilities, multiplications are rounded {@link RoundingMode#HALF_EVEN}.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class FastMoneyVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SCALE = 5;
+
+    /**
+     * The currency of all elements.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The unscaled values, never shared with other instances or clients.
+     */
+    private final long[] values;
+
+    private FastMoneyVector(CurrencyUnit currency, long[] values) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+        this.values = values;
+    }
+
+    /**
+     * Creates a vector of the given length, with all elements zero.
+     *
+     * @param currency the currency, not null.
+     * @param length   the number of elements.
+     * @return the new vector.
+     */
+    public static FastMoneyVector zero(CurrencyUnit currency, int length) {
+        return new FastMoneyVector(currency, new long[length]);
+    }
+
+    /**
+     * Creates a vector from unscaled values, as returned by {@link FastMoney#getUnscaledValue()}.
+     *
+     * @param currency       the currency, not null.
+     * @param unscaledValues the unscaled values, not null. The array is copied.
+     * @return the new vector.
+     */
+    public static FastMoneyVector ofUnscaled(CurrencyUnit currency, long... unscaledValues) {
+        return new FastMoneyVector(currency, unscaledValues.clone());
+    }
+
+    /**
+     * Creates a vector from the given amounts.
+     *
+     * @param currency the currency, not null.
+     * @param amounts  the amounts, not null.
+     * @return the new vector.
+     * @throws MonetaryException if an amount has another currency.
+     * @throws ArithmeticException if an amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public static FastMoneyVector of(CurrencyUnit currency, Collection<? extends MonetaryAmount> amounts) {
+        long[] values = new long[amounts.size()];
+        int i = 0;
+        for (MonetaryAmount amount : amounts) {
+            MoneyUtils.checkAmountParameter(amount, currency);
+            values[i++] = FastMoney.from(amount).getUnscaledValue();
+        }
+        return new FastMoneyVector(currency, values);
+    }
+
+    /**
+     * Creates a vector from the given amounts.
+     *
+     * @param currency the currency, not null.
+     * @param amounts  the amounts, not null.
+     * @return the new vector.
+     * @throws MonetaryException if an amount has another currency.
+     * @throws ArithmeticException if an amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public static FastMoneyVector of(CurrencyUnit currency, MonetaryAmount... amounts) {
+        return of(currency, Arrays.asList(amounts));
+    }
+
+    /**
+     * Access the currency of all elements.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Access the number of elements.
+     *
+     * @return the number of elements.
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Access an element.
+     *
+     * @param index the index.
+     * @return the element as {@link FastMoney}.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public FastMoney get(int index) {
+        return FastMoney.ofUnscaled(values[index], currency);
+    }
+
+    /**
+     * Access the unscaled value of an element, without creating a {@link FastMoney} instance.
+     *
+     * @param index the index.
+     * @return the unscaled value.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public long getUnscaledValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the unscaled values.
+     *
+     * @return the unscaled values, never null.
+     */
+    public long[] toUnscaledArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns an unmodifiable list view of this vector, the {@link FastMoney} elements are created on access.
+     *
+     * @return the list, never null.
+     */
+    public List<FastMoney> asList() {
+        return new AbstractList<FastMoney>() {
+            @Override
+            public FastMoney get(int index) {
+                return FastMoneyVector.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Adds the elements of the given vector element-wise.
+     *
+     * @param other the other vector, with the same currency and length, not null.
+     * @return a new vector containing the sums.
+     * @throws MonetaryException if the currencies differ.
+     * @throws IllegalArgumentException if the lengths differ.
+     * @throws ArithmeticException if a sum exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector add(FastMoneyVector other) {
+        checkOperand(other);
+        long[] a = this.values;
+        long[] b = other.values;
+        long[] result = new long[a.length];
+        long overflow = 0L;
+        for (int i = 0; i < a.length; i++) {
+            long sum = a[i] + b[i];
+            overflow |= (a[i] ^ sum) & (b[i] ^ sum);
+            result[i] = sum;
+        }
+        checkOverflow(overflow);
+        return new FastMoneyVector(currency, result);
+    }
+
+    /**
+     * Subtracts the elements of the given vector element-wise.
+     *
+     * @param other the other vector, with the same currency and length, not null.
+     * @return a new vector containing the differences.
+     * @throws MonetaryException if the currencies differ.
+     * @throws IllegalArgumentException if the lengths differ.
+     * @throws ArithmeticException if a difference exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector subtract(FastMoneyVector other) {
+        checkOperand(other);
+        long[] a = this.values;
+        long[] b = other.values;
+        long[] result = new long[a.length];
+        long overflow = 0L;
+        for (int i = 0; i < a.length; i++) {
+            long difference = a[i] - b[i];
+            overflow |= (a[i] ^ b[i]) & (a[i] ^ difference);
+            result[i] = difference;
+        }
+        checkOverflow(overflow);
+        return new FastMoneyVector(currency, result);
+    }
+
+    /**
+     * Multiplies all elements with the given factor.
+     *
+     * @param factor the factor.
+     * @return a new vector containing the products.
+     * @throws ArithmeticException if a product exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector multiply(long factor) {
+        long[] a = this.values;
+        long[] result = new long[a.length];
+        long overflow = 0L;
+        for (int i = 0; i < a.length; i++) {
+            long product = a[i] * factor;
+            // the product fits, if the high 64 bits of the exact product are the sign extension of the low ones
+            overflow |= Math.multiplyHigh(a[i], factor) ^ (product >> 63);
+            result[i] = product;
+        }
+        checkOverflow(overflow | -overflow);
+        return new FastMoneyVector(currency, result);
+    }
+
+    /**
+     * Multiplies all elements with the given factor, e.g. an exchange rate. The products are rounded
+     * {@link RoundingMode#HALF_EVEN} to the scale of {@link FastMoney}.
+     *
+     * @param factor the factor, not null.
+     * @return a new vector containing the products.
+     * @throws ArithmeticException if the factor is NaN or infinite, or if a product exceeds the capabilities
+     *                             of {@link FastMoney}.
+     */
+    public FastMoneyVector multiply(Number factor) {
+        BigDecimal decimal = MoneyUtils.getBigDecimal(Objects.requireNonNull(factor, "Factor is required."));
+        if (decimal.scale() < 0) {
+            decimal = decimal.setScale(0);
+        }
+        long[] a = this.values;
+        long[] result = new long[a.length];
+        if (decimal.scale() <= LongMath.MAX_SCALE && decimal.precision() <= LongMath.MAX_SCALE) {
+            long unscaled = decimal.unscaledValue().longValue();
+            int scale = decimal.scale();
+            for (int i = 0; i < a.length; i++) {
+                result[i] = LongMath.multiply(a[i], unscaled, scale);
+            }
+        } else {
+            for (int i = 0; i < a.length; i++) {
+                result[i] = BigDecimal.valueOf(a[i]).multiply(decimal).setScale(0, RoundingMode.HALF_EVEN)
+                        .longValueExact();
+            }
+        }
+        return new FastMoneyVector(currency, result);
+    }
+
+    /**
+     * Negates all elements.
+     *
+     * @return a new vector containing the negated elements.
+     * @throws ArithmeticException if an element is {@link FastMoney#MIN_VALUE}.
+     */
+    public FastMoneyVector negate() {
+        return multiply(-1L);
+    }
+
+    /**
+     * Evaluates the sum of all elements.
+     *
+     * @return the sum, zero for an empty vector.
+     * @throws ArithmeticException if the sum exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoney sum() {
+        long[] a = this.values;
+        long sum = 0L;
+        long overflow = 0L;
+        for (int i = 0; i < a.length; i++) {
+            long next = sum + a[i];
+            overflow |= (sum ^ next) & (a[i] ^ next);
+            sum = next;
+        }
+        checkOverflow(overflow);
+        return FastMoney.ofUnscaled(sum, currency);
+    }
+
+    /**
+     * Evaluates the smallest element.
+     *
+     * @return the smallest element.
+     * @throws NoSuchElementException if the vector is empty.
+     */
+    public FastMoney min() {
+        long[] a = this.values;
+        if (a.length == 0) {
+            throw new NoSuchElementException("Vector is empty.");
+        }
+        long min = a[0];
+        for (int i = 1; i < a.length; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return FastMoney.ofUnscaled(min, currency);
+    }
+
+    /**
+     * Evaluates the greatest element.
+     *
+     * @return the greatest element.
+     * @throws NoSuchElementException if the vector is empty.
+     */
+    public FastMoney max() {
+        long[] a = this.values;
+        if (a.length == 0) {
+            throw new NoSuchElementException("Vector is empty.");
+        }
+        long max = a[0];
+        for (int i = 1; i < a.length; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return FastMoney.ofUnscaled(max, currency);
+    }
+
+    /**
+     * Compares the elements with the elements of the given vector element-wise.
+     *
+     * @param other the other vector, with the same currency and length, not null.
+     * @return an array containing -1, 0 or 1 for each element, if the element of this vector is less than,
+     * equal to, or greater than the element of the other vector.
+     * @throws MonetaryException if the currencies differ.
+     * @throws IllegalArgumentException if the lengths differ.
+     */
+    public int[] compareTo(FastMoneyVector other) {
+        checkOperand(other);
+        long[] a = this.values;
+        long[] b = other.values;
+        int[] result = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = Long.compare(a[i], b[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Compares all elements with the given amount.
+     *
+     * @param amount the amount to compare with, not null.
+     * @return an array containing -1, 0 or 1 for each element, if the element is less than, equal to, or
+     * greater than the given amount.
+     * @throws MonetaryException if the currency differs.
+     * @throws ArithmeticException if the amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public int[] compareTo(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        long b = FastMoney.from(amount).getUnscaledValue();
+        long[] a = this.values;
+        int[] result = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = Long.compare(a[i], b);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the elements, that are greater than the given amount.
+     *
+     * @param amount the amount to compare with, not null.
+     * @return the number of elements greater than {@code amount}.
+     * @throws MonetaryException if the currency differs.
+     * @throws ArithmeticException if the amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public int countGreaterThan(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        long b = FastMoney.from(amount).getUnscaledValue();
+        long[] a = this.values;
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += a[i] > b ? 1 : 0;
+        }
+        return count;
+    }
+
+    private void checkOperand(FastMoneyVector other) {
+        Objects.requireNonNull(other, "Vector is required.");
+        if (!currency.getCurrencyCode().equals(other.currency.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other.currency);
+        }
+        if (values.length != other.values.length) {
+            throw new IllegalArgumentException("Length mismatch: " + values.length + '/' + other.values.length);
+        }
+    }
+
+    private static void checkOverflow(long overflow) {
+        if (overflow < 0L) {
+            throw new ArithmeticException("Overflow: result exceeds the range of long.");
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof FastMoneyVector) {
+            FastMoneyVector other = (FastMoneyVector) obj;
+            return currency.equals(other.currency) && Arrays.equals(values, other.values);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, Arrays.hashCode(values));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(currency.getCurrencyCode()).append(" [");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(BigDecimal.valueOf(values[i], SCALE).toPlainString());
+        }
+        return builder.append(']').toString();
+    }
+}
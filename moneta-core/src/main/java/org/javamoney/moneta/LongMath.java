@@ -0,0 +1,174 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+/**
+ * Internal helper class for arithmetic on scaled {@code long} values. Multiplications and divisions are
+ * evaluated using an exact 128 bit intermediate result, which is then rounded
+ * {@link java.math.RoundingMode#HALF_EVEN} back to a {@code long}. If the rounded result does not fit into a
+ * {@code long} an {@link ArithmeticException} is thrown.
+ *
+ * @since 1.5
+ */
+final class LongMath {
+
+    /**
+     * The maximal scale supported, {@code 10^18} is the biggest power of ten that fits into a {@code long}.
+     */
+    static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+            100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private LongMath() {
+    }
+
+    /**
+     * Access the given power of ten.
+     *
+     * @param exponent the exponent, 0...{@link #MAX_SCALE}.
+     * @return {@code 10^exponent}.
+     */
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * Calculates {@code value * factor / 10^scale}, rounded {@link java.math.RoundingMode#HALF_EVEN}.
+     *
+     * @param value  the value.
+     * @param factor the unscaled factor.
+     * @param scale  the scale of the factor, 0...{@link #MAX_SCALE}.
+     * @return the rounded result.
+     * @throws ArithmeticException if the result does not fit into a {@code long}.
+     */
+    static long multiply(long value, long factor, int scale) {
+        if (value == 0L || factor == 0L) {
+            return 0L;
+        }
+        long a = Math.abs(value);
+        long b = Math.abs(factor);
+        return round(unsignedMultiplyHigh(a, b), a * b, POWERS_OF_TEN[scale], (value ^ factor) < 0);
+    }
+
+    /**
+     * Calculates {@code value * 10^scale / divisor}, rounded {@link java.math.RoundingMode#HALF_EVEN}. This
+     * is the quotient of {@code value} and a divisor given as unscaled value and scale.
+     *
+     * @param value   the value.
+     * @param divisor the unscaled divisor.
+     * @param scale   the scale of the divisor, 0...{@link #MAX_SCALE}.
+     * @return the rounded result.
+     * @throws ArithmeticException if the divisor is zero or the result does not fit into a {@code long}.
+     */
+    static long divide(long value, long divisor, int scale) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (value == 0L) {
+            return 0L;
+        }
+        long a = Math.abs(value);
+        long p = POWERS_OF_TEN[scale];
+        return round(unsignedMultiplyHigh(a, p), a * p, Math.abs(divisor), (value ^ divisor) < 0);
+    }
+
+    /**
+     * Divides the unsigned 128 bit value {@code hi:lo} by the unsigned divisor, rounds the quotient
+     * {@link java.math.RoundingMode#HALF_EVEN} and applies the sign.
+     */
+    private static long round(long hi, long lo, long divisor, boolean negative) {
+        if (Long.compareUnsigned(hi, divisor) >= 0) {
+            throw new ArithmeticException("Overflow: result exceeds the range of long.");
+        }
+        long quotient;
+        long remainder;
+        if (hi == 0L) {
+            quotient = Long.divideUnsigned(lo, divisor);
+            remainder = Long.remainderUnsigned(lo, divisor);
+        } else {
+            quotient = divideUnsigned(hi, lo, divisor);
+            remainder = lo - quotient * divisor;
+        }
+        int half = Long.compareUnsigned(remainder, divisor - remainder);
+        if (half > 0 || (half == 0 && (quotient & 1L) != 0L)) {
+            quotient++;
+            if (quotient == 0L) {
+                throw new ArithmeticException("Overflow: result exceeds the range of long.");
+            }
+        }
+        if (negative) {
+            if (Long.compareUnsigned(quotient, Long.MIN_VALUE) > 0) {
+                throw new ArithmeticException("Overflow: result exceeds the range of long.");
+            }
+            return -quotient;
+        }
+        if (quotient < 0L) {
+            throw new ArithmeticException("Overflow: result exceeds the range of long.");
+        }
+        return quotient;
+    }
+
+    /**
+     * Returns the upper 64 bits of the unsigned 128 bit product of two unsigned {@code long} values.
+     */
+    static long unsignedMultiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * Divides the unsigned 128 bit value {@code hi:lo} by an unsigned divisor, requiring {@code hi < divisor}
+     * (Knuth, algorithm D, as given by Hacker's Delight, {@code divlu}).
+     */
+    static long divideUnsigned(long hi, long lo, long divisor) {
+        final long base = 1L << 32;
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long vn1 = v >>> 32;
+        long vn0 = v & 0xFFFFFFFFL;
+        long un32 = shift == 0 ? hi : (hi << shift) | (lo >>> (64 - shift));
+        long un10 = lo << shift;
+        long un1 = un10 >>> 32;
+        long un0 = un10 & 0xFFFFFFFFL;
+
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (Long.compareUnsigned(q1, base) >= 0
+                || Long.compareUnsigned(q1 * vn0, rhat * base + un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+        long un21 = un32 * base + un1 - q1 * v;
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (Long.compareUnsigned(q0, base) >= 0
+                || Long.compareUnsigned(q0 * vn0, rhat * base + un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+        return q1 * base + q0;
+    }
+}
@@ -0,0 +1,911 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.format.MonetaryAmountDecimalFormat;
+import org.javamoney.moneta.format.ToStringMonetaryAmountFormat;
+import org.javamoney.moneta.format.ToStringMonetaryAmountFormat.ToStringMonetaryAmountFormatStyle;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.MicroMoneyAmountFactory;
+import org.javamoney.moneta.spi.MonetaryAmountCodec;
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.*;
+import javax.money.format.MonetaryAmountFormat;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <code>long</code> based implementation of {@link MonetaryAmount} with a fixed scale between {@code 0} and
+ * {@value #MAX_SCALE}. Like {@link FastMoney} this class stores its numeric value as single {@code long}, but
+ * instead of always using a scale of 5, the scale is chosen per instance:
+ * <pre><code>
+ * MicroMoney yen = MicroMoney.of(1234, "JPY");           // scale 0, the fraction digits of JPY
+ * MicroMoney btc = MicroMoney.of(0.00012345, "BTC", 8);  // scale 8
+ * </code></pre>
+ * If no scale is passed, the scale of the currency is used, see {@link #getDefaultScale(CurrencyUnit)}. The
+ * scale is also available as {@link MonetaryContext#getMaxScale()} of the {@link #getContext() context}, so
+ * amounts created from the {@link #getFactory() factory} of an amount keep its scale.
+ * <p>
+ * All operations are evaluated on the {@code long} values. Results keep the scale of the amount the
+ * operation is called on, multiplications and divisions are rounded {@link RoundingMode#HALF_EVEN}. Results
+ * exceeding the range of {@code long} and amount parameters, that cannot be represented exactly in the scale
+ * of this amount, cause an {@link ArithmeticException}.
+ * </p>
+ *
+ * @see FastMoney
+ * @since 1.5
+ */
+public final class MicroMoney implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximal scale supported.
+     */
+    public static final int MAX_SCALE = LongMath.MAX_SCALE;
+
+    /**
+     * The prefix of the properties configuring the scale of a currency, e.g.
+     * {@code org.javamoney.moneta.MicroMoney.scale.BTC=8}.
+     */
+    public static final String SCALE_PROPERTY_PREFIX = "org.javamoney.moneta.MicroMoney.scale.";
+
+    /**
+     * The scale used for currencies without default fraction digits, matching the scale of {@link FastMoney}.
+     */
+    private static final int DEFAULT_SCALE = 5;
+
+    /**
+     * The maximal number of currencies, whose scale is cached.
+     */
+    private static final int MAX_CACHED_SCALES = 1024;
+
+    /**
+     * The logger used.
+     */
+    private static final Logger LOG = Logger.getLogger(MicroMoney.class.getName());
+
+    /**
+     * The {@link MonetaryContext} instances, indexed by scale.
+     */
+    private static final MonetaryContext[] CONTEXTS = new MonetaryContext[MAX_SCALE + 1];
+
+    static {
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            CONTEXTS[scale] = MonetaryContextBuilder.of(MicroMoney.class).setPrecision(19).setMaxScale(scale)
+                    .setFixedScale(true).set(RoundingMode.HALF_EVEN).build();
+        }
+    }
+
+    /**
+     * The scales of the currencies, evaluated once per configuration snapshot.
+     */
+    private static volatile CurrencyScales currencyScales;
+
+    /**
+     * The currency of this amount.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The numeric part of this amount, multiplied by {@code 10^scale}.
+     */
+    private final long number;
+
+    /**
+     * The scale of this amount.
+     */
+    private final int scale;
+
+    private MicroMoney(long number, int scale, CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+        this.number = number;
+        this.scale = scale;
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link MicroMoney}, using the scale of the currency.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @return A new instance of {@link MicroMoney}.
+     * @throws ArithmeticException if the number cannot be represented with the scale of the currency.
+     * @see #getDefaultScale(CurrencyUnit)
+     */
+    public static MicroMoney of(Number number, CurrencyUnit currency) {
+        return of(number, currency, getDefaultScale(currency));
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link MicroMoney}.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @param scale    The scale, 0...{@value #MAX_SCALE}.
+     * @return A new instance of {@link MicroMoney}.
+     * @throws IllegalArgumentException if the scale is not supported.
+     * @throws ArithmeticException      if the number cannot be represented with the given scale.
+     */
+    public static MicroMoney of(Number number, CurrencyUnit currency, int scale) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        checkScale(scale);
+        NumberVerifier.checkNoInfinityOrNaN(number);
+        return new MicroMoney(getInternalNumber(number, scale), scale, currency);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link MicroMoney}, using the scale of the currency.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @return A new instance of {@link MicroMoney}.
+     */
+    public static MicroMoney of(Number number, String currencyCode) {
+        return of(number, Monetary.getCurrency(currencyCode));
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link MicroMoney}.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @param scale        The scale, 0...{@value #MAX_SCALE}.
+     * @return A new instance of {@link MicroMoney}.
+     */
+    public static MicroMoney of(Number number, String currencyCode, int scale) {
+        return of(number, Monetary.getCurrency(currencyCode), scale);
+    }
+
+    /**
+     * Creates a new instance from an unscaled value, e.g. {@code ofUnscaled(1234, 2, EUR)} creates the
+     * instance {@code EUR 12.34}.
+     *
+     * @param unscaledValue the numeric value multiplied by {@code 10^scale}.
+     * @param scale         The scale, 0...{@value #MAX_SCALE}.
+     * @param currency      the currency, not null.
+     * @return the new instance.
+     * @throws IllegalArgumentException if the scale is not supported.
+     */
+    public static MicroMoney ofUnscaled(long unscaledValue, int scale, CurrencyUnit currency) {
+        checkScale(scale);
+        return new MicroMoney(unscaledValue, scale, currency);
+    }
+
+    /**
+     * Obtains an instance of {@code MicroMoney} from an amount in minor units, using the default fraction
+     * digits of the currency as scale. For example, {@code ofMinor(USD, 1234)} creates the instance
+     * {@code USD 12.34}.
+     *
+     * @param currency    the currency, not null
+     * @param amountMinor the amount of money in the minor division of the currency
+     * @return the monetary amount from minor units
+     * @throws IllegalArgumentException when {@link CurrencyUnit#getDefaultFractionDigits()} is not a supported
+     *                                  scale.
+     */
+    public static MicroMoney ofMinor(CurrencyUnit currency, long amountMinor) {
+        return ofUnscaled(amountMinor, currency.getDefaultFractionDigits(), currency);
+    }
+
+    /**
+     * Obtains an instance of {@link MicroMoney} representing zero, using the scale of the currency.
+     *
+     * @param currency the target currency
+     * @return an instance of {@link MicroMoney} representing zero.
+     */
+    public static MicroMoney zero(CurrencyUnit currency) {
+        return ofUnscaled(0L, getDefaultScale(currency), currency);
+    }
+
+    /**
+     * Access the scale used for amounts of the given currency, if no scale is passed explicitly. The scale can be
+     * configured by the property {@value #SCALE_PROPERTY_PREFIX}{@code <currencyCode>}, it defaults to the
+     * {@link CurrencyUnit#getDefaultFractionDigits() default fraction digits} of the currency, or {@code 5}, if
+     * the currency has no default fraction digits.
+     *
+     * @param currency the currency, not null.
+     * @return the scale, 0...{@value #MAX_SCALE}.
+     */
+    public static int getDefaultScale(CurrencyUnit currency) {
+        MonetaryConfigSnapshot snapshot = MonetaryConfigSnapshot.current();
+        CurrencyScales scales = currencyScales;
+        if (scales == null || scales.version != snapshot.getVersion()) {
+            scales = new CurrencyScales(snapshot.getVersion());
+            currencyScales = scales;
+        }
+        String code = currency.getCurrencyCode();
+        Integer scale = scales.scales.get(code);
+        if (scale == null) {
+            scale = loadDefaultScale(snapshot, currency);
+            if (scales.scales.size() < MAX_CACHED_SCALES) {
+                scales.scales.put(code, scale);
+            }
+        }
+        return scale;
+    }
+
+    private static int loadDefaultScale(MonetaryConfigSnapshot snapshot, CurrencyUnit currency) {
+        String configured = snapshot.getString(SCALE_PROPERTY_PREFIX + currency.getCurrencyCode(), null);
+        if (configured != null) {
+            try {
+                int scale = Integer.parseInt(configured.trim());
+                checkScale(scale);
+                return scale;
+            } catch (IllegalArgumentException e) {
+                LOG.log(Level.WARNING, "Invalid scale configured for " + currency.getCurrencyCode() + ": "
+                        + configured + ", using default.", e);
+            }
+        }
+        int digits = currency.getDefaultFractionDigits();
+        if (digits < 0) {
+            return DEFAULT_SCALE;
+        }
+        return Math.min(digits, MAX_SCALE);
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be in the range 0..." + MAX_SCALE + ": " + scale);
+        }
+    }
+
+    /**
+     * Converts a number to a {@code long} value scaled by {@code 10^scale}.
+     *
+     * @throws ArithmeticException if the number has more fraction digits than the scale, or the result exceeds
+     *                             the range of {@code long}.
+     */
+    private static long getInternalNumber(Number number, int scale) {
+        Class<?> type = number.getClass();
+        if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+            return Math.multiplyExact(number.longValue(), LongMath.powerOfTen(scale));
+        }
+        return getInternalNumber(MoneyUtils.getBigDecimal(number), scale);
+    }
+
+    private static long getInternalNumber(BigDecimal number, int scale) {
+        if (number.scale() > scale) {
+            BigDecimal stripped = number.stripTrailingZeros();
+            if (stripped.scale() > scale) {
+                throw new ArithmeticException(number + " can not be represented by this class, scale > " + scale);
+            }
+            number = stripped;
+        }
+        try {
+            return number.movePointRight(scale).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Overflow: " + number + " exceeds the range of scale " + scale);
+        }
+    }
+
+    /**
+     * Converts an unscaled value from one scale to another.
+     *
+     * @throws ArithmeticException if the value cannot be represented exactly in the target scale.
+     */
+    private static long rescale(long unscaledValue, int fromScale, int toScale) {
+        if (fromScale == toScale) {
+            return unscaledValue;
+        }
+        if (fromScale < toScale) {
+            return Math.multiplyExact(unscaledValue, LongMath.powerOfTen(toScale - fromScale));
+        }
+        long divisor = LongMath.powerOfTen(fromScale - toScale);
+        if (unscaledValue % divisor != 0L) {
+            throw new ArithmeticException(BigDecimal.valueOf(unscaledValue, fromScale)
+                    + " can not be represented by this class, scale > " + toScale);
+        }
+        return unscaledValue / divisor;
+    }
+
+    /**
+     * Converts the number of an amount to the scale of this instance, operating directly on the
+     * {@code long} values for {@link MicroMoney} and {@link FastMoney}.
+     */
+    private long getInternalNumber(MonetaryAmount amount) {
+        if (amount instanceof MicroMoney) {
+            MicroMoney other = (MicroMoney) amount;
+            return rescale(other.number, other.scale, this.scale);
+        }
+        if (amount instanceof FastMoney) {
+            FastMoney other = (FastMoney) amount;
+            return rescale(other.getUnscaledValue(), other.getScale(), this.scale);
+        }
+        return getInternalNumber(amount.getNumber().numberValue(BigDecimal.class), this.scale);
+    }
+
+    private MicroMoney withNumber(long value) {
+        if (value == this.number) {
+            return this;
+        }
+        return new MicroMoney(value, this.scale, this.currency);
+    }
+
+    private MicroMoney withNumber(BigDecimal value) {
+        return withNumber(getInternalNumber(value, this.scale));
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Access the {@link MonetaryContext} used by this instance, its {@link MonetaryContext#getMaxScale()}
+     * is the scale of this amount.
+     *
+     * @return the {@link MonetaryContext} used, never null.
+     */
+    @Override
+    public MonetaryContext getContext() {
+        return CONTEXTS[scale];
+    }
+
+    /**
+     * Returns the scale of this amount.
+     *
+     * @return the scale, 0...{@value #MAX_SCALE}.
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns the unscaled value of this amount, which is its numeric value multiplied by
+     * {@code 10^}{@link #getScale()}.
+     *
+     * @return the unscaled value.
+     */
+    public long getUnscaledValue() {
+        return number;
+    }
+
+    /**
+     * Returns the precision of this amount, being the number of digits in the unscaled value. The precision
+     * of a zero value is 1.
+     *
+     * @return the precision.
+     * @see BigDecimal#precision()
+     */
+    public int getPrecision() {
+        return getBigDecimal().precision();
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return new DefaultNumberValue(getBigDecimal());
+    }
+
+    private BigDecimal getBigDecimal() {
+        return BigDecimal.valueOf(this.number, this.scale);
+    }
+
+    /**
+     * Returns an amount with the same value and currency, but the given scale.
+     *
+     * @param scale the new scale, 0...{@value #MAX_SCALE}.
+     * @return the amount with the given scale.
+     * @throws ArithmeticException if the value cannot be represented exactly in the given scale.
+     */
+    public MicroMoney withScale(int scale) {
+        checkScale(scale);
+        if (scale == this.scale) {
+            return this;
+        }
+        return new MicroMoney(rescale(this.number, this.scale, scale), scale, this.currency);
+    }
+
+    @Override
+    public int compareTo(MonetaryAmount o) {
+        Objects.requireNonNull(o);
+        int compare = MoneyUtils.compareCurrencies(this.currency, o.getCurrency());
+        if (compare == 0) {
+            compare = compareNumber(o);
+        }
+        return compare;
+    }
+
+    /**
+     * Compares the numeric values, comparing the internal {@code long} values for {@link MicroMoney} amounts of
+     * the same scale.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof MicroMoney) {
+            MicroMoney other = (MicroMoney) amount;
+            if (other.scale == this.scale) {
+                return Long.compare(this.number, other.number);
+            }
+            int signum = Long.signum(this.number);
+            if (signum != Long.signum(other.number)) {
+                return signum < Long.signum(other.number) ? -1 : 1;
+            }
+            return getBigDecimal().compareTo(other.getBigDecimal());
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    private int compareChecked(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, number, scale);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof MicroMoney) {
+            MicroMoney other = (MicroMoney) obj;
+            return number == other.number && scale == other.scale && Objects.equals(currency, other.currency);
+        }
+        return false;
+    }
+
+    @Override
+    public MicroMoney abs() {
+        if (this.isPositiveOrZero()) {
+            return this;
+        }
+        return this.negate();
+    }
+
+    @Override
+    public MicroMoney add(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if (amount.isZero()) {
+            return this;
+        }
+        return new MicroMoney(Math.addExact(this.number, getInternalNumber(amount)), this.scale, this.currency);
+    }
+
+    @Override
+    public MicroMoney subtract(MonetaryAmount subtrahend) {
+        MoneyUtils.checkAmountParameter(subtrahend, this.currency);
+        if (subtrahend.isZero()) {
+            return this;
+        }
+        return new MicroMoney(Math.subtractExact(this.number, getInternalNumber(subtrahend)), this.scale,
+                this.currency);
+    }
+
+    @Override
+    public MicroMoney negate() {
+        return new MicroMoney(Math.negateExact(this.number), this.scale, this.currency);
+    }
+
+    @Override
+    public MicroMoney plus() {
+        return this;
+    }
+
+    @Override
+    public MicroMoney multiply(long multiplicand) {
+        if (multiplicand == 1L) {
+            return this;
+        }
+        return withNumber(Math.multiplyExact(this.number, multiplicand));
+    }
+
+    @Override
+    public MicroMoney multiply(double multiplicand) {
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        if (multiplicand == 1.0) {
+            return this;
+        }
+        if (multiplicand == 0.0) {
+            return withNumber(0L);
+        }
+        return multiplyDecimal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    @Override
+    public MicroMoney multiply(Number multiplicand) {
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        if (isIntegral(multiplicand)) {
+            return multiply(multiplicand.longValue());
+        }
+        if (isFloatingPoint(multiplicand)) {
+            return multiply(multiplicand.doubleValue());
+        }
+        return multiplyDecimal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    /**
+     * Multiplies with a decimal factor, using {@link LongMath} if the factor can be represented as scaled
+     * {@code long}, {@link BigDecimal} arithmetic otherwise.
+     */
+    private MicroMoney multiplyDecimal(BigDecimal factor) {
+        if (isScaledLong(factor)) {
+            if (factor.scale() == 0) {
+                return multiply(factor.longValue());
+            }
+            return withNumber(LongMath.multiply(this.number, factor.unscaledValue().longValue(), factor.scale()));
+        }
+        return withNumber(getBigDecimal().multiply(factor).setScale(this.scale, RoundingMode.HALF_EVEN));
+    }
+
+    @Override
+    public MicroMoney divide(long divisor) {
+        if (divisor == 1L) {
+            return this;
+        }
+        return withNumber(LongMath.divide(this.number, divisor, 0));
+    }
+
+    @Override
+    public MicroMoney divide(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return withNumber(0L);
+        }
+        if (divisor == 0.0d) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (divisor == 1.0d) {
+            return this;
+        }
+        return divideDecimal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public MicroMoney divide(Number divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return withNumber(0L);
+        }
+        if (isIntegral(divisor)) {
+            return divide(divisor.longValue());
+        }
+        if (isFloatingPoint(divisor)) {
+            return divide(divisor.doubleValue());
+        }
+        return divideDecimal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /**
+     * Divides by a decimal divisor, using {@link LongMath} if the divisor can be represented as scaled
+     * {@code long}, {@link BigDecimal} arithmetic otherwise.
+     */
+    private MicroMoney divideDecimal(BigDecimal divisor) {
+        if (isScaledLong(divisor)) {
+            return withNumber(LongMath.divide(this.number, divisor.unscaledValue().longValue(), divisor.scale()));
+        }
+        if (divisor.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        return withNumber(getBigDecimal().divide(divisor, this.scale, RoundingMode.HALF_EVEN));
+    }
+
+    @Override
+    public MicroMoney divideToIntegralValue(long divisor) {
+        if (divisor == 1L) {
+            return this;
+        }
+        if (divisor == -1L) {
+            return negate();
+        }
+        long power = LongMath.powerOfTen(this.scale);
+        return withNumber(this.number / divisor / power * power);
+    }
+
+    @Override
+    public MicroMoney divideToIntegralValue(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return withNumber(0L);
+        }
+        if (divisor == 1.0) {
+            return this;
+        }
+        return divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public MicroMoney divideToIntegralValue(Number divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return withNumber(0L);
+        }
+        if (isIntegral(divisor)) {
+            return divideToIntegralValue(divisor.longValue());
+        }
+        return withNumber(getBigDecimal().divideToIntegralValue(MoneyUtils.getBigDecimal(divisor)));
+    }
+
+    @Override
+    public MicroMoney remainder(long divisor) {
+        long power = LongMath.powerOfTen(this.scale);
+        if (power == 1L) {
+            return withNumber(this.number % divisor);
+        }
+        if (divisor > Long.MAX_VALUE / power || divisor < -(Long.MAX_VALUE / power)) {
+            // the divisor exceeds the range of this scale, so its absolute value is bigger than this amount
+            return this;
+        }
+        return withNumber(this.number % (divisor * power));
+    }
+
+    @Override
+    public MicroMoney remainder(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return withNumber(0L);
+        }
+        return remainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public MicroMoney remainder(Number divisor) {
+        if (isIntegral(divisor)) {
+            return remainder(divisor.longValue());
+        }
+        return withNumber(getBigDecimal().remainder(MoneyUtils.getBigDecimal(divisor)));
+    }
+
+    @Override
+    public MicroMoney[] divideAndRemainder(long divisor) {
+        return new MicroMoney[]{divideToIntegralValue(divisor), remainder(divisor)};
+    }
+
+    @Override
+    public MicroMoney[] divideAndRemainder(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            MicroMoney zero = withNumber(0L);
+            return new MicroMoney[]{zero, zero};
+        } else if (Double.isNaN(divisor)) {
+            throw new ArithmeticException("Not a number: NaN.");
+        }
+        return divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public MicroMoney[] divideAndRemainder(Number divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            MicroMoney zero = withNumber(0L);
+            return new MicroMoney[]{zero, zero};
+        }
+        if (isIntegral(divisor)) {
+            return divideAndRemainder(divisor.longValue());
+        }
+        BigDecimal[] res = getBigDecimal().divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+        return new MicroMoney[]{withNumber(res[0]), withNumber(res[1])};
+    }
+
+    @Override
+    public MicroMoney scaleByPowerOfTen(int power) {
+        return withNumber(getBigDecimal().scaleByPowerOfTen(power));
+    }
+
+    @Override
+    public MicroMoney stripTrailingZeros() {
+        return this;
+    }
+
+    /**
+     * Checks if the given number is of a primitive integral type, which can be processed as {@code long}.
+     */
+    private static boolean isIntegral(Number number) {
+        Class<?> type = number.getClass();
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    /**
+     * Checks if the given number is of a primitive floating point type, which can be processed as {@code double}.
+     */
+    private static boolean isFloatingPoint(Number number) {
+        Class<?> type = number.getClass();
+        return type == Double.class || type == Float.class;
+    }
+
+    /**
+     * Checks if the given {@link BigDecimal} can be represented by a {@code long} unscaled value and a
+     * non negative scale, as supported by {@link LongMath}.
+     */
+    private static boolean isScaledLong(BigDecimal number) {
+        return number.scale() >= 0 && number.scale() <= LongMath.MAX_SCALE && number.precision() <= LongMath.MAX_SCALE;
+    }
+
+    @Override
+    public int signum() {
+        return Long.signum(this.number);
+    }
+
+    @Override
+    public boolean isZero() {
+        return this.number == 0L;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return this.number > 0L;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return this.number >= 0L;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return this.number < 0L;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return this.number <= 0L;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount) {
+        return compareChecked(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
+        return compareChecked(amount) <= 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount) {
+        return compareChecked(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
+        return compareChecked(amount) >= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount) {
+        return compareChecked(amount) == 0;
+    }
+
+    @Override
+    public MicroMoney with(MonetaryOperator operator) {
+        Objects.requireNonNull(operator);
+        try {
+            return MicroMoney.class.cast(operator.apply(this));
+        } catch (ArithmeticException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MonetaryException("Operator failed: " + operator, e);
+        }
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query) {
+        Objects.requireNonNull(query);
+        try {
+            return query.queryFrom(this);
+        } catch (MonetaryException | ArithmeticException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MonetaryException("Query failed: " + query, e);
+        }
+    }
+
+    @Override
+    public MonetaryAmountFactory<MicroMoney> getFactory() {
+        return new MicroMoneyAmountFactory().setAmount(this);
+    }
+
+    /**
+     * Converts an amount to {@link MicroMoney}, using the scale of its currency.
+     *
+     * @param amount the amount, not null.
+     * @return the amount, or a new instance with the same number and currency.
+     * @throws ArithmeticException if the number cannot be represented with the scale of the currency.
+     */
+    public static MicroMoney from(MonetaryAmount amount) {
+        if (MicroMoney.class.isInstance(amount)) {
+            return MicroMoney.class.cast(amount);
+        }
+        return of(amount.getNumber(), amount.getCurrency());
+    }
+
+    /**
+     * Obtains an instance of MicroMoney from a text string such as 'EUR 25.25'. The scale is the scale of the
+     * currency, or the scale of the number parsed, if it is bigger.
+     *
+     * @param text the text to parse not null
+     * @return MicroMoney instance
+     * @throws NumberFormatException    if the amount is not a number
+     * @throws UnknownCurrencyException if the currency cannot be resolved
+     */
+    public static MicroMoney parse(CharSequence text) {
+        return parse(text, defaultFormat());
+    }
+
+    /**
+     * Obtains an instance of MicroMoney from a text using specific formatter.
+     *
+     * @param text      the text to parse not null
+     * @param formatter the formatter to use not null
+     * @return MicroMoney instance
+     * @see #from(MonetaryAmount)
+     */
+    public static MicroMoney parse(CharSequence text, MonetaryAmountFormat formatter) {
+        return from(formatter.parse(text));
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return defaultFormat().format(this);
+        } catch (Exception e) {
+            return currency.toString() + ' ' + getBigDecimal();
+        }
+    }
+
+    /**
+     * Appends the text returned by {@link #toString()} to the given {@link Appendable}.
+     *
+     * @param appendable the target, not null.
+     * @throws IOException if writing to the target fails.
+     */
+    public void print(Appendable appendable) throws IOException {
+        defaultFormat().print(appendable, this);
+    }
+
+    private static MonetaryAmountFormat defaultFormat() {
+        try {
+            if (MonetaryConfigSnapshot.current().getBoolean("org.javamoney.moneta.useJDKdefaultFormat", false)) {
+                LOG.finest("Using JDK formatter for print/parse.");
+                return MonetaryAmountDecimalFormat.of();
+            } else {
+                LOG.finest("Using default formatter for print/parse.");
+                return ToStringMonetaryAmountFormat.of(ToStringMonetaryAmountFormatStyle.MICRO_MONEY);
+            }
+        } catch (Exception e) {
+            LOG.log(Level.WARNING,
+                    "Invalid boolean parameter for 'org.javamoney.moneta.useJDKdefaultFormat', " +
+                            "using default formatter for print/parse.");
+            return ToStringMonetaryAmountFormat.of(ToStringMonetaryAmountFormatStyle.MICRO_MONEY);
+        }
+    }
+
+    /**
+     * The scales per currency code, valid for one configuration snapshot version.
+     */
+    private static final class CurrencyScales {
+
+        private final long version;
+        private final Map<String, Integer> scales = new ConcurrentHashMap<>();
+
+        private CurrencyScales(long version) {
+            this.version = version;
+        }
+    }
+
+    /**
+     * Replaces this instance by its compact serialized form, see {@link MonetaryAmountCodec}.
+     *
+     * @return the object to be serialized.
+     */
+    private Object writeReplace() {
+        return MonetaryAmountCodec.toSerializedForm(this);
+    }
+}
@@ -20,11 +20,14 @@ import org.javamoney.moneta.format.ToStringMonetaryAmountFormat.ToStringMonetary
 import org.javamoney.moneta.format.MonetaryAmountDecimalFormat;
 import org.javamoney.moneta.spi.MoneyAmountFactory;
 import org.javamoney.moneta.spi.DefaultNumberValue;
-import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.MonetaryAmountCache;
+import org.javamoney.moneta.spi.MonetaryAmountCodec;
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
 import org.javamoney.moneta.spi.MoneyUtils;
 
 import javax.money.*;
 import javax.money.format.MonetaryAmountFormat;
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -74,6 +77,11 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     public static final MonetaryContext DEFAULT_MONETARY_CONTEXT = new DefaultMonetaryContextFactory().getContext();
 
+    /**
+     * Shared instances of small values, such as zero, using the {@link #DEFAULT_MONETARY_CONTEXT}.
+     */
+    private static final MonetaryAmountCache<Money> CACHE = new MonetaryAmountCache<>(Money::new);
+
     /**
      * The currency of this amount.
      */
@@ -176,13 +184,40 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public int compareTo(MonetaryAmount o) {
         Objects.requireNonNull(o);
-        int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        int compare = MoneyUtils.compareCurrencies(this.currency, o.getCurrency());
         if (compare == 0) {
-            compare = this.number.compareTo(Money.from(o).number);
+            compare = compareNumber(o);
         }
         return compare;
     }
 
+    /**
+     * Compares the numeric values, comparing the {@link BigDecimal} values for {@link Money} and the
+     * {@link BigDecimal} with the scaled {@code long} for {@link FastMoney}, without any {@link NumberValue}
+     * conversions.
+     *
+     * @param amount the amount to compare with, not null.
+     * @return the result of comparing the numeric values.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof Money) {
+            return this.number.compareTo(((Money) amount).number);
+        }
+        if (amount instanceof FastMoney) {
+            return -FastMoney.compareUnscaled(((FastMoney) amount).getUnscaledValue(), this.number);
+        }
+        return this.number.compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    /**
+     * Access the numeric value without creating a {@link NumberValue}.
+     *
+     * @return the numeric value.
+     */
+    BigDecimal getBigDecimal() {
+        return this.number;
+    }
+
     // Arithmetic Operations
 
     /*
@@ -438,7 +473,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
             return this;
         }
         MathContext mc = MoneyUtils.getMathContext(monetaryContext, RoundingMode.HALF_EVEN);
-        int maxScale = monetaryContext.getMaxScale();
+        int maxScale = MoneyUtils.getMaxScale(monetaryContext);
         if(maxScale>0){
             return new Money(this.number.divide(divisorBD, maxScale, mc.getRoundingMode()), getCurrency(), monetaryContext);
         }
@@ -601,8 +636,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isLessThan(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) < 0;
+        return compareNumber(amount) < 0;
     }
 
     /*
@@ -615,8 +649,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) <= 0;
+        return compareNumber(amount) <= 0;
     }
 
     /*
@@ -627,8 +660,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isGreaterThan(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) > 0;
+        return compareNumber(amount) > 0;
     }
 
     /*
@@ -641,8 +673,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) >= 0;
+        return compareNumber(amount) >= 0;
     }
 
     /*
@@ -653,8 +684,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) == 0;
+        return compareNumber(amount) == 0;
     }
 
     /*
@@ -700,6 +730,18 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         }
     }
 
+    /**
+     * Appends the text returned by {@link #toString()} to the given {@link Appendable}. When using the default
+     * formatter and appending to a {@link StringBuilder}, no intermediate {@link String} is created.
+     *
+     * @param appendable the target, not null.
+     * @throws IOException if writing to the target fails.
+     * @since 1.5
+     */
+    public void print(Appendable appendable) throws IOException {
+        defaultFormat().print(appendable, this);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -721,7 +763,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(BigDecimal number, CurrencyUnit currency) {
-        return new Money(number, currency);
+        return ofDefault(number, currency);
     }
 
     /**
@@ -738,6 +780,9 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(BigDecimal number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        if (monetaryContext == null || monetaryContext == DEFAULT_MONETARY_CONTEXT) {
+            return ofDefault(number, currency);
+        }
         return new Money(number, currency, monetaryContext);
     }
 
@@ -752,7 +797,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(Number number, CurrencyUnit currency) {
-        return new Money(MoneyUtils.getBigDecimal(number), currency);
+        return ofDefault(MoneyUtils.getBigDecimal(number), currency);
     }
 
     /**
@@ -768,7 +813,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
-        return new Money(MoneyUtils.getBigDecimal(number), currency, monetaryContext);
+        return of(MoneyUtils.getBigDecimal(number), currency, monetaryContext);
     }
 
     /**
@@ -779,7 +824,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(Number number, String currencyCode) {
-        return new Money(MoneyUtils.getBigDecimal(number), Monetary.getCurrency(currencyCode));
+        return ofDefault(MoneyUtils.getBigDecimal(number), Monetary.getCurrency(currencyCode));
     }
 
     /**
@@ -790,7 +835,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(BigDecimal number, String currencyCode) {
-        return new Money(number, Monetary.getCurrency(currencyCode));
+        return ofDefault(number, Monetary.getCurrency(currencyCode));
     }
 
     /**
@@ -803,8 +848,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(Number number, String currencyCode, MonetaryContext monetaryContext) {
-        return new Money(MoneyUtils.getBigDecimal(number), Monetary.getCurrency(currencyCode),
-                monetaryContext);
+        return of(MoneyUtils.getBigDecimal(number), Monetary.getCurrency(currencyCode), monetaryContext);
     }
 
     /**
@@ -817,7 +861,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(BigDecimal number, String currencyCode, MonetaryContext monetaryContext) {
-        return new Money(number, Monetary.getCurrency(currencyCode), monetaryContext);
+        return of(number, Monetary.getCurrency(currencyCode), monetaryContext);
     }
 
     /**
@@ -827,7 +871,21 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @since 1.0.1
      */
     public static Money zero(CurrencyUnit currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        return ofDefault(BigDecimal.ZERO, currency);
+    }
+
+    /**
+     * Creates a new instance using the {@link #DEFAULT_MONETARY_CONTEXT}, small values, such as zero, are
+     * served from {@link #CACHE}.
+     */
+    private static Money ofDefault(BigDecimal number, CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        Money cached = CACHE.get(number, currency);
+        if (cached != null) {
+            return cached;
+        }
+        return new Money(number, currency);
     }
 
    	 /**
@@ -905,9 +963,8 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     }
 
     private static MonetaryAmountFormat defaultFormat() {
-        final String useJDK = MonetaryConfig.getConfig().getOrDefault("org.javamoney.moneta.useJDKdefaultFormat", "false");
         try {
-            if(Boolean.parseBoolean(useJDK)){
+            if (MonetaryConfigSnapshot.current().getBoolean("org.javamoney.moneta.useJDKdefaultFormat", false)) {
                 Logger.getLogger(Money.class.getName()).fine("Using JDK formatter for toString().");
                 return MonetaryAmountDecimalFormat.of();
             } else {
@@ -921,4 +978,13 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
             return ToStringMonetaryAmountFormat.of(ToStringMonetaryAmountFormatStyle.MONEY);
         }
     }
+
+    /**
+     * Replaces this instance by its compact serialized form, see {@link MonetaryAmountCodec}.
+     *
+     * @return the object to be serialized.
+     */
+    private Object writeReplace() {
+        return MonetaryAmountCodec.toSerializedForm(this);
+    }
 }
@@ -20,7 +20,9 @@ import org.javamoney.moneta.format.ToStringMonetaryAmountFormat.ToStringMonetary
 import org.javamoney.moneta.format.MonetaryAmountDecimalFormat;
 import org.javamoney.moneta.spi.RoundedMoneyAmountFactory;
 import org.javamoney.moneta.spi.DefaultNumberValue;
-import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.MonetaryAmountCache;
+import org.javamoney.moneta.spi.MonetaryAmountCodec;
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
 import org.javamoney.moneta.spi.MoneyUtils;
 
 import javax.money.*;
@@ -61,6 +63,38 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
             .set("MonetaryRounding", Monetary.getDefaultRounding()).
                     build();
 
+    /**
+     * The default rounding, as contained in {@link #DEFAULT_MONETARY_CONTEXT}. Amounts using it share the
+     * {@link #DEFAULT_MONETARY_CONTEXT} instead of creating a context per instance.
+     */
+    private static final MonetaryOperator DEFAULT_ROUNDING = DEFAULT_MONETARY_CONTEXT.get("MonetaryRounding",
+            MonetaryOperator.class);
+
+    /**
+     * The {@link MathContext} applied on creation of amounts using the {@link #DEFAULT_MONETARY_CONTEXT}.
+     */
+    private static final MathContext DEFAULT_CREATION_CONTEXT = MoneyUtils.createMathContext(
+            DEFAULT_MONETARY_CONTEXT, RoundingMode.HALF_EVEN);
+
+    /**
+     * The {@link MathContext} used for arithmetic operations of amounts using the
+     * {@link #DEFAULT_MONETARY_CONTEXT}.
+     */
+    private static final MathContext DEFAULT_MATH_CONTEXT = Optional.ofNullable(
+            DEFAULT_MONETARY_CONTEXT.get(MathContext.class)).orElse(MathContext.DECIMAL64);
+
+    /**
+     * The {@link RoundingMode} used for divisions of amounts using the {@link #DEFAULT_MONETARY_CONTEXT}.
+     */
+    private static final RoundingMode DEFAULT_ROUNDING_MODE = Optional.ofNullable(
+            DEFAULT_MONETARY_CONTEXT.get(RoundingMode.class)).orElse(RoundingMode.HALF_EVEN);
+
+    /**
+     * Shared instances of small values, such as zero, using the default rounding.
+     */
+    private static final MonetaryAmountCache<RoundedMoney> CACHE = new MonetaryAmountCache<>(
+            (number, currency) -> new RoundedMoney(number, currency, Monetary.getDefaultRounding()));
+
     /**
      * The currency of this amount.
      */
@@ -102,7 +136,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
                         .build();
         Objects.requireNonNull(number, "Number is required.");
         checkNumber(number);
-        this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
+        this.number = toBigDecimal(number, monetaryContext);
     }
 
     @Deprecated
@@ -111,6 +145,13 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         this.currency = currency;
         Objects.requireNonNull(number, "Number is required.");
         checkNumber(number);
+        if (context == null && (rounding == null || rounding == DEFAULT_ROUNDING)) {
+            this.rounding = DEFAULT_ROUNDING;
+            this.monetaryContext = DEFAULT_MONETARY_CONTEXT;
+            this.number = MoneyUtils.getBigDecimal(number, DEFAULT_CREATION_CONTEXT,
+                    DEFAULT_MONETARY_CONTEXT.getMaxScale());
+            return;
+        }
         MonetaryContextBuilder monetaryContextBuilder = DEFAULT_MONETARY_CONTEXT.toBuilder();
 
         this.rounding = RoundedMoneyMonetaryOperatorFactory.INSTANCE.getDefaultMonetaryOperator(rounding, context, monetaryContextBuilder);
@@ -121,7 +162,17 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         }
 
         this.monetaryContext = monetaryContextBuilder.build();
-        this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
+        this.number = toBigDecimal(number, monetaryContext);
+    }
+
+    /**
+     * Applies a context created for a single instance, without resolving it through the cache of
+     * {@link MoneyUtils#getBigDecimal(Number, MonetaryContext)}, where it would replace the entries of
+     * shared contexts.
+     */
+    private static BigDecimal toBigDecimal(Number number, MonetaryContext monetaryContext) {
+        return MoneyUtils.getBigDecimal(number, MoneyUtils.createMathContext(monetaryContext, RoundingMode.HALF_EVEN),
+                monetaryContext.getMaxScale());
     }
 
     /**
@@ -133,6 +184,12 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @return a {@code Money} combining the numeric value and currency unit.
      */
     public static RoundedMoney of(BigDecimal number, CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        RoundedMoney cached = CACHE.get(number, currency);
+        if (cached != null) {
+            return cached;
+        }
         return new RoundedMoney(number, currency, Monetary.getDefaultRounding());
     }
 
@@ -171,7 +228,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Deprecated
     public static RoundedMoney of(Number number, CurrencyUnit currency) {
-        return new RoundedMoney(number, currency, (MonetaryOperator) null);
+        Objects.requireNonNull(number, "Number is required.");
+        return of(MoneyUtils.getBigDecimal(number), currency);
     }
 
     /**
@@ -223,8 +281,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Deprecated
     public static RoundedMoney of(Number number, String currencyCode) {
-        return new RoundedMoney(number, Monetary.getCurrency(currencyCode),
-                Monetary.getDefaultRounding());
+        return of(number, Monetary.getCurrency(currencyCode));
     }
 
     /**
@@ -327,6 +384,20 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         return monetaryContext;
     }
 
+    private MathContext getMathContext() {
+        if (monetaryContext == DEFAULT_MONETARY_CONTEXT) {
+            return DEFAULT_MATH_CONTEXT;
+        }
+        return Optional.ofNullable(monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64);
+    }
+
+    private RoundingMode getRoundingMode() {
+        if (monetaryContext == DEFAULT_MONETARY_CONTEXT) {
+            return DEFAULT_ROUNDING_MODE;
+        }
+        return Optional.ofNullable(monetaryContext.get(RoundingMode.class)).orElse(RoundingMode.HALF_EVEN);
+    }
+
     @Override
     public RoundedMoney abs() {
         if (isPositiveOrZero()) {
@@ -357,8 +428,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isOne(bd)) {
             return this;
         }
-        BigDecimal dec = number.divide(bd, Optional.ofNullable(monetaryContext.get(RoundingMode.class)).
-                orElse(RoundingMode.HALF_EVEN));
+        BigDecimal dec = number.divide(bd, getRoundingMode());
         return new RoundedMoney(dec, currency, rounding).with(rounding);
     }
 
@@ -372,8 +442,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isOne(bd)) {
             return new RoundedMoney[]{this, new RoundedMoney(0L, getCurrency(), rounding)};
         }
-        BigDecimal[] dec = number.divideAndRemainder(MoneyUtils.getBigDecimal(divisor), Optional.ofNullable(
-                monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64));
+        BigDecimal[] dec = number.divideAndRemainder(MoneyUtils.getBigDecimal(divisor), getMathContext());
         return new RoundedMoney[]{new RoundedMoney(dec[0], currency, rounding),
                 new RoundedMoney(dec[1], currency, rounding).with(rounding)};
     }
@@ -384,8 +453,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney divideToIntegralValue(Number divisor) {
-        BigDecimal dec = number.divideToIntegralValue(MoneyUtils.getBigDecimal(divisor), Optional.ofNullable(
-                monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64));
+        BigDecimal dec = number.divideToIntegralValue(MoneyUtils.getBigDecimal(divisor), getMathContext());
         return new RoundedMoney(dec, currency, rounding);
     }
 
@@ -399,8 +467,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isOne(bd)) {
             return this;
         }
-        BigDecimal dec = number.multiply(bd, Optional.ofNullable(
-                monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64));
+        BigDecimal dec = number.multiply(bd, getMathContext());
         return new RoundedMoney(dec, currency, rounding).with(rounding);
     }
 
@@ -410,9 +477,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney negate() {
-        return new RoundedMoney(number.negate(Optional.ofNullable(
-                monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64)),
-                currency, rounding);
+        return new RoundedMoney(number.negate(getMathContext()), currency, rounding);
     }
 
     /*
@@ -435,9 +500,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
             return this;
         }
         return new RoundedMoney(number.subtract(amount.getNumber().numberValue(BigDecimal.class),
-                Optional.ofNullable(
-                        monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64)),
-                currency, rounding);
+                getMathContext()), currency, rounding);
     }
 
     /*
@@ -445,9 +508,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @see javax.money.MonetaryAmount#pow(int)
      */
     public RoundedMoney pow(int n) {
-        return new RoundedMoney(number.pow(n, Optional.ofNullable(
-                monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64)),
-                currency, rounding).with(rounding);
+        return new RoundedMoney(number.pow(n, getMathContext()), currency, rounding).with(rounding);
     }
 
     /*
@@ -464,9 +525,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney remainder(Number divisor) {
-        return new RoundedMoney(number.remainder(MoneyUtils.getBigDecimal(divisor), Optional.ofNullable(
-                monetaryContext.get(MathContext.class)).orElse(MathContext.DECIMAL64)),
-                currency, rounding);
+        return new RoundedMoney(number.remainder(MoneyUtils.getBigDecimal(divisor), getMathContext()), currency,
+                rounding);
     }
 
     /*
@@ -702,9 +762,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     }
 
     private static MonetaryAmountFormat defaultFormat() {
-        final String useJDK = MonetaryConfig.getConfig().getOrDefault("org.javamoney.moneta.useJDKdefaultFormat", "false");
         try {
-            if(Boolean.parseBoolean(useJDK)){
+            if (MonetaryConfigSnapshot.current().getBoolean("org.javamoney.moneta.useJDKdefaultFormat", false)) {
                 Logger.getLogger(Money.class.getName()).finest("Using JDK formatter for toString().");
                 return MonetaryAmountDecimalFormat.of();
             } else {
@@ -958,4 +1017,13 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
             return false;
         }
     }
+
+    /**
+     * Replaces this instance by its compact serialized form, see {@link MonetaryAmountCodec}.
+     *
+     * @return the object to be serialized.
+     */
+    private Object writeReplace() {
+        return MonetaryAmountCodec.toSerializedForm(this);
+    }
 }
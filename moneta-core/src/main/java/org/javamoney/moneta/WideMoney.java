@@ -0,0 +1,826 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.format.MonetaryAmountDecimalFormat;
+import org.javamoney.moneta.format.ToStringMonetaryAmountFormat;
+import org.javamoney.moneta.format.ToStringMonetaryAmountFormat.ToStringMonetaryAmountFormatStyle;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.MonetaryAmountCodec;
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
+import org.javamoney.moneta.spi.MoneyUtils;
+import org.javamoney.moneta.spi.WideMoneyAmountFactory;
+
+import javax.money.*;
+import javax.money.format.MonetaryAmountFormat;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fixed point implementation of {@link MonetaryAmount}, using a 128 bit two's complement integer, stored as
+ * two {@code long} values, with a fixed scale of {@value #SCALE}. This covers values up to about
+ * {@code 1.7 * 10^28}, with a precision of 38 digits.
+ * <p>
+ * This type fills the gap between {@link FastMoney}, which is limited to about {@code 9.2 * 10^13}, and
+ * {@link Money}, whose {@link BigDecimal} arithmetic allocates several objects per operation. Additions,
+ * subtractions and comparisons are evaluated exactly on the {@code long} values. Multiplications and divisions
+ * with numbers, that can be represented as scaled {@code long} (or 128 bit integer for multiplications), use a
+ * 256 bit intermediate result, which is rounded {@link RoundingMode#HALF_EVEN} to the scale of this class; other
+ * numbers are processed using {@link BigDecimal}. Results exceeding the range of this class cause an
+ * {@link ArithmeticException}.
+ * </p>
+ *
+ * @see FastMoney
+ * @since 1.5
+ */
+public final class WideMoney implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The logger used.
+     */
+    private static final Logger LOG = Logger.getLogger(WideMoney.class.getName());
+
+    /**
+     * The scale of the numeric value.
+     */
+    public static final int SCALE = 10;
+
+    /**
+     * the {@link MonetaryContext} used by this instance, e.g. on division.
+     */
+    private static final MonetaryContext MONETARY_CONTEXT =
+            MonetaryContextBuilder.of(WideMoney.class).setMaxScale(SCALE).setFixedScale(true).setPrecision(38)
+                    .set(RoundingMode.HALF_EVEN).build();
+
+    /**
+     * Maximum possible value supported, using XXX (no currency).
+     */
+    public static final WideMoney MAX_VALUE = new WideMoney(Long.MAX_VALUE, -1L, Monetary.getCurrency("XXX"));
+
+    /**
+     * Minimum possible value supported, using XXX (no currency).
+     */
+    public static final WideMoney MIN_VALUE = new WideMoney(Long.MIN_VALUE, 0L, Monetary.getCurrency("XXX"));
+
+    /**
+     * The currency of this amount.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The upper 64 bits of the numeric value, multiplied by {@code 10^}{@link #SCALE}.
+     */
+    private final long high;
+
+    /**
+     * The lower 64 bits of the numeric value, multiplied by {@code 10^}{@link #SCALE}.
+     */
+    private final long low;
+
+    private WideMoney(long high, long low, CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link WideMoney}.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @return A new instance of {@link WideMoney}.
+     * @throws ArithmeticException if the number has a scale bigger than {@value #SCALE}, or exceeds the
+     *                             range of this class.
+     */
+    public static WideMoney of(Number number, CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        NumberVerifier.checkNoInfinityOrNaN(number);
+        Class<?> type = number.getClass();
+        if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+            return ofScaled(number.longValue(), 0, currency);
+        }
+        return of(MoneyUtils.getBigDecimal(number), currency);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link WideMoney}.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @return A new instance of {@link WideMoney}.
+     */
+    public static WideMoney of(Number number, String currencyCode) {
+        return of(number, Monetary.getCurrency(currencyCode));
+    }
+
+    private static WideMoney of(BigDecimal number, CurrencyUnit currency) {
+        if (number.scale() > SCALE) {
+            BigDecimal stripped = number.stripTrailingZeros();
+            if (stripped.scale() > SCALE) {
+                throw new ArithmeticException(number + " can not be represented by this class, scale > " + SCALE);
+            }
+            number = stripped;
+        }
+        if (number.scale() >= 0 && number.precision() <= 18) {
+            return ofScaled(number.unscaledValue().longValue(), number.scale(), currency);
+        }
+        BigInteger unscaled = number.setScale(SCALE).unscaledValue();
+        if (unscaled.bitLength() > 127) {
+            throw new ArithmeticException("Overflow: " + number + " exceeds the range of WideMoney.");
+        }
+        return new WideMoney(unscaled.shiftRight(64).longValue(), unscaled.longValue(), currency);
+    }
+
+    /**
+     * Creates an instance from a {@code long} value with the given scale, which must not exceed
+     * {@value #SCALE}. The product with the power of ten always fits into 128 bits.
+     */
+    private static WideMoney ofScaled(long unscaledValue, int scale, CurrencyUnit currency) {
+        long factor = LongMath.powerOfTen(SCALE - scale);
+        return new WideMoney(Math.multiplyHigh(unscaledValue, factor), unscaledValue * factor, currency);
+    }
+
+    /**
+     * Obtains an instance of {@link WideMoney} representing zero.
+     *
+     * @param currency the target currency
+     * @return an instance of {@link WideMoney} representing zero.
+     */
+    public static WideMoney zero(CurrencyUnit currency) {
+        return new WideMoney(0L, 0L, currency);
+    }
+
+    /**
+     * Obtains an instance of {@code WideMoney} from an amount in minor units.
+     * For example, {@code ofMinor(USD, 1234)} creates the instance {@code USD 12.34}.
+     *
+     * @param currency    the currency, not null
+     * @param amountMinor the amount of money in the minor division of the currency
+     * @return the monetary amount from minor units
+     * @throws IllegalArgumentException when {@link CurrencyUnit#getDefaultFractionDigits()} is lesser than zero.
+     * @see #ofMinor(CurrencyUnit, long, int)
+     */
+    public static WideMoney ofMinor(CurrencyUnit currency, long amountMinor) {
+        return ofMinor(currency, amountMinor, currency.getDefaultFractionDigits());
+    }
+
+    /**
+     * Obtains an instance of {@code WideMoney} from an amount in minor units.
+     * For example, {@code ofMinor(USD, 1234, 2)} creates the instance {@code USD 12.34}.
+     *
+     * @param currency       the currency, not null
+     * @param amountMinor    the amount of money in the minor division of the currency
+     * @param fractionDigits number of digits
+     * @return the monetary amount from minor units
+     * @throws IllegalArgumentException when the fractionDigits is negative
+     * @throws ArithmeticException      when the fractionDigits exceed {@value #SCALE}
+     */
+    public static WideMoney ofMinor(CurrencyUnit currency, long amountMinor, int fractionDigits) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        if (fractionDigits < 0) {
+            throw new IllegalArgumentException("The fractionDigits cannot be negative");
+        }
+        if (fractionDigits <= SCALE) {
+            return ofScaled(amountMinor, fractionDigits, currency);
+        }
+        return of(BigDecimal.valueOf(amountMinor, fractionDigits), currency);
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public MonetaryContext getContext() {
+        return MONETARY_CONTEXT;
+    }
+
+    /**
+     * Returns the scale of this <type>WideMoney</type>. For this type the scale is always {@value #SCALE}.
+     *
+     * @return the scale of this <type>WideMoney</type>.
+     */
+    public int getScale() {
+        return SCALE;
+    }
+
+    /**
+     * Returns the precision of this <type>WideMoney</type>. (The precision is the number of digits in the unscaled
+     * value.) The precision of a zero value is 1.
+     *
+     * @return the precision of this <type>WideMoney</type>.
+     * @see BigDecimal#precision()
+     */
+    public int getPrecision() {
+        return getBigDecimal().precision();
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return new DefaultNumberValue(getBigDecimal());
+    }
+
+    private BigDecimal getBigDecimal() {
+        if (high == (low >> 63)) {
+            return BigDecimal.valueOf(low, SCALE);
+        }
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+        return new BigDecimal(new BigInteger(bytes), SCALE);
+    }
+
+    // 128 bit arithmetic
+
+    /**
+     * Converts an amount to an instance of this class, operating directly on the {@code long} values for
+     * {@link FastMoney} and {@link MicroMoney} amounts of a scale up to {@value #SCALE}.
+     */
+    private WideMoney toWideMoney(MonetaryAmount amount) {
+        if (amount instanceof WideMoney) {
+            return (WideMoney) amount;
+        }
+        if (amount instanceof FastMoney) {
+            FastMoney fastMoney = (FastMoney) amount;
+            return ofScaled(fastMoney.getUnscaledValue(), fastMoney.getScale(), this.currency);
+        }
+        if (amount instanceof MicroMoney && ((MicroMoney) amount).getScale() <= SCALE) {
+            MicroMoney microMoney = (MicroMoney) amount;
+            return ofScaled(microMoney.getUnscaledValue(), microMoney.getScale(), this.currency);
+        }
+        return of(amount.getNumber().numberValue(BigDecimal.class), this.currency);
+    }
+
+    private WideMoney add(long otherHigh, long otherLow) {
+        long resultLow = this.low + otherLow;
+        long carry = Long.compareUnsigned(resultLow, this.low) < 0 ? 1L : 0L;
+        long resultHigh = this.high + otherHigh + carry;
+        if (((this.high ^ resultHigh) & (otherHigh ^ resultHigh)) < 0) {
+            throw new ArithmeticException("Overflow: result exceeds the range of WideMoney.");
+        }
+        return new WideMoney(resultHigh, resultLow, this.currency);
+    }
+
+    private WideMoney subtract(long otherHigh, long otherLow) {
+        long resultLow = this.low - otherLow;
+        long borrow = Long.compareUnsigned(this.low, otherLow) < 0 ? 1L : 0L;
+        long resultHigh = this.high - otherHigh - borrow;
+        if (((this.high ^ otherHigh) & (this.high ^ resultHigh)) < 0) {
+            throw new ArithmeticException("Overflow: result exceeds the range of WideMoney.");
+        }
+        return new WideMoney(resultHigh, resultLow, this.currency);
+    }
+
+    /**
+     * Calculates {@code this * factor / divisor}, rounded {@link RoundingMode#HALF_EVEN}, using a 256 bit
+     * intermediate product. The factor and the divisor are passed as unsigned magnitudes.
+     *
+     * @param factorHigh  the upper 64 bits of the factor's magnitude.
+     * @param factorLow   the lower 64 bits of the factor's magnitude.
+     * @param divisor     the magnitude of the divisor, unsigned, not zero.
+     * @param negativeArg true, if the factor or the divisor (but not both) is negative.
+     * @return the rounded result.
+     * @throws ArithmeticException if the result exceeds the range of this class.
+     */
+    private WideMoney multiplyAndDivide(long factorHigh, long factorLow, long divisor, boolean negativeArg) {
+        boolean negative = negativeArg != (this.high < 0);
+        long aHigh = this.high;
+        long aLow = this.low;
+        if (aHigh < 0) {
+            aLow = -this.low;
+            aHigh = ~this.high + (this.low == 0L ? 1L : 0L);
+        }
+        // 256 bit product w3:w2:w1:w0 of the magnitudes
+        long h0 = LongMath.unsignedMultiplyHigh(aLow, factorLow);
+        long l1 = aLow * factorHigh;
+        long h1 = LongMath.unsignedMultiplyHigh(aLow, factorHigh);
+        long l2 = aHigh * factorLow;
+        long h2 = LongMath.unsignedMultiplyHigh(aHigh, factorLow);
+        long l3 = aHigh * factorHigh;
+        long h3 = LongMath.unsignedMultiplyHigh(aHigh, factorHigh);
+        long w0 = aLow * factorLow;
+        long w1 = h0 + l1;
+        long carry = Long.compareUnsigned(w1, h0) < 0 ? 1L : 0L;
+        long sum = w1 + l2;
+        carry += Long.compareUnsigned(sum, w1) < 0 ? 1L : 0L;
+        w1 = sum;
+        long w2 = h1 + h2;
+        long carry2 = Long.compareUnsigned(w2, h1) < 0 ? 1L : 0L;
+        sum = w2 + l3;
+        carry2 += Long.compareUnsigned(sum, w2) < 0 ? 1L : 0L;
+        sum += carry;
+        carry2 += Long.compareUnsigned(sum, carry) < 0 ? 1L : 0L;
+        w2 = sum;
+        long w3 = h3 + carry2;
+        if (divisor != 1L) {
+            // long division by the 64 bit divisor, one word at a time
+            long q3 = Long.divideUnsigned(w3, divisor);
+            long remainder = w3 - q3 * divisor;
+            long q2 = divideStep(remainder, w2, divisor);
+            remainder = w2 - q2 * divisor;
+            long q1 = divideStep(remainder, w1, divisor);
+            remainder = w1 - q1 * divisor;
+            long q0 = divideStep(remainder, w0, divisor);
+            remainder = w0 - q0 * divisor;
+            int half = Long.compareUnsigned(remainder, divisor - remainder);
+            if (half > 0 || (half == 0 && (q0 & 1L) != 0L)) {
+                q0++;
+                if (q0 == 0L) {
+                    q1++;
+                    if (q1 == 0L) {
+                        q2++;
+                        if (q2 == 0L) {
+                            q3++;
+                        }
+                    }
+                }
+            }
+            w3 = q3;
+            w2 = q2;
+            w1 = q1;
+            w0 = q0;
+        }
+        if (w3 != 0L || w2 != 0L || (w1 < 0L && !(negative && w1 == Long.MIN_VALUE && w0 == 0L))) {
+            throw new ArithmeticException("Overflow: result exceeds the range of WideMoney.");
+        }
+        if (negative) {
+            return new WideMoney(~w1 + (w0 == 0L ? 1L : 0L), -w0, this.currency);
+        }
+        return new WideMoney(w1, w0, this.currency);
+    }
+
+    /**
+     * Divides {@code remainder:word} by the divisor, requiring {@code remainder < divisor}.
+     */
+    private static long divideStep(long remainder, long word, long divisor) {
+        if (remainder == 0L) {
+            return Long.divideUnsigned(word, divisor);
+        }
+        return LongMath.divideUnsigned(remainder, word, divisor);
+    }
+
+    /**
+     * Checks if the given {@link BigDecimal} has a non negative scale, that is supported by {@link LongMath},
+     * and an unscaled value of at most the given number of bits.
+     */
+    private static boolean isScaledInteger(BigDecimal number, int maxBits) {
+        return number.scale() >= 0 && number.scale() <= LongMath.MAX_SCALE
+                && number.unscaledValue().bitLength() <= maxBits;
+    }
+
+    private static BigDecimal normalize(BigDecimal number) {
+        if (number.scale() < 0) {
+            return number.setScale(0);
+        }
+        if (number.scale() > LongMath.MAX_SCALE) {
+            return number.stripTrailingZeros();
+        }
+        return number;
+    }
+
+    @Override
+    public int compareTo(MonetaryAmount o) {
+        Objects.requireNonNull(o);
+        int compare = MoneyUtils.compareCurrencies(this.currency, o.getCurrency());
+        if (compare == 0) {
+            compare = compareNumber(o);
+        }
+        return compare;
+    }
+
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof WideMoney) {
+            WideMoney other = (WideMoney) amount;
+            int compare = Long.compare(this.high, other.high);
+            if (compare == 0) {
+                compare = Long.compareUnsigned(this.low, other.low);
+            }
+            return compare;
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    private int compareChecked(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, high, low);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof WideMoney) {
+            WideMoney other = (WideMoney) obj;
+            return high == other.high && low == other.low && Objects.equals(currency, other.currency);
+        }
+        return false;
+    }
+
+    @Override
+    public WideMoney abs() {
+        if (this.isPositiveOrZero()) {
+            return this;
+        }
+        return this.negate();
+    }
+
+    @Override
+    public WideMoney add(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if (amount.isZero()) {
+            return this;
+        }
+        WideMoney other = toWideMoney(amount);
+        return add(other.high, other.low);
+    }
+
+    @Override
+    public WideMoney subtract(MonetaryAmount subtrahend) {
+        MoneyUtils.checkAmountParameter(subtrahend, this.currency);
+        if (subtrahend.isZero()) {
+            return this;
+        }
+        WideMoney other = toWideMoney(subtrahend);
+        return subtract(other.high, other.low);
+    }
+
+    @Override
+    public WideMoney negate() {
+        if (this.high == Long.MIN_VALUE && this.low == 0L) {
+            throw new ArithmeticException("Overflow: result exceeds the range of WideMoney.");
+        }
+        return new WideMoney(~this.high + (this.low == 0L ? 1L : 0L), -this.low, this.currency);
+    }
+
+    @Override
+    public WideMoney plus() {
+        return this;
+    }
+
+    @Override
+    public WideMoney multiply(long multiplicand) {
+        if (multiplicand == 1L) {
+            return this;
+        }
+        return multiplyAndDivide(0L, Math.abs(multiplicand), 1L, multiplicand < 0L);
+    }
+
+    @Override
+    public WideMoney multiply(double multiplicand) {
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        if (multiplicand == 1.0) {
+            return this;
+        }
+        return multiplyDecimal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    @Override
+    public WideMoney multiply(Number multiplicand) {
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        if (isIntegral(multiplicand)) {
+            return multiply(multiplicand.longValue());
+        }
+        return multiplyDecimal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    private WideMoney multiplyDecimal(BigDecimal factor) {
+        factor = normalize(factor);
+        if (isScaledInteger(factor, 127)) {
+            BigInteger magnitude = factor.unscaledValue().abs();
+            return multiplyAndDivide(magnitude.shiftRight(64).longValue(), magnitude.longValue(),
+                    LongMath.powerOfTen(factor.scale()), factor.signum() < 0);
+        }
+        return of(getBigDecimal().multiply(factor).setScale(SCALE, RoundingMode.HALF_EVEN), this.currency);
+    }
+
+    @Override
+    public WideMoney divide(long divisor) {
+        if (divisor == 1L) {
+            return this;
+        }
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        return multiplyAndDivide(0L, 1L, Math.abs(divisor), divisor < 0L);
+    }
+
+    @Override
+    public WideMoney divide(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return zero(this.currency);
+        }
+        if (divisor == 1.0d) {
+            return this;
+        }
+        return divideDecimal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public WideMoney divide(Number divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return zero(this.currency);
+        }
+        if (isIntegral(divisor)) {
+            return divide(divisor.longValue());
+        }
+        return divideDecimal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    private WideMoney divideDecimal(BigDecimal divisor) {
+        if (divisor.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        divisor = normalize(divisor);
+        if (isScaledInteger(divisor, 63)) {
+            long unscaled = divisor.unscaledValue().longValue();
+            return multiplyAndDivide(0L, LongMath.powerOfTen(divisor.scale()), Math.abs(unscaled), unscaled < 0L);
+        }
+        return of(getBigDecimal().divide(divisor, SCALE, RoundingMode.HALF_EVEN), this.currency);
+    }
+
+    @Override
+    public WideMoney divideToIntegralValue(long divisor) {
+        if (divisor == 1L) {
+            return this;
+        }
+        return divideToIntegralValue(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public WideMoney divideToIntegralValue(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return zero(this.currency);
+        }
+        if (divisor == 1.0) {
+            return this;
+        }
+        return divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public WideMoney divideToIntegralValue(Number divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return zero(this.currency);
+        }
+        return of(getBigDecimal().divideToIntegralValue(MoneyUtils.getBigDecimal(divisor)), this.currency);
+    }
+
+    @Override
+    public WideMoney remainder(long divisor) {
+        return remainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public WideMoney remainder(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return zero(this.currency);
+        }
+        return remainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public WideMoney remainder(Number divisor) {
+        return of(getBigDecimal().remainder(MoneyUtils.getBigDecimal(divisor)), this.currency);
+    }
+
+    @Override
+    public WideMoney[] divideAndRemainder(long divisor) {
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public WideMoney[] divideAndRemainder(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            WideMoney zero = zero(this.currency);
+            return new WideMoney[]{zero, zero};
+        } else if (Double.isNaN(divisor)) {
+            throw new ArithmeticException("Not a number: NaN.");
+        }
+        return divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    @Override
+    public WideMoney[] divideAndRemainder(Number divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            WideMoney zero = zero(this.currency);
+            return new WideMoney[]{zero, zero};
+        }
+        BigDecimal[] res = getBigDecimal().divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+        return new WideMoney[]{of(res[0], this.currency), of(res[1], this.currency)};
+    }
+
+    @Override
+    public WideMoney scaleByPowerOfTen(int power) {
+        return of(getBigDecimal().scaleByPowerOfTen(power), this.currency);
+    }
+
+    @Override
+    public WideMoney stripTrailingZeros() {
+        return this;
+    }
+
+    /**
+     * Checks if the given number is of a primitive integral type, which can be processed as {@code long}.
+     */
+    private static boolean isIntegral(Number number) {
+        Class<?> type = number.getClass();
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    @Override
+    public int signum() {
+        if (this.high < 0L) {
+            return -1;
+        }
+        if (this.high == 0L && this.low == 0L) {
+            return 0;
+        }
+        return 1;
+    }
+
+    @Override
+    public boolean isZero() {
+        return this.high == 0L && this.low == 0L;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return signum() > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return this.high >= 0L;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return this.high < 0L;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return signum() <= 0;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount) {
+        return compareChecked(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
+        return compareChecked(amount) <= 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount) {
+        return compareChecked(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
+        return compareChecked(amount) >= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount) {
+        return compareChecked(amount) == 0;
+    }
+
+    @Override
+    public WideMoney with(MonetaryOperator operator) {
+        Objects.requireNonNull(operator);
+        try {
+            return WideMoney.class.cast(operator.apply(this));
+        } catch (ArithmeticException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MonetaryException("Operator failed: " + operator, e);
+        }
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query) {
+        Objects.requireNonNull(query);
+        try {
+            return query.queryFrom(this);
+        } catch (MonetaryException | ArithmeticException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MonetaryException("Query failed: " + query, e);
+        }
+    }
+
+    @Override
+    public MonetaryAmountFactory<WideMoney> getFactory() {
+        return new WideMoneyAmountFactory().setAmount(this);
+    }
+
+    public static WideMoney from(MonetaryAmount amount) {
+        if (WideMoney.class.isInstance(amount)) {
+            return WideMoney.class.cast(amount);
+        }
+        return of(amount.getNumber(), amount.getCurrency());
+    }
+
+    /**
+     * Obtains an instance of WideMoney from a text string such as 'EUR 25.25'.
+     *
+     * @param text the text to parse not null
+     * @return WideMoney instance
+     * @throws NumberFormatException    if the amount is not a number
+     * @throws UnknownCurrencyException if the currency cannot be resolved
+     */
+    public static WideMoney parse(CharSequence text) {
+        return parse(text, defaultFormat());
+    }
+
+    /**
+     * Obtains an instance of WideMoney from a text using specific formatter.
+     *
+     * @param text      the text to parse not null
+     * @param formatter the formatter to use not null
+     * @return WideMoney instance
+     */
+    public static WideMoney parse(CharSequence text, MonetaryAmountFormat formatter) {
+        return from(formatter.parse(text));
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return defaultFormat().format(this);
+        } catch (Exception e) {
+            return currency.toString() + ' ' + getBigDecimal();
+        }
+    }
+
+    /**
+     * Appends the text returned by {@link #toString()} to the given {@link Appendable}.
+     *
+     * @param appendable the target, not null.
+     * @throws IOException if writing to the target fails.
+     */
+    public void print(Appendable appendable) throws IOException {
+        defaultFormat().print(appendable, this);
+    }
+
+    private static MonetaryAmountFormat defaultFormat() {
+        try {
+            if (MonetaryConfigSnapshot.current().getBoolean("org.javamoney.moneta.useJDKdefaultFormat", false)) {
+                LOG.finest("Using JDK formatter for print/parse.");
+                return MonetaryAmountDecimalFormat.of();
+            } else {
+                LOG.finest("Using default formatter for print/parse.");
+                return ToStringMonetaryAmountFormat.of(ToStringMonetaryAmountFormatStyle.WIDE_MONEY);
+            }
+        } catch (Exception e) {
+            LOG.log(Level.WARNING,
+                    "Invalid boolean parameter for 'org.javamoney.moneta.useJDKdefaultFormat', " +
+                            "using default formatter for print/parse.");
+            return ToStringMonetaryAmountFormat.of(ToStringMonetaryAmountFormatStyle.WIDE_MONEY);
+        }
+    }
+
+    /**
+     * Replaces this instance by its compact serialized form, see {@link MonetaryAmountCodec}.
+     *
+     * @return the object to be serialized.
+     */
+    private Object writeReplace() {
+        return MonetaryAmountCodec.toSerializedForm(this);
+    }
+}
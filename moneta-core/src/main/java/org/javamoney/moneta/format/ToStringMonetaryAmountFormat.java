@@ -16,15 +16,16 @@
 package org.javamoney.moneta.format;
 
 import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.MicroMoney;
 import org.javamoney.moneta.Money;
 import org.javamoney.moneta.RoundedMoney;
-import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.WideMoney;
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 
 import javax.money.CurrencyUnit;
@@ -81,6 +82,10 @@ import javax.money.format.MonetaryParseException;
  * {@link FastMoney#parse(CharSequence)}
  * {@link RoundedMoney#toString()}
  * {@link RoundedMoney#parse(CharSequence)}
+ * {@link MicroMoney#toString()}
+ * {@link MicroMoney#parse(CharSequence)}
+ * {@link WideMoney#toString()}
+ * {@link WideMoney#parse(CharSequence)}
  * @author Otavio Santana
  * @author Anatole Tresch
  * @author Werner Keil
@@ -91,9 +96,15 @@ public final class ToStringMonetaryAmountFormat implements MonetaryAmountFormat
 
     private static final String CONTEXT_PREFIX = "ToString_";
 
+    private static final String FORMAT_ORDER_PROPERTY = "org.javamoney.toStringFormatOrder";
+
+    private static volatile FormatOrder formatOrder;
+
     private static final ToStringMonetaryAmountFormat INSTANCE_FASTMONEY = new ToStringMonetaryAmountFormat(ToStringMonetaryAmountFormatStyle.FAST_MONEY);
     private static final ToStringMonetaryAmountFormat INSTANCE_MONEY = new ToStringMonetaryAmountFormat(ToStringMonetaryAmountFormatStyle.MONEY);
     private static final ToStringMonetaryAmountFormat INSTANCE_ROUNDEDMONEY = new ToStringMonetaryAmountFormat(ToStringMonetaryAmountFormatStyle.ROUNDED_MONEY);
+    private static final ToStringMonetaryAmountFormat INSTANCE_MICROMONEY = new ToStringMonetaryAmountFormat(ToStringMonetaryAmountFormatStyle.MICRO_MONEY);
+    private static final ToStringMonetaryAmountFormat INSTANCE_WIDEMONEY = new ToStringMonetaryAmountFormat(ToStringMonetaryAmountFormatStyle.WIDE_MONEY);
 
     private final ToStringMonetaryAmountFormatStyle style;
 
@@ -111,6 +122,10 @@ public final class ToStringMonetaryAmountFormat implements MonetaryAmountFormat
             return INSTANCE_FASTMONEY;
             case ROUNDED_MONEY:
                 return INSTANCE_ROUNDEDMONEY;
+            case MICRO_MONEY:
+                return INSTANCE_MICROMONEY;
+            case WIDE_MONEY:
+                return INSTANCE_WIDEMONEY;
             case MONEY:
             default:
                 return INSTANCE_MONEY;
@@ -119,37 +134,121 @@ public final class ToStringMonetaryAmountFormat implements MonetaryAmountFormat
 
     @Override
     public String queryFrom(MonetaryAmount amount) {
-		return Optional.ofNullable(amount).map((m) -> {
-            BigDecimal dec = amount.getNumber().numberValue(BigDecimal.class);
-            final int maxScale = amount.getContext().getMaxScale();
-            int scale = 2;
-            if (amount instanceof FastMoney) {
-                scale = ((maxScale == -1) ? dec.scale() : ((dec.scale() < maxScale) ? dec.scale() : maxScale));
+        if (amount == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(32);
+        appendAmount(builder, amount);
+        return builder.toString();
+    }
+
+    private static void appendAmount(StringBuilder builder, MonetaryAmount amount) {
+        String currencyCode = amount.getCurrency().getCurrencyCode();
+        if (isCurrencyFirst()) {
+            builder.append(currencyCode).append(' ');
+            appendNumber(builder, amount);
+        } else {
+            appendNumber(builder, amount);
+            builder.append(' ').append(currencyCode);
+        }
+    }
+
+    private static void appendNumber(StringBuilder builder, MonetaryAmount amount) {
+        final int maxScale = amount.getContext().getMaxScale();
+        if (amount instanceof FastMoney) {
+            FastMoney fastMoney = (FastMoney) amount;
+            if (maxScale == -1 || maxScale >= fastMoney.getScale()) {
+                appendUnscaled(builder, fastMoney.getUnscaledValue(), fastMoney.getScale());
+                return;
+            }
+        }
+        BigDecimal dec = amount.getNumber().numberValue(BigDecimal.class);
+        if (amount instanceof WideMoney && (maxScale == -1 || maxScale >= WideMoney.SCALE)) {
+            builder.append(dec.signum() == 0 ? "0" : dec.stripTrailingZeros().toPlainString());
+            return;
+        }
+        int scale = 2;
+        if (amount instanceof FastMoney || amount instanceof WideMoney) {
+            scale = ((maxScale == -1) ? dec.scale() : ((dec.scale() < maxScale) ? dec.scale() : maxScale));
+        } else {
+            if (amount.getContext().isFixedScale()) {
+                scale = ((maxScale == -1) ? dec.scale() : maxScale);
             } else {
-                if (amount.getContext().isFixedScale()) {
-                    scale = ((maxScale == -1) ? dec.scale() : maxScale);
-                } else {
-                    scale = ((maxScale == -1) ? dec.scale() : ((dec.scale() < maxScale) ? dec.scale() : maxScale));
-                }
+                scale = ((maxScale == -1) ? dec.scale() : ((dec.scale() < maxScale) ? dec.scale() : maxScale));
             }
-            dec = dec.setScale(scale, RoundingMode.HALF_UP);
-            String order = MonetaryConfig.getString("org.javamoney.toStringFormatOrder").orElse("ca");
-            switch(order){
+        }
+        dec = dec.setScale(scale, RoundingMode.HALF_UP);
+        builder.append(dec.toPlainString());
+    }
+
+    /**
+     * Renders {@code unscaledValue * 10^-scale} in plain notation without trailing zeros, matching
+     * {@code BigDecimal.valueOf(unscaledValue, scale).stripTrailingZeros().toPlainString()}, but writing the
+     * digits directly instead of creating a {@link BigDecimal}.
+     */
+    private static void appendUnscaled(StringBuilder builder, long unscaledValue, int scale) {
+        char[] chars = new char[Math.max(19, scale + 1) + 2];
+        int pos = chars.length;
+        // works on the negative value, as Long.MIN_VALUE has no positive counterpart
+        long value = unscaledValue > 0 ? -unscaledValue : unscaledValue;
+        while (scale > 0 && value % 10 == 0) {
+            value /= 10;
+            scale--;
+        }
+        for (int i = 0; i < scale; i++) {
+            chars[--pos] = (char) ('0' - (value % 10));
+            value /= 10;
+        }
+        if (scale > 0) {
+            chars[--pos] = '.';
+        }
+        do {
+            chars[--pos] = (char) ('0' - (value % 10));
+            value /= 10;
+        } while (value != 0);
+        if (unscaledValue < 0) {
+            chars[--pos] = '-';
+        }
+        builder.append(chars, pos, chars.length - pos);
+    }
+
+    /**
+     * Evaluates {@value #FORMAT_ORDER_PROPERTY}, parsing the configured value only when it changed.
+     */
+    private static boolean isCurrencyFirst() {
+        String value = MonetaryConfigSnapshot.current().getString(FORMAT_ORDER_PROPERTY, "ca");
+        FormatOrder order = formatOrder;
+        if (order == null || !order.value.equals(value)) {
+            order = new FormatOrder(value);
+            formatOrder = order;
+        }
+        return order.currencyFirst;
+    }
+
+    private static final class FormatOrder {
+
+        private final String value;
+        private final boolean currencyFirst;
+
+        private FormatOrder(String order) {
+            this.value = order;
+            switch (order) {
                 case "amount-currency":
                 case "amount currency":
                 case "ac":
                 case "a c":
                 case "a-c":
-                    return dec.toPlainString() + " " + m.getCurrency().getCurrencyCode();
+                    this.currencyFirst = false;
+                    break;
                 case "currency-amount":
                 case "currency amount":
                 case "ca":
                 case "c a":
                 case "c-a":
                 default:
-                    return m.getCurrency().getCurrencyCode() + " " + dec.toPlainString();
+                    this.currencyFirst = true;
             }
-        }).orElse("null");
+        }
     }
 
     @Override
@@ -160,8 +259,15 @@ public final class ToStringMonetaryAmountFormat implements MonetaryAmountFormat
     @Override
     public void print(Appendable appendable, MonetaryAmount amount)
             throws IOException {
-        appendable.append(queryFrom(amount));
-
+        if (appendable instanceof StringBuilder) {
+            if (amount == null) {
+                ((StringBuilder) appendable).append("null");
+            } else {
+                appendAmount((StringBuilder) appendable, amount);
+            }
+        } else {
+            appendable.append(queryFrom(amount));
+        }
     }
 
     @Override
@@ -232,6 +338,26 @@ public final class ToStringMonetaryAmountFormat implements MonetaryAmountFormat
             MonetaryAmount to(ParserMonetaryAmount amount) {
                 return RoundedMoney.of(amount.number, amount.currencyUnit);
             }
+        },
+        /**
+         * {@link MicroMoney}, using the scale of the currency, or the scale of the number parsed, if it is bigger.
+         */
+        MICRO_MONEY {
+            @Override
+            MonetaryAmount to(ParserMonetaryAmount amount) {
+                int scale = Math.min(Math.max(MicroMoney.getDefaultScale(amount.currencyUnit), amount.number.scale()),
+                        MicroMoney.MAX_SCALE);
+                return MicroMoney.of(amount.number, amount.currencyUnit, scale);
+            }
+        },
+        /**
+         * {@link WideMoney}
+         */
+        WIDE_MONEY {
+            @Override
+            MonetaryAmount to(ParserMonetaryAmount amount) {
+                return WideMoney.of(amount.number, amount.currencyUnit);
+            }
         };
 
         private static final long serialVersionUID = 6606016328162974467L;
@@ -0,0 +1,352 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+
+/**
+ * Thread-safe implementation of {@link MonetarySummaryStatistics}, which can be shared by the threads of a
+ * parallel stream, see {@link MonetaryFunctions#groupBySummarizingMonetaryConcurrent()}.
+ * <p>
+ * The amounts are accumulated in stripes, selected by the accepting thread, so concurrent threads rarely
+ * contend. {@link FastMoney} amounts are accumulated lock-free: each stripe sums up their unscaled values and
+ * tracks their count, minimum and maximum in atomic {@code long} values updated by compare-and-set, so accepting
+ * {@link FastMoney} amounts neither locks nor creates any objects. Other amounts, {@link FastMoney} amounts whose
+ * unscaled sum would overflow and combined statistics are accumulated in a {@link MoneyAccumulator} guarded by
+ * the monitor of the stripe. The results are evaluated by merging the stripes when accessed, locking only the
+ * stripes that accumulated amounts under their monitor. While amounts are accepted concurrently, the results are
+ * therefore not an atomic snapshot, e.g. the sum may already include an amount not yet counted. As with
+ * {@link DefaultMonetarySummaryStatistics}, amounts of other currencies are ignored.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class ConcurrentMonetarySummaryStatistics implements MonetarySummaryStatistics {
+
+    private static final int STRIPES = stripeCount();
+
+    private final CurrencyUnit currency;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private ConcurrentMonetarySummaryStatistics(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(currency);
+        }
+    }
+
+    /**
+     * Creates a new instance, targeting the given {@link CurrencyUnit}.
+     *
+     * @param currencyUnit the target currency, not null.
+     * @return the new instance, never null.
+     */
+    public static ConcurrentMonetarySummaryStatistics of(CurrencyUnit currencyUnit) {
+        return new ConcurrentMonetarySummaryStatistics(currencyUnit);
+    }
+
+    @Override
+    public void accept(MonetaryAmount amount) {
+        if (!currency.equals(Objects.requireNonNull(amount).getCurrency())) {
+            return;
+        }
+        Stripe stripe = stripes[stripeIndex()];
+        if (amount instanceof FastMoney) {
+            stripe.acceptUnscaled(((FastMoney) amount).getUnscaledValue());
+        } else {
+            synchronized (stripe) {
+                stripe.locked().accept(amount);
+            }
+        }
+    }
+
+    @Override
+    public MonetarySummaryStatistics combine(MonetarySummaryStatistics summaryStatistics) {
+        Objects.requireNonNull(summaryStatistics);
+        if (summaryStatistics == this || summaryStatistics.getCount() == 0
+                || !currency.equals(summaryStatistics.getCurrencyUnit())) {
+            return this;
+        }
+        Stripe stripe = stripes[stripeIndex()];
+        synchronized (stripe) {
+            Totals totals = stripe.locked();
+            totals.count += summaryStatistics.getCount();
+            totals.sum.add(summaryStatistics.getSum());
+            totals.acceptMinMax(summaryStatistics.getMin());
+            totals.acceptMinMax(summaryStatistics.getMax());
+        }
+        return this;
+    }
+
+    @Override
+    public long getCount() {
+        long count = 0L;
+        for (Stripe stripe : stripes) {
+            count += stripe.fastCount.get();
+            if (stripe.hasLocked) {
+                synchronized (stripe) {
+                    count += stripe.totals.count;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public MonetaryAmount getMin() {
+        return merge().getMin();
+    }
+
+    @Override
+    public MonetaryAmount getMax() {
+        return merge().getMax();
+    }
+
+    @Override
+    public MonetaryAmount getSum() {
+        return merge().sum.toAmount();
+    }
+
+    @Override
+    public MonetaryAmount getAverage() {
+        Totals merged = merge();
+        if (merged.count == 0) {
+            return FastMoney.zero(currency);
+        }
+        return merged.sum.toAmount().divide(merged.count);
+    }
+
+    @Override
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    @Override
+    public boolean isExchangeable() {
+        return false;
+    }
+
+    @Override
+    public MonetarySummaryStatistics to(CurrencyUnit unit) {
+        throw new UnsupportedOperationException(
+                "the concurrent implementation of MonetarySummaryStatistics cannot do exchange rate");
+    }
+
+    @Override
+    public String toString() {
+        Totals merged = merge();
+        return "[currency: " + currency + ',' +
+                "count:" + merged.count + ',' +
+                "min:" + merged.getMin() + ',' +
+                "max:" + merged.getMax() + ',' +
+                "sum:" + merged.sum.toAmount() + ']';
+    }
+
+    /**
+     * Merges the stripes into new totals. The lock-free values of a stripe are read without locking, its values
+     * guarded by the monitor are read under the monitor, if there are any.
+     */
+    private Totals merge() {
+        Totals merged = new Totals(currency);
+        for (Stripe stripe : stripes) {
+            // the count is updated last on accepting, so the minimum and maximum are set if it is positive
+            long fastCount = stripe.fastCount.get();
+            if (fastCount > 0) {
+                merged.count += fastCount;
+                merged.sum.add(FastMoney.ofUnscaled(stripe.fastSum.get(), currency));
+                merged.acceptUnscaledMinMax(stripe.fastMin.get(), stripe.fastMax.get());
+            }
+            if (stripe.hasLocked) {
+                synchronized (stripe) {
+                    Totals totals = stripe.totals;
+                    merged.count += totals.count;
+                    merged.sum.combine(totals.sum);
+                    if (totals.min != null) {
+                        merged.acceptMinMax(totals.min);
+                        merged.acceptMinMax(totals.max);
+                    }
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash >>> 16) & (STRIPES - 1);
+    }
+
+    private static int stripeCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1;
+    }
+
+    /**
+     * The statistics accumulated by a subset of the threads. The {@link FastMoney} amounts are accumulated
+     * lock-free, the other amounts in totals guarded by the monitor of the stripe.
+     */
+    private static final class Stripe {
+
+        private final CurrencyUnit currency;
+
+        /**
+         * The sum of the unscaled values of the {@link FastMoney} amounts, as far as not overflowing.
+         */
+        private final AtomicLong fastSum = new AtomicLong();
+
+        private final AtomicLong fastCount = new AtomicLong();
+
+        private final AtomicLong fastMin = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong fastMax = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * Whether {@link #totals} were accessed, so the getters skip locking stripes never accessed.
+         */
+        private volatile boolean hasLocked;
+
+        /**
+         * The totals of the other amounts, guarded by the monitor of this stripe.
+         */
+        private final Totals totals;
+
+        Stripe(CurrencyUnit currency) {
+            this.currency = currency;
+            this.totals = new Totals(currency);
+        }
+
+        /**
+         * Access the totals guarded by the monitor, to be called holding it.
+         */
+        Totals locked() {
+            hasLocked = true;
+            return totals;
+        }
+
+        void acceptUnscaled(long value) {
+            if (!addUnscaled(value)) {
+                synchronized (this) {
+                    locked().sum.add(FastMoney.ofUnscaled(value, currency));
+                }
+            }
+            long current;
+            while (value > (current = fastMax.get()) && !fastMax.compareAndSet(current, value)) {
+                // retry
+            }
+            while (value < (current = fastMin.get()) && !fastMin.compareAndSet(current, value)) {
+                // retry
+            }
+            fastCount.incrementAndGet();
+        }
+
+        /**
+         * Adds the unscaled value to {@link #fastSum}.
+         *
+         * @return false, if the sum would overflow, so the value was not added.
+         */
+        private boolean addUnscaled(long value) {
+            while (true) {
+                long current = fastSum.get();
+                long next = current + value;
+                if (((current ^ next) & (value ^ next)) < 0) {
+                    return false;
+                }
+                if (fastSum.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Statistics, which are not thread-safe, holding the totals guarded by a stripe or the merged stripes.
+     */
+    private static final class Totals {
+
+        private final CurrencyUnit currency;
+
+        private final MoneyAccumulator sum;
+
+        private long count;
+
+        /**
+         * Whether the unscaled minimum and maximum of {@link FastMoney} amounts are set.
+         */
+        private boolean hasUnscaled;
+
+        private long minUnscaled = Long.MAX_VALUE;
+
+        private long maxUnscaled = Long.MIN_VALUE;
+
+        /**
+         * The minimum and maximum of the other amounts, {@code null} if there are none.
+         */
+        private MonetaryAmount min;
+
+        private MonetaryAmount max;
+
+        Totals(CurrencyUnit currency) {
+            this.currency = currency;
+            this.sum = MoneyAccumulator.of(currency);
+        }
+
+        void accept(MonetaryAmount amount) {
+            sum.add(amount);
+            count++;
+            acceptMinMax(amount);
+        }
+
+        void acceptUnscaledMinMax(long minValue, long maxValue) {
+            minUnscaled = Math.min(minUnscaled, minValue);
+            maxUnscaled = Math.max(maxUnscaled, maxValue);
+            hasUnscaled = true;
+        }
+
+        void acceptMinMax(MonetaryAmount amount) {
+            if (min == null) {
+                min = amount;
+                max = amount;
+            } else {
+                min = MonetaryFunctions.min(min, amount);
+                max = MonetaryFunctions.max(max, amount);
+            }
+        }
+
+        MonetaryAmount getMin() {
+            if (!hasUnscaled) {
+                return min == null ? FastMoney.zero(currency) : min;
+            }
+            MonetaryAmount fastMin = FastMoney.ofUnscaled(minUnscaled, currency);
+            return min == null ? fastMin : MonetaryFunctions.min(fastMin, min);
+        }
+
+        MonetaryAmount getMax() {
+            if (!hasUnscaled) {
+                return max == null ? FastMoney.zero(currency) : max;
+            }
+            MonetaryAmount fastMax = FastMoney.ofUnscaled(maxUnscaled, currency);
+            return max == null ? fastMax : MonetaryFunctions.max(fastMax, max);
+        }
+    }
+}
@@ -42,6 +42,9 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
 
     protected MonetaryAmount sum;
 
+    /**
+     * The average, evaluated lazily by {@link #getAverage()}, {@code null} if not yet evaluated.
+     */
     protected MonetaryAmount average;
 
     /**
@@ -90,22 +93,48 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
             MonetarySummaryStatistics summaryStatistics) {
         Objects.requireNonNull(summaryStatistics);
 
-        if (!equals(summaryStatistics)) {
+        if (!equals(summaryStatistics) || summaryStatistics.getCount() == 0) {
             return this;
         }
-        min = MonetaryFunctions.min(min, summaryStatistics.getMin());
-        max = MonetaryFunctions.max(max, summaryStatistics.getMax());
+        if (isEmpty()) {
+            min = summaryStatistics.getMin();
+            max = summaryStatistics.getMax();
+        } else {
+            min = min(min, summaryStatistics.getMin());
+            max = max(max, summaryStatistics.getMax());
+        }
         sum = sum.add(summaryStatistics.getSum());
         count += summaryStatistics.getCount();
-        average = sum.divide(count);
+        average = null;
         return this;
     }
 
     private void doSummary(MonetaryAmount monetaryAmount) {
-        min = MonetaryFunctions.min(min, monetaryAmount);
-        max = MonetaryFunctions.max(max, monetaryAmount);
+        min = min(min, monetaryAmount);
+        max = max(max, monetaryAmount);
         sum = sum.add(monetaryAmount);
-        average = sum.divide(++count);
+        count++;
+        average = null;
+    }
+
+    /**
+     * Evaluates the minimum of two amounts of the currency of this instance, comparing {@link FastMoney} amounts
+     * by their unscaled values.
+     */
+    private static MonetaryAmount min(MonetaryAmount current, MonetaryAmount amount) {
+        if (current instanceof FastMoney && amount instanceof FastMoney) {
+            return ((FastMoney) amount).getUnscaledValue() < ((FastMoney) current).getUnscaledValue() ? amount
+                    : current;
+        }
+        return MonetaryFunctions.min(current, amount);
+    }
+
+    private static MonetaryAmount max(MonetaryAmount current, MonetaryAmount amount) {
+        if (current instanceof FastMoney && amount instanceof FastMoney) {
+            return ((FastMoney) amount).getUnscaledValue() > ((FastMoney) current).getUnscaledValue() ? amount
+                    : current;
+        }
+        return MonetaryFunctions.max(current, amount);
     }
 
     private boolean isEmpty() {
@@ -145,6 +174,9 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
 
     @Override
     public MonetaryAmount getAverage() {
+        if (average == null) {
+            average = isEmpty() ? empty : sum.divide(count);
+        }
         return average;
     }
 
@@ -171,7 +203,7 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
                 "min:" + min + ',' +
                 "max:" + max + ',' +
                 "sum:" + sum + ',' +
-                "average:" + average + ']';
+                "average:" + getAverage() + ']';
     }
 
     @Override
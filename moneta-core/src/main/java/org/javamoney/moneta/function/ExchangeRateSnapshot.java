@@ -0,0 +1,104 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.convert.ExchangeRateProvider;
+
+import org.javamoney.moneta.spi.MoneyUtils;
+
+/**
+ * The exchange rates of a {@link ExchangeRateProvider} into one currency, each resolved once when first needed
+ * and retained afterwards. Values evaluated with a snapshot are therefore consistent with each other, even if
+ * the provider's rates change meanwhile, which makes them suitable as sort keys.
+ */
+final class ExchangeRateSnapshot {
+
+    private final ExchangeRateProvider provider;
+
+    private final CurrencyUnit currency;
+
+    private final Map<CurrencyUnit, BigDecimal> factors = new ConcurrentHashMap<>();
+
+    ExchangeRateSnapshot(ExchangeRateProvider provider, CurrencyUnit currency) {
+        this.provider = Objects.requireNonNull(provider);
+        this.currency = Objects.requireNonNull(currency);
+    }
+
+    /**
+     * Evaluates the value of an amount in the currency of this snapshot.
+     *
+     * @param amount the amount, not null.
+     * @return the exact value of the amount, converted with the snapshot's rate, never null.
+     * @throws javax.money.convert.CurrencyConversionException if no rate is available for the amount's currency.
+     */
+    BigDecimal valueOf(MonetaryAmount amount) {
+        BigDecimal number = MoneyUtils.getBigDecimal(amount.getNumber());
+        CurrencyUnit amountCurrency = amount.getCurrency();
+        if (currency.equals(amountCurrency)) {
+            return number;
+        }
+        return number.multiply(factors.computeIfAbsent(amountCurrency, this::resolveFactor));
+    }
+
+    /**
+     * Sorts amounts by their values in the currency of this snapshot, evaluating the value of each amount once.
+     * The sort is stable.
+     *
+     * @param amounts the amounts, not null.
+     * @param comparator the comparator of the values, not null.
+     */
+    <T extends MonetaryAmount> void sort(List<T> amounts, Comparator<BigDecimal> comparator) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ValuedAmount<T>[] valued = new ValuedAmount[amounts.size()];
+        int index = 0;
+        for (T amount : amounts) {
+            valued[index++] = new ValuedAmount<>(valueOf(amount), amount);
+        }
+        Arrays.sort(valued, (v1, v2) -> comparator.compare(v1.value, v2.value));
+        ListIterator<T> iterator = amounts.listIterator();
+        for (ValuedAmount<T> element : valued) {
+            iterator.next();
+            iterator.set(element.amount);
+        }
+    }
+
+    private BigDecimal resolveFactor(CurrencyUnit base) {
+        return MoneyUtils.getBigDecimal(provider.getExchangeRate(base, currency).getFactor());
+    }
+
+    private static final class ValuedAmount<T> {
+
+        private final BigDecimal value;
+
+        private final T amount;
+
+        ValuedAmount(BigDecimal value, T amount) {
+            this.value = value;
+            this.amount = amount;
+        }
+    }
+}
@@ -38,10 +38,7 @@ public class GroupMonetarySummaryStatistics {
 
     public GroupMonetarySummaryStatistics accept(MonetaryAmount amount) {
         CurrencyUnit currency = Objects.requireNonNull(amount).getCurrency();
-        groupSummary.putIfAbsent(currency, new DefaultMonetarySummaryStatistics(
-                currency));
-		MonetarySummaryStatistics summary = groupSummary.get(currency);
-        summary.accept(amount);
+        groupSummary.computeIfAbsent(currency, DefaultMonetarySummaryStatistics::new).accept(amount);
         return this;
     }
 
@@ -70,8 +67,7 @@ public class GroupMonetarySummaryStatistics {
         Objects.requireNonNull(another);
 
         for (CurrencyUnit keyCurrency : another.groupSummary.keySet()) {
-            groupSummary.putIfAbsent(keyCurrency,
-                    new DefaultMonetarySummaryStatistics(keyCurrency));
+            groupSummary.computeIfAbsent(keyCurrency, DefaultMonetarySummaryStatistics::new);
 			groupSummary.merge(keyCurrency,
 					another.groupSummary.get(keyCurrency),
 					MonetarySummaryStatistics::combine);
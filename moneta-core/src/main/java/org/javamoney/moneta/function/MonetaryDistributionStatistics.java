@@ -0,0 +1,501 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+/**
+ * Statistics on the distribution of {@link MonetaryAmount}s of one currency, evaluated in a single pass and in
+ * bounded memory. Besides count, sum, minimum, maximum and average, as provided by
+ * {@link MonetarySummaryStatistics}, the statistics offer
+ * <ul>
+ * <li>the variance and standard deviation, evaluated with Welford's algorithm,</li>
+ * <li>approximate quantiles, such as the median or the 99th percentile, and</li>
+ * <li>approximate histograms.</li>
+ * </ul>
+ * Quantiles are evaluated from a sketch of logarithmically sized buckets (as in DDSketch), so a quantile differs
+ * from the exact value by at most the relative accuracy given on creation, as long as the number of buckets
+ * does not exceed the maximal number given. Beyond that, the buckets of the smallest absolute values are
+ * collapsed, so the accuracy of the high quantiles is retained.
+ * <p>
+ * Statistics can be combined, e.g. from the segments of a parallel stream, see
+ * {@link MonetaryFunctions#distributionMonetary(CurrencyUnit)}. Instances are not thread-safe.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class MonetaryDistributionStatistics implements Consumer<MonetaryAmount> {
+
+    /**
+     * The default relative accuracy of quantiles.
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    /**
+     * The default maximal number of buckets, per sign, which covers amounts from 0.01 to 10^16 with the
+     * default accuracy.
+     */
+    public static final int DEFAULT_MAX_BUCKETS = 2048;
+
+    private final CurrencyUnit currency;
+
+    private final double relativeAccuracy;
+
+    private final double gamma;
+
+    private final double logGamma;
+
+    private final MathContext quantileContext;
+
+    private final MoneyAccumulator sum;
+
+    private long count;
+
+    private MonetaryAmount min;
+
+    private MonetaryAmount max;
+
+    /**
+     * The running mean and sum of squared differences from the mean, see Welford's algorithm.
+     */
+    private double mean;
+
+    private double squaredDifferences;
+
+    private long zeroCount;
+
+    private final Buckets positive;
+
+    private final Buckets negative;
+
+    private MonetaryDistributionStatistics(CurrencyUnit currency, double relativeAccuracy, int maxBuckets) {
+        this.currency = Objects.requireNonNull(currency);
+        if (!(relativeAccuracy > 0.0 && relativeAccuracy < 1.0)) {
+            throw new IllegalArgumentException("Relative accuracy must be in (0, 1): " + relativeAccuracy);
+        }
+        if (maxBuckets < 2) {
+            throw new IllegalArgumentException("Max buckets must be at least 2: " + maxBuckets);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1.0 + relativeAccuracy) / (1.0 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.quantileContext = new MathContext((int) Math.ceil(-Math.log10(relativeAccuracy)) + 2);
+        this.sum = MoneyAccumulator.of(currency);
+        this.positive = new Buckets(maxBuckets);
+        this.negative = new Buckets(maxBuckets);
+    }
+
+    /**
+     * Creates new statistics with the {@link #DEFAULT_RELATIVE_ACCURACY default accuracy}.
+     *
+     * @param currencyUnit the currency of the amounts, not null.
+     * @return the new statistics, never null.
+     */
+    public static MonetaryDistributionStatistics of(CurrencyUnit currencyUnit) {
+        return new MonetaryDistributionStatistics(currencyUnit, DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BUCKETS);
+    }
+
+    /**
+     * Creates new statistics.
+     *
+     * @param currencyUnit     the currency of the amounts, not null.
+     * @param relativeAccuracy the relative accuracy of quantiles, e.g. {@code 0.01} for 1%.
+     * @param maxBuckets       the maximal number of buckets per sign, bounding the memory used.
+     * @return the new statistics, never null.
+     */
+    public static MonetaryDistributionStatistics of(CurrencyUnit currencyUnit, double relativeAccuracy,
+                                                    int maxBuckets) {
+        return new MonetaryDistributionStatistics(currencyUnit, relativeAccuracy, maxBuckets);
+    }
+
+    /**
+     * Adds an amount to the statistics.
+     *
+     * @param amount the amount, not null.
+     * @throws MonetaryException if the amount has another currency.
+     */
+    @Override
+    public void accept(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        sum.add(amount);
+        count++;
+        if (min == null) {
+            min = amount;
+            max = amount;
+        } else {
+            min = MonetaryFunctions.min(min, amount);
+            max = MonetaryFunctions.max(max, amount);
+        }
+        double value = toDouble(amount);
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDifferences += delta * (value - mean);
+        addToSketch(value, 1L);
+    }
+
+    /**
+     * Adds the amounts accepted by other statistics to these statistics. The quantiles evaluated afterwards
+     * have the accuracy of these statistics.
+     *
+     * @param other the other statistics, not null.
+     * @return these statistics, for chaining.
+     * @throws MonetaryException if the other statistics have another currency.
+     */
+    public MonetaryDistributionStatistics combine(MonetaryDistributionStatistics other) {
+        Objects.requireNonNull(other);
+        if (!currency.getCurrencyCode().equals(other.currency.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other.currency);
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        long otherZeroCount = other.zeroCount;
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = MonetaryFunctions.min(min, other.min);
+            max = MonetaryFunctions.max(max, other.max);
+        }
+        sum.combine(other.sum);
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        squaredDifferences += other.squaredDifferences + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        zeroCount += otherZeroCount;
+        other.positive.forEach((index, bucketCount) -> addToSketch(other.getValue(index), bucketCount));
+        other.negative.forEach((index, bucketCount) -> addToSketch(-other.getValue(index), bucketCount));
+        return this;
+    }
+
+    /**
+     * Access the currency of the amounts.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    /**
+     * Access the number of amounts accepted.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Access the exact sum of the amounts.
+     *
+     * @return the sum, zero if no amount was accepted.
+     */
+    public MonetaryAmount getSum() {
+        return sum.toAmount();
+    }
+
+    /**
+     * Access the minimal amount.
+     *
+     * @return the minimum, zero if no amount was accepted.
+     */
+    public MonetaryAmount getMin() {
+        return min == null ? FastMoney.zero(currency) : min;
+    }
+
+    /**
+     * Access the maximal amount.
+     *
+     * @return the maximum, zero if no amount was accepted.
+     */
+    public MonetaryAmount getMax() {
+        return max == null ? FastMoney.zero(currency) : max;
+    }
+
+    /**
+     * Access the average of the amounts.
+     *
+     * @return the average, zero if no amount was accepted.
+     */
+    public MonetaryAmount getAverage() {
+        if (count == 0) {
+            return FastMoney.zero(currency);
+        }
+        return sum.toAmount().divide(count);
+    }
+
+    /**
+     * Access the population variance of the amounts. The variance is in units of the currency squared, so it
+     * is not returned as an amount.
+     *
+     * @return the variance, {@code 0} if less than two amounts were accepted.
+     */
+    public double getVariance() {
+        return count < 2 ? 0.0 : squaredDifferences / count;
+    }
+
+    /**
+     * Access the sample variance of the amounts, i.e. using Bessel's correction.
+     *
+     * @return the sample variance, {@code 0} if less than two amounts were accepted.
+     */
+    public double getSampleVariance() {
+        return count < 2 ? 0.0 : squaredDifferences / (count - 1);
+    }
+
+    /**
+     * Access the population standard deviation of the amounts.
+     *
+     * @return the standard deviation, zero if less than two amounts were accepted.
+     */
+    public MonetaryAmount getStandardDeviation() {
+        return Money.of(BigDecimal.valueOf(Math.sqrt(getVariance())).round(MathContext.DECIMAL64), currency);
+    }
+
+    /**
+     * Evaluates an approximate quantile of the amounts. The quantiles {@code 0} and {@code 1} are the exact
+     * minimum and maximum.
+     *
+     * @param quantile the quantile, e.g. {@code 0.5} for the median and {@code 0.99} for the 99th percentile.
+     * @return the approximate quantile, zero if no amount was accepted.
+     * @throws IllegalArgumentException if the quantile is not in the range {@code [0, 1]}.
+     */
+    public MonetaryAmount getQuantile(double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]: " + quantile);
+        }
+        if (count == 0) {
+            return FastMoney.zero(currency);
+        }
+        if (quantile == 0.0) {
+            return getMin();
+        }
+        if (quantile == 1.0) {
+            return getMax();
+        }
+        long rank = (long) (quantile * (count - 1));
+        double value = getValueAtRank(rank);
+        MonetaryAmount result = Money.of(new BigDecimal(value).round(quantileContext), currency);
+        if (result.isLessThan(min)) {
+            return min;
+        }
+        return result.isGreaterThan(max) ? max : result;
+    }
+
+    /**
+     * Evaluates an approximate histogram of the amounts.
+     *
+     * @param upperBounds the inclusive upper bounds of the histogram buckets, in ascending order.
+     * @return the counts per bucket, the last element holding the count of amounts above the last bound, so the
+     * length of the array returned is {@code upperBounds.length + 1}.
+     * @throws IllegalArgumentException if the bounds are not in ascending order.
+     */
+    public long[] getHistogram(Number... upperBounds) {
+        double[] bounds = new double[upperBounds.length];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = MoneyUtils.getBigDecimal(upperBounds[i]).doubleValue();
+            if (i > 0 && bounds[i] < bounds[i - 1]) {
+                throw new IllegalArgumentException("Bounds must be in ascending order.");
+            }
+        }
+        long[] histogram = new long[bounds.length + 1];
+        positive.forEach((index, bucketCount) -> histogram[bucketOf(bounds, getValue(index))] += bucketCount);
+        negative.forEach((index, bucketCount) -> histogram[bucketOf(bounds, -getValue(index))] += bucketCount);
+        histogram[bucketOf(bounds, 0.0)] += zeroCount;
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryDistributionStatistics [currency: " + currency + ", count: " + count + ", min: " + getMin()
+                + ", max: " + getMax() + ", sum: " + getSum() + ", variance: " + getVariance()
+                + ", relativeAccuracy: " + relativeAccuracy + ']';
+    }
+
+    private void addToSketch(double value, long bucketCount) {
+        if (value > Double.MIN_NORMAL) {
+            positive.add(getIndex(value), bucketCount);
+        } else if (value < -Double.MIN_NORMAL) {
+            negative.add(getIndex(-value), bucketCount);
+        } else {
+            zeroCount += bucketCount;
+        }
+    }
+
+    private double getValueAtRank(long rank) {
+        long[] remaining = {rank};
+        double[] result = {Double.NaN};
+        negative.forEachDescending((index, bucketCount) -> {
+            remaining[0] -= bucketCount;
+            if (remaining[0] < 0) {
+                result[0] = -getValue(index);
+                return false;
+            }
+            return true;
+        });
+        if (!Double.isNaN(result[0])) {
+            return result[0];
+        }
+        remaining[0] -= zeroCount;
+        if (remaining[0] < 0) {
+            return 0.0;
+        }
+        positive.forEachAscending((index, bucketCount) -> {
+            remaining[0] -= bucketCount;
+            if (remaining[0] < 0) {
+                result[0] = getValue(index);
+                return false;
+            }
+            return true;
+        });
+        return Double.isNaN(result[0]) ? toDouble(getMax()) : result[0];
+    }
+
+    private int getIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * Evaluates the representative value of a bucket, having a relative distance of at most the relative
+     * accuracy to all values of the bucket.
+     */
+    private double getValue(int index) {
+        return 2.0 * Math.pow(gamma, index) / (gamma + 1.0);
+    }
+
+    private static int bucketOf(double[] bounds, double value) {
+        int position = Arrays.binarySearch(bounds, value);
+        if (position >= 0) {
+            while (position > 0 && bounds[position - 1] == value) {
+                position--;
+            }
+            return position;
+        }
+        return -position - 1;
+    }
+
+    private static double toDouble(MonetaryAmount amount) {
+        return amount.getNumber().doubleValue();
+    }
+
+    /**
+     * The counts of a contiguous range of bucket indexes. If the range exceeds the maximal number of buckets,
+     * the lowest buckets are collapsed into the lowest bucket retained.
+     */
+    private static final class Buckets {
+
+        private final int maxBuckets;
+
+        private long[] counts = new long[0];
+
+        private int offset;
+
+        Buckets(int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+
+        void add(int index, long count) {
+            if (counts.length == 0) {
+                counts = new long[Math.min(maxBuckets, 64)];
+                offset = index - counts.length / 2;
+            } else if (index < offset) {
+                // once at the maximal number of buckets, lower values are collapsed into the lowest bucket
+                if (counts.length < maxBuckets) {
+                    grow(index);
+                }
+            } else if (index >= offset + counts.length) {
+                grow(index);
+            }
+            counts[Math.max(index, offset) - offset] += count;
+        }
+
+        private void grow(int index) {
+            int low = Math.min(offset, index);
+            int high = Math.max(offset + counts.length - 1, index);
+            int slack = Math.max(0, Math.min(Math.max(16, counts.length / 2), maxBuckets - (high - low + 1)));
+            if (index < offset) {
+                low -= slack;
+            } else {
+                high += slack;
+            }
+            if (high - low + 1 > maxBuckets) {
+                low = high - maxBuckets + 1;
+            }
+            long[] newCounts = new long[high - low + 1];
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    newCounts[Math.max(offset + i, low) - low] += counts[i];
+                }
+            }
+            counts = newCounts;
+            offset = low;
+        }
+
+        /**
+         * Passes the non-empty buckets to the consumer. The buckets are iterated as of the start of the call, so
+         * the consumer may add to this instance, as when combining statistics with themselves.
+         */
+        void forEach(BucketConsumer consumer) {
+            long[] snapshot = counts.clone();
+            int base = offset;
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] != 0) {
+                    consumer.accept(base + i, snapshot[i]);
+                }
+            }
+        }
+
+        void forEachAscending(BucketVisitor visitor) {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0 && !visitor.visit(offset + i, counts[i])) {
+                    return;
+                }
+            }
+        }
+
+        void forEachDescending(BucketVisitor visitor) {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0 && !visitor.visit(offset + i, counts[i])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface BucketConsumer {
+        void accept(int index, long count);
+    }
+
+    @FunctionalInterface
+    private interface BucketVisitor {
+        boolean visit(int index, long count);
+    }
+}
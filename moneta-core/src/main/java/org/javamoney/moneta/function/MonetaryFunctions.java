@@ -16,9 +16,12 @@
 package org.javamoney.moneta.function;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -66,6 +69,85 @@ public final class MonetaryFunctions {
 		return Collector.of(supplier, MonetarySummaryStatistics::accept, MonetarySummaryStatistics::combine);
     }
 
+    /**
+     * Creates a collector of the distribution of {@link MonetaryAmount}s of the given currency, providing the
+     * variance and approximate quantiles in bounded memory, see {@link MonetaryDistributionStatistics}.
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}
+     * @return the collector, not null.
+     * @throws MonetaryException if an amount with another currency is collected
+     * @since 1.5
+     */
+    public static Collector<MonetaryAmount, MonetaryDistributionStatistics, MonetaryDistributionStatistics>
+    distributionMonetary(CurrencyUnit currencyUnit){
+        Objects.requireNonNull(currencyUnit);
+        return Collector.of(() -> MonetaryDistributionStatistics.of(currencyUnit),
+                MonetaryDistributionStatistics::accept, MonetaryDistributionStatistics::combine);
+    }
+
+    /**
+     * Creates a collector of the distributions of {@link MonetaryAmount}s per currency, see
+     * {@link MonetaryDistributionStatistics}.
+     * @return the collector, not null.
+     * @since 1.5
+     */
+    public static Collector<MonetaryAmount, ?, Map<CurrencyUnit, MonetaryDistributionStatistics>>
+    groupByDistributionMonetary(){
+        return Collector.of(HashMap::new,
+                (Map<CurrencyUnit, MonetaryDistributionStatistics> map, MonetaryAmount amount) ->
+                        map.computeIfAbsent(Objects.requireNonNull(amount).getCurrency(),
+                                MonetaryDistributionStatistics::of).accept(amount),
+                (left, right) -> {
+                    right.forEach((currency, statistics) -> left.merge(currency, statistics,
+                            MonetaryDistributionStatistics::combine));
+                    return left;
+                });
+    }
+
+    /**
+     * Creates a collector summing up {@link MonetaryAmount}s of the given currency. The amounts are accumulated
+     * in a mutable {@link MoneyAccumulator}, so no intermediate amounts are created.
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}
+     * @return the sum, a {@link org.javamoney.moneta.FastMoney} if it can be represented exactly, otherwise a
+     * {@link org.javamoney.moneta.Money}.
+     * @throws MonetaryException if an amount with another currency is collected
+     * @since 1.5
+     */
+    public static Collector<MonetaryAmount, MoneyAccumulator, MonetaryAmount> summingMonetary(
+            CurrencyUnit currencyUnit){
+        Objects.requireNonNull(currencyUnit);
+        return Collector.of(() -> MoneyAccumulator.of(currencyUnit), MoneyAccumulator::add,
+                MoneyAccumulator::combine, MoneyAccumulator::toAmount);
+    }
+
+    /**
+     * Creates a collector summing up {@link MonetaryAmount}s per currency in a single pass, see
+     * {@link MonetaryTotals}. Other than {@link #summingMonetary(CurrencyUnit)}, amounts of different currencies
+     * are accepted, and other than {@link #groupByCurrencyUnit()}, no amounts are retained.
+     * @return the collector, not null.
+     * @since 1.5
+     */
+    public static Collector<MonetaryAmount, MonetaryTotals, MonetaryTotals> summingMonetaryByCurrency(){
+        return Collector.of(MonetaryTotals::of, MonetaryTotals::accept, MonetaryTotals::combine,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Creates a collector summing up {@link MonetaryAmount}s of any currency into the given currency. The
+     * amounts are summed up per currency first, so each currency total is converted only once, see
+     * {@link MonetaryTotals#getTotal(CurrencyUnit, ExchangeRateProvider)}.
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}
+     * @param provider the rate provider to be used, not null.
+     * @return the collector, not null.
+     * @since 1.5
+     */
+    public static Collector<MonetaryAmount, MonetaryTotals, MonetaryAmount> summingMonetary(
+            CurrencyUnit currencyUnit, ExchangeRateProvider provider){
+        Objects.requireNonNull(currencyUnit);
+        Objects.requireNonNull(provider);
+        return Collector.of(MonetaryTotals::of, MonetaryTotals::accept, MonetaryTotals::combine,
+                totals -> totals.getTotal(currencyUnit, provider), Collector.Characteristics.UNORDERED);
+    }
+
     /**
      * of MonetaryAmount group by MonetarySummary
      * @return the MonetarySummaryStatistics
@@ -76,6 +158,27 @@ public final class MonetaryFunctions {
                             GroupMonetarySummaryStatistics::combine);
     }
 
+    /**
+     * Creates a concurrent collector of the {@link MonetarySummaryStatistics} per currency. Other than
+     * {@link #groupBySummarizingMonetary()}, all threads of a parallel stream accumulate into one shared map of
+     * {@link ConcurrentMonetarySummaryStatistics}, so no partial results have to be combined.
+     * @return the collector, the map returned holds no entries for currencies not collected.
+     * @since 1.5
+     */
+    public static Collector<MonetaryAmount, ?, ConcurrentMap<CurrencyUnit, MonetarySummaryStatistics>>
+    groupBySummarizingMonetaryConcurrent(){
+        return Collector.of(ConcurrentHashMap::new,
+                (map, amount) -> map.computeIfAbsent(Objects.requireNonNull(amount).getCurrency(),
+                        ConcurrentMonetarySummaryStatistics::of).accept(amount),
+                (left, right) -> {
+                    right.forEach((currency, statistics) -> left.merge(currency, statistics,
+                            MonetarySummaryStatistics::combine));
+                    return left;
+                },
+                Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Get a comparator for sorting CurrencyUnits ascending.
      *
@@ -93,14 +196,64 @@ public final class MonetaryFunctions {
 	 */
 	public static Comparator<? super MonetaryAmount> sortValuable(
 			ExchangeRateProvider provider) {
-
+		Objects.requireNonNull(provider);
+		Map<CurrencyUnit, CurrencyConversion> conversions = new ConcurrentHashMap<>();
 		return (m1, m2) -> {
-			CurrencyConversion conversion = provider.getCurrencyConversion(m1
-					.getCurrency());
+			CurrencyConversion conversion = conversions.computeIfAbsent(
+					m1.getCurrency(), provider::getCurrencyConversion);
 			return m1.compareTo(conversion.apply(m2));
 		};
 	}
 
+	/**
+	 * Comparator to sort {@link MonetaryAmount}s by their values in the given
+	 * currency. The rate of each currency is resolved once, when first
+	 * needed, and retained by the comparator, so the comparator is consistent
+	 * and transitive, even if the provider's rates change during a sort.
+	 * @param provider the rate provider to be used, not null.
+	 * @param currencyUnit the currency the amounts are compared in, not null.
+	 * @return the comparator, not null.
+	 * @since 1.5
+	 */
+	public static Comparator<MonetaryAmount> sortValuable(
+			ExchangeRateProvider provider, CurrencyUnit currencyUnit) {
+		ExchangeRateSnapshot snapshot = new ExchangeRateSnapshot(provider, currencyUnit);
+		return Comparator.comparing(snapshot::valueOf);
+	}
+
+	/**
+	 * Sorts {@link MonetaryAmount}s by their values in the given currency.
+	 * Other than sorting with {@link #sortValuable(ExchangeRateProvider)},
+	 * each amount is converted only once, before sorting, and the rate of each
+	 * currency is resolved only once. The sort is stable.
+	 * @param amounts the amounts to be sorted, not null.
+	 * @param provider the rate provider to be used, not null.
+	 * @param currencyUnit the currency the amounts are compared in, not null.
+	 * @param <T> the type of the amounts
+	 * @since 1.5
+	 */
+	public static <T extends MonetaryAmount> void sortValuable(List<T> amounts,
+			ExchangeRateProvider provider, CurrencyUnit currencyUnit) {
+		new ExchangeRateSnapshot(provider, currencyUnit).sort(
+				Objects.requireNonNull(amounts), Comparator.naturalOrder());
+	}
+
+	/**
+	 * Sorts {@link MonetaryAmount}s by their values in the given currency in
+	 * descending order, see
+	 * {@link #sortValuable(List, ExchangeRateProvider, CurrencyUnit)}.
+	 * @param amounts the amounts to be sorted, not null.
+	 * @param provider the rate provider to be used, not null.
+	 * @param currencyUnit the currency the amounts are compared in, not null.
+	 * @param <T> the type of the amounts
+	 * @since 1.5
+	 */
+	public static <T extends MonetaryAmount> void sortValuableDesc(List<T> amounts,
+			ExchangeRateProvider provider, CurrencyUnit currencyUnit) {
+		new ExchangeRateSnapshot(provider, currencyUnit).sort(
+				Objects.requireNonNull(amounts), Comparator.reverseOrder());
+	}
+
 	/**
 	 * comparator to sort the {@link MonetaryAmount} considering the
 	 * {@link ExchangeRate}
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.money.CurrencyUnit;
 
@@ -120,6 +121,12 @@ class MonetarySummaryMap implements
         return v;
     }
 
+    @Override
+    public MonetarySummaryStatistics computeIfAbsent(CurrencyUnit key,
+            Function<? super CurrencyUnit, ? extends MonetarySummaryStatistics> mappingFunction) {
+        return statisticsMap.computeIfAbsent(key, mappingFunction);
+    }
+
     @Override
     public int hashCode() {
         return statisticsMap.hashCode();
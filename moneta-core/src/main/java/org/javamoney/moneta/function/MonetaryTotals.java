@@ -0,0 +1,165 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRateProvider;
+
+import org.javamoney.moneta.FastMoney;
+
+/**
+ * The sums of {@link MonetaryAmount}s per currency, accumulated in a single pass. Other than
+ * {@link MonetaryFunctions#sum()}, amounts of different currencies never cause a
+ * {@link javax.money.MonetaryException}, and other than {@link MonetaryFunctions#groupByCurrencyUnit()}, the
+ * amounts are not retained: each currency is summed up in a {@link MoneyAccumulator}, which adds
+ * {@link FastMoney} amounts as primitive {@code long} values.
+ * <p>
+ * Totals can be combined, e.g. from the segments of a parallel stream, see
+ * {@link MonetaryFunctions#summingMonetaryByCurrency()}. Instances are not thread-safe.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class MonetaryTotals implements Consumer<MonetaryAmount> {
+
+    private final Map<CurrencyUnit, MoneyAccumulator> sums = new HashMap<>();
+
+    /**
+     * The accumulator used last, as amounts of the same currency often come in runs.
+     */
+    private MoneyAccumulator last;
+
+    private MonetaryTotals() {
+    }
+
+    /**
+     * Creates new, empty totals.
+     *
+     * @return the new totals, never null.
+     */
+    public static MonetaryTotals of() {
+        return new MonetaryTotals();
+    }
+
+    /**
+     * Adds an amount to the total of its currency.
+     *
+     * @param amount the amount, not null.
+     */
+    @Override
+    public void accept(MonetaryAmount amount) {
+        getAccumulator(Objects.requireNonNull(amount).getCurrency()).add(amount);
+    }
+
+    /**
+     * Adds the totals of other totals to these totals.
+     *
+     * @param other the other totals, not null.
+     * @return these totals, for chaining.
+     */
+    public MonetaryTotals combine(MonetaryTotals other) {
+        Objects.requireNonNull(other);
+        if (other == this) {
+            sums.values().forEach(sum -> sum.combine(sum));
+            return this;
+        }
+        other.sums.forEach((currency, sum) -> getAccumulator(currency).combine(sum));
+        return this;
+    }
+
+    /**
+     * Access the currencies, which amounts were accepted of.
+     *
+     * @return the currencies, never null.
+     */
+    public Set<CurrencyUnit> getCurrencies() {
+        return Collections.unmodifiableSet(sums.keySet());
+    }
+
+    /**
+     * Access the total of a currency.
+     *
+     * @param currency the currency, not null.
+     * @return the total, zero if no amount of the currency was accepted. The total is a {@link FastMoney} if it
+     * can be represented exactly, otherwise a {@link org.javamoney.moneta.Money}.
+     */
+    public MonetaryAmount get(CurrencyUnit currency) {
+        MoneyAccumulator sum = sums.get(Objects.requireNonNull(currency));
+        return sum == null ? FastMoney.zero(currency) : sum.toAmount();
+    }
+
+    /**
+     * Access the totals of all currencies.
+     *
+     * @return the totals per currency, never null.
+     */
+    public Map<CurrencyUnit, MonetaryAmount> toMap() {
+        Map<CurrencyUnit, MonetaryAmount> totals = new LinkedHashMap<>();
+        sums.forEach((currency, sum) -> totals.put(currency, sum.toAmount()));
+        return totals;
+    }
+
+    /**
+     * Evaluates the grand total in the given currency. The total of each currency is converted once, so the
+     * exchange rate of each currency is looked up once, however many amounts were accepted.
+     *
+     * @param currency the target currency, not null.
+     * @param provider the rate provider used to convert the totals of other currencies, not null.
+     * @return the grand total, never null.
+     * @throws javax.money.convert.CurrencyConversionException if a total cannot be converted.
+     */
+    public MonetaryAmount getTotal(CurrencyUnit currency, ExchangeRateProvider provider) {
+        Objects.requireNonNull(currency);
+        Objects.requireNonNull(provider);
+        MoneyAccumulator total = MoneyAccumulator.of(currency);
+        CurrencyConversion conversion = null;
+        for (Map.Entry<CurrencyUnit, MoneyAccumulator> entry : sums.entrySet()) {
+            if (entry.getKey().equals(currency)) {
+                total.combine(entry.getValue());
+                continue;
+            }
+            if (conversion == null) {
+                conversion = provider.getCurrencyConversion(currency);
+            }
+            total.add(entry.getValue().toAmount().with(conversion));
+        }
+        return total.toAmount();
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryTotals " + toMap();
+    }
+
+    private MoneyAccumulator getAccumulator(CurrencyUnit currency) {
+        MoneyAccumulator sum = last;
+        if (sum == null || !sum.getCurrency().equals(currency)) {
+            sum = sums.computeIfAbsent(currency, MoneyAccumulator::of);
+            last = sum;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+/**
+ * Mutable accumulator for {@link MonetaryAmount}s of one currency. Unlike summing up amounts with
+ * {@link MonetaryAmount#add(MonetaryAmount)}, no intermediate amounts are created: the sum is kept as unscaled
+ * {@code long} with the scale of {@link FastMoney}, which is widened to a {@link BigInteger} only if the sum
+ * exceeds the range of {@code long} or an operand with a bigger scale is added. All operations are exact, an
+ * immutable amount is created only by {@link #toAmount()}, {@link #toFastMoney()} or {@link #toMoney()}.
+ * <p>
+ * Instances are not thread-safe. They are meant to be used as thread-confined scratch objects, which can be
+ * reused by calling {@link #reset()}, or as the accumulation type of
+ * {@link MonetaryFunctions#summingMonetary(CurrencyUnit)}.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class MoneyAccumulator implements Consumer<MonetaryAmount> {
+
+    /**
+     * The scale of {@link FastMoney#getUnscaledValue()}, which also is the initial scale of the sum.
+     */
+    private static final int FAST_MONEY_SCALE = 5;
+
+    private final CurrencyUnit currency;
+
+    /**
+     * The unscaled sum, as long as {@link #inflated} is {@code null}.
+     */
+    private long compact;
+
+    /**
+     * The unscaled sum, if it does not fit into {@link #compact}, otherwise {@code null}.
+     */
+    private BigInteger inflated;
+
+    /**
+     * The scale of the sum.
+     */
+    private int scale = FAST_MONEY_SCALE;
+
+    private MoneyAccumulator(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+    }
+
+    /**
+     * Creates a new accumulator with a sum of zero.
+     *
+     * @param currency the currency of the amounts accumulated, not null.
+     * @return a new accumulator, never null.
+     */
+    public static MoneyAccumulator of(CurrencyUnit currency) {
+        return new MoneyAccumulator(currency);
+    }
+
+    /**
+     * Access the currency of the amounts accumulated.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public void accept(MonetaryAmount amount) {
+        add(amount);
+    }
+
+    /**
+     * Adds the given amount to the sum.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     * @throws MonetaryException if the amount has another currency.
+     */
+    public MoneyAccumulator add(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        if (amount instanceof FastMoney) {
+            addUnscaled(((FastMoney) amount).getUnscaledValue(), FAST_MONEY_SCALE);
+        } else {
+            addDecimal(amount.getNumber().numberValue(BigDecimal.class));
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount from the sum.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     * @throws MonetaryException if the amount has another currency.
+     */
+    public MoneyAccumulator subtract(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        if (amount instanceof FastMoney && ((FastMoney) amount).getUnscaledValue() != Long.MIN_VALUE) {
+            addUnscaled(-((FastMoney) amount).getUnscaledValue(), FAST_MONEY_SCALE);
+        } else {
+            addDecimal(amount.getNumber().numberValue(BigDecimal.class).negate());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the product of the given amount and factor to the sum, e.g. quantity times unit price.
+     *
+     * @param amount the amount, not null.
+     * @param factor the factor.
+     * @return this accumulator, for chaining.
+     * @throws MonetaryException if the amount has another currency.
+     */
+    public MoneyAccumulator multiplyAdd(MonetaryAmount amount, long factor) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        if (amount instanceof FastMoney) {
+            long value = ((FastMoney) amount).getUnscaledValue();
+            long product = value * factor;
+            if (Math.multiplyHigh(value, factor) == (product >> 63)) {
+                addUnscaled(product, FAST_MONEY_SCALE);
+                return this;
+            }
+        }
+        addDecimal(amount.getNumber().numberValue(BigDecimal.class).multiply(BigDecimal.valueOf(factor)));
+        return this;
+    }
+
+    /**
+     * Adds the exact product of the given amount and factor to the sum, e.g. a rate applied to an amount.
+     *
+     * @param amount the amount, not null.
+     * @param factor the factor, not null.
+     * @return this accumulator, for chaining.
+     * @throws MonetaryException if the amount has another currency.
+     * @throws ArithmeticException if the factor is NaN or infinite.
+     */
+    public MoneyAccumulator multiplyAdd(MonetaryAmount amount, Number factor) {
+        Objects.requireNonNull(factor, "Factor is required.");
+        if (factor instanceof Long || factor instanceof Integer || factor instanceof Short || factor instanceof Byte) {
+            return multiplyAdd(amount, factor.longValue());
+        }
+        MoneyUtils.checkAmountParameter(amount, currency);
+        addDecimal(amount.getNumber().numberValue(BigDecimal.class).multiply(MoneyUtils.getBigDecimal(factor)));
+        return this;
+    }
+
+    /**
+     * Adds the sum of another accumulator to this one, e.g. when combining the partial results of a parallel
+     * stream.
+     *
+     * @param other the other accumulator, not null.
+     * @return this accumulator, for chaining.
+     * @throws MonetaryException if the other accumulator has another currency.
+     */
+    public MoneyAccumulator combine(MoneyAccumulator other) {
+        Objects.requireNonNull(other, "Accumulator is required.");
+        if (!currency.getCurrencyCode().equals(other.currency.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other.currency);
+        }
+        if (other.inflated == null) {
+            addUnscaled(other.compact, other.scale);
+        } else {
+            addDecimal(other.getNumber());
+        }
+        return this;
+    }
+
+    /**
+     * Resets the sum to zero, so this instance can be reused.
+     *
+     * @return this accumulator, for chaining.
+     */
+    public MoneyAccumulator reset() {
+        compact = 0L;
+        inflated = null;
+        scale = FAST_MONEY_SCALE;
+        return this;
+    }
+
+    /**
+     * Checks if the sum is zero.
+     *
+     * @return true, if the sum is zero.
+     */
+    public boolean isZero() {
+        return inflated == null ? compact == 0L : inflated.signum() == 0;
+    }
+
+    /**
+     * Access the exact sum.
+     *
+     * @return the sum, never null.
+     */
+    public BigDecimal getNumber() {
+        if (inflated == null) {
+            return BigDecimal.valueOf(compact, scale);
+        }
+        return new BigDecimal(inflated, scale);
+    }
+
+    /**
+     * Creates an amount representing the sum. If the sum can be represented exactly as {@link FastMoney} a
+     * {@link FastMoney} is returned, otherwise a {@link Money}.
+     *
+     * @return the sum, never null.
+     */
+    public MonetaryAmount toAmount() {
+        if (inflated == null && scale == FAST_MONEY_SCALE) {
+            return FastMoney.of(getNumber(), currency);
+        }
+        return toMoney();
+    }
+
+    /**
+     * Creates a {@link FastMoney} representing the sum.
+     *
+     * @return the sum, never null.
+     * @throws ArithmeticException if the sum exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoney toFastMoney() {
+        return FastMoney.of(getNumber(), currency);
+    }
+
+    /**
+     * Creates a {@link Money} representing the sum.
+     *
+     * @return the sum, never null.
+     */
+    public Money toMoney() {
+        return Money.of(getNumber(), currency);
+    }
+
+    private void addUnscaled(long value, int valueScale) {
+        if (inflated == null && valueScale == scale) {
+            long result = compact + value;
+            if (((compact ^ result) & (value ^ result)) >= 0L) {
+                compact = result;
+                return;
+            }
+        }
+        addDecimal(BigDecimal.valueOf(value, valueScale));
+    }
+
+    private void addDecimal(BigDecimal value) {
+        if (value.scale() > scale) {
+            rescale(value.scale());
+        } else if (value.scale() < scale) {
+            value = value.setScale(scale);
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (inflated == null && unscaled.bitLength() < Long.SIZE) {
+            long addend = unscaled.longValue();
+            long result = compact + addend;
+            if (((compact ^ result) & (addend ^ result)) >= 0L) {
+                compact = result;
+                return;
+            }
+        }
+        inflated = inflated().add(unscaled);
+    }
+
+    private void rescale(int newScale) {
+        if (inflated == null) {
+            long result = compact;
+            for (int i = scale; i < newScale && inflated == null; i++) {
+                long high = Math.multiplyHigh(result, 10L);
+                result *= 10L;
+                if (high != (result >> 63)) {
+                    inflated = BigInteger.valueOf(compact).multiply(BigInteger.TEN.pow(newScale - scale));
+                }
+            }
+            if (inflated == null) {
+                compact = result;
+            }
+        } else {
+            inflated = inflated.multiply(BigInteger.TEN.pow(newScale - scale));
+        }
+        scale = newScale;
+    }
+
+    private BigInteger inflated() {
+        if (inflated == null) {
+            inflated = BigInteger.valueOf(compact);
+        }
+        return inflated;
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyAccumulator [currency: " + currency + ", sum: " + getNumber().toPlainString() + ']';
+    }
+}
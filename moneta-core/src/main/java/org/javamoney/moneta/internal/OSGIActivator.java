@@ -47,10 +47,13 @@ public class OSGIActivator implements BundleActivator {
         LOG.config("Registering JavaMoney services...");
         OSGIServiceHelper.registerService(context.getBundle(), CurrencyProviderSpi.class, JDKCurrencyProvider.class);
         OSGIServiceHelper.registerService(context.getBundle(), CurrencyProviderSpi.class, ConfigurableCurrencyUnitProvider.class);
+        OSGIServiceHelper.registerService(context.getBundle(), CurrencyProviderSpi.class, HistoricCurrencyProvider.class);
 
         OSGIServiceHelper.registerService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, FastMoneyAmountFactoryProvider.class);
         OSGIServiceHelper.registerService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, MoneyAmountFactoryProvider.class);
         OSGIServiceHelper.registerService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, RoundedMoneyAmountFactoryProvider.class);
+        OSGIServiceHelper.registerService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, MicroMoneyAmountFactoryProvider.class);
+        OSGIServiceHelper.registerService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, WideMoneyAmountFactoryProvider.class);
 
         OSGIServiceHelper.registerService(context.getBundle(), MonetaryAmountFormatProviderSpi.class, DefaultAmountFormatProviderSpi.class);
 
@@ -70,10 +73,13 @@ public class OSGIActivator implements BundleActivator {
             LOG.config("Unregistering JavaMoney services...");
             OSGIServiceHelper.unregisterService(context.getBundle(), CurrencyProviderSpi.class, JDKCurrencyProvider.class);
             OSGIServiceHelper.unregisterService(context.getBundle(), CurrencyProviderSpi.class, ConfigurableCurrencyUnitProvider.class);
+            OSGIServiceHelper.unregisterService(context.getBundle(), CurrencyProviderSpi.class, HistoricCurrencyProvider.class);
 
             OSGIServiceHelper.unregisterService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, FastMoneyAmountFactoryProvider.class);
             OSGIServiceHelper.unregisterService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, MoneyAmountFactoryProvider.class);
             OSGIServiceHelper.unregisterService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, RoundedMoneyAmountFactoryProvider.class);
+            OSGIServiceHelper.unregisterService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, MicroMoneyAmountFactoryProvider.class);
+            OSGIServiceHelper.unregisterService(context.getBundle(), MonetaryAmountFactoryProviderSpi.class, WideMoneyAmountFactoryProvider.class);
 
             OSGIServiceHelper.unregisterService(context.getBundle(), MonetaryAmountFormatProviderSpi.class, DefaultAmountFormatProviderSpi.class);
 
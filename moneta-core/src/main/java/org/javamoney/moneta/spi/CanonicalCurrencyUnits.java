@@ -0,0 +1,80 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import javax.money.CurrencyUnit;
+import java.util.Objects;
+
+/**
+ * Registry of the canonical {@link CurrencyUnit} instances, being the instances published by the
+ * {@link JDKCurrencyProvider} and the {@link ConfigurableCurrencyUnitProvider}. Amounts of canonical currencies
+ * can be checked for a currency mismatch by reference comparison, see
+ * {@link MoneyUtils#checkAmountParameter(javax.money.MonetaryAmount, CurrencyUnit)}.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.5
+ */
+public final class CanonicalCurrencyUnits {
+
+    private CanonicalCurrencyUnits() {
+    }
+
+    /**
+     * Access the canonical instance of the given currency. A canonical instance is only returned if it is of
+     * the same type and has the same code, numeric code, fraction digits and context as the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the canonical instance, or {@code currency}, if no matching canonical instance exists.
+     */
+    public static CurrencyUnit canonicalize(CurrencyUnit currency) {
+        Objects.requireNonNull(currency);
+        CurrencyUnit canonical = JDKCurrencyProvider.getCachedCurrency(currency.getCurrencyCode());
+        if (isEquivalent(canonical, currency)) {
+            return canonical;
+        }
+        canonical = ConfigurableCurrencyUnitProvider.getRegisteredCurrency(currency.getCurrencyCode());
+        if (isEquivalent(canonical, currency)) {
+            return canonical;
+        }
+        return currency;
+    }
+
+    /**
+     * Checks whether the given currency is a canonical instance.
+     *
+     * @param currency the currency, not null.
+     * @return true, if the instance is published by the {@link JDKCurrencyProvider} or the
+     * {@link ConfigurableCurrencyUnitProvider}.
+     */
+    public static boolean isCanonical(CurrencyUnit currency) {
+        String code = currency.getCurrencyCode();
+        return JDKCurrencyProvider.getCachedCurrency(code) == currency
+                || ConfigurableCurrencyUnitProvider.getRegisteredCurrency(code) == currency;
+    }
+
+    private static boolean isEquivalent(CurrencyUnit canonical, CurrencyUnit currency) {
+        if (canonical == currency) {
+            return true;
+        }
+        return canonical != null
+                && canonical.getClass() == currency.getClass()
+                && canonical.getNumericCode() == currency.getNumericCode()
+                && canonical.getDefaultFractionDigits() == currency.getDefaultFractionDigits()
+                && Objects.equals(canonical.getContext(), currency.getContext());
+    }
+}
@@ -22,7 +22,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class provides a programmatic singleton for globally registering new {@link java.util.Currency}  into the
@@ -41,6 +41,14 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
      * The currency units identified by Locale.
      */
     private static final Map<Locale, CurrencyUnit> CURRENCY_UNITS_BY_LOCALE = new ConcurrentHashMap<>();
+    /**
+     * The version of the registrations, incremented on each change.
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+    /**
+     * The results of currency codes given as regular expressions.
+     */
+    private static final CurrencyCodePatternCache PATTERNS = new CurrencyCodePatternCache(256);
 
 
     /**
@@ -63,10 +71,7 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
                     result.add(cu);
                 }
                 else{
-                    Pattern pattern = Pattern.compile(code);
-                    CURRENCY_UNITS.keySet().stream()
-                            .filter(k -> pattern.matcher(k).matches())
-                            .forEach(r -> result.add(CURRENCY_UNITS.get(r)));
+                    result.addAll(PATTERNS.match(code, CURRENCY_UNITS, VERSION.get()));
                 }
             }
             return result;
@@ -93,6 +98,25 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
         return result;
     }
 
+    /**
+     * Access the currency unit registered for the given currency code.
+     *
+     * @param currencyCode the currency code, not null.
+     * @return the registered unit, or null.
+     */
+    static CurrencyUnit getRegisteredCurrency(String currencyCode) {
+        return CURRENCY_UNITS.get(currencyCode);
+    }
+
+    /**
+     * Access the version of the registrations, so changes can be detected by caches of registered units.
+     *
+     * @return the version, incremented after each registration or removal.
+     */
+    static long getVersion() {
+        return VERSION.get();
+    }
+
     /**
      * Registers a new currency unit under its currency code and potentially numeric code.
      *
@@ -106,6 +130,7 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
         if (numericCode != -1) {
             ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_NUMERIC_CODE.put(numericCode, currencyUnit);
         }
+        VERSION.incrementAndGet();
         return registered;
     }
 
@@ -119,7 +144,9 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
     public static CurrencyUnit registerCurrencyUnit(CurrencyUnit currencyUnit, Locale locale) {
         Objects.requireNonNull(locale);
         Objects.requireNonNull(currencyUnit);
-        return ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.put(locale, currencyUnit);
+        CurrencyUnit registered = ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.put(locale, currencyUnit);
+        VERSION.incrementAndGet();
+        return registered;
     }
 
     /**
@@ -136,6 +163,7 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
             if (numericCode != -1) {
                 ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_NUMERIC_CODE.remove(numericCode);
             }
+            VERSION.incrementAndGet();
         }
         return removed;
     }
@@ -148,7 +176,11 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
      */
     public static CurrencyUnit removeCurrencyUnit(Locale locale) {
         Objects.requireNonNull(locale);
-        return ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.remove(locale);
+        CurrencyUnit removed = ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.remove(locale);
+        if (removed != null) {
+            VERSION.incrementAndGet();
+        }
+        return removed;
     }
 
     /*
@@ -0,0 +1,130 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import javax.money.CurrencyUnit;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bounded LRU cache of the currency units matched by currency codes given as regular expressions, as supported
+ * by the currency providers for codes not matching a currency exactly. The compiled patterns and their results
+ * are retained, so repeated queries neither compile a pattern nor scan the currencies again. Results are
+ * evaluated again, when the version of the currencies passed changes.
+ * <p>
+ * Codes not containing any regular expression meta character, such as unknown three-letter codes, can only
+ * match themselves, so they are resolved as not matching without compiling or caching anything. Codes that
+ * are not valid regular expressions do not match any currency.
+ * </p>
+ * This class is thread-safe.
+ */
+final class CurrencyCodePatternCache {
+
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final Pattern NO_MATCH = Pattern.compile("(?!)");
+
+    private final Map<String, Result> entries;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize the maximal number of patterns retained.
+     */
+    CurrencyCodePatternCache(int maxSize) {
+        this.entries = new LinkedHashMap<String, Result>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Result> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Evaluates the currency units, whose codes match the given regular expression.
+     *
+     * @param code       the regular expression, not null.
+     * @param currencies the currency units by code.
+     * @param version    the version of the currencies, changing whenever the currencies change.
+     * @return the units matched, never null.
+     */
+    Set<CurrencyUnit> match(String code, Map<String, CurrencyUnit> currencies, long version) {
+        if (isLiteral(code)) {
+            CurrencyUnit unit = currencies.get(code);
+            return unit == null ? Collections.emptySet() : Collections.singleton(unit);
+        }
+        Result entry;
+        synchronized (entries) {
+            entry = entries.get(code);
+        }
+        if (entry != null && entry.version == version) {
+            return entry.result;
+        }
+        Pattern pattern = entry == null ? compile(code) : entry.pattern;
+        Set<CurrencyUnit> result = new HashSet<>();
+        if (pattern != NO_MATCH) {
+            currencies.forEach((key, unit) -> {
+                if (pattern.matcher(key).matches()) {
+                    result.add(unit);
+                }
+            });
+        }
+        Result updated = new Result(pattern, Collections.unmodifiableSet(result), version);
+        synchronized (entries) {
+            entries.put(code, updated);
+        }
+        return updated.result;
+    }
+
+    private static boolean isLiteral(String code) {
+        for (int i = 0; i < code.length(); i++) {
+            if (META_CHARACTERS.indexOf(code.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Pattern compile(String code) {
+        try {
+            return Pattern.compile(code);
+        } catch (PatternSyntaxException e) {
+            return NO_MATCH;
+        }
+    }
+
+    private static final class Result {
+
+        private final Pattern pattern;
+
+        private final Set<CurrencyUnit> result;
+
+        private final long version;
+
+        Result(Pattern pattern, Set<CurrencyUnit> result, long version) {
+            this.pattern = pattern;
+            this.result = result;
+            this.version = version;
+        }
+    }
+}
@@ -22,10 +22,19 @@ import javax.money.spi.Bootstrap;
 import javax.money.spi.CurrencyProviderSpi;
 import javax.money.spi.MonetaryCurrenciesSingletonSpi;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,14 +42,91 @@ import java.util.logging.Logger;
  * Factory singleton for {@link javax.money.CurrencyUnit} instances as provided by the
  * different registered {@link javax.money.spi.CurrencyProviderSpi} instances.
  * <p/>
+ * The providers by name and the default provider chain are resolved once into an index, which also memoizes
+ * the currencies looked up by code or locale using the default provider chain. The index is rebuilt when the
+ * loaded providers, the configuration (see {@link MonetaryConfigSnapshot}) or the registrations of the
+ * {@link ConfigurableCurrencyUnitProvider} change, so repeated lookups do not query the providers again.
+ * Likewise, the currencies of queries constrained by provider names only, such as
+ * {@link javax.money.Monetary#getCurrencies(String...)}, are evaluated once per index and returned as
+ * immutable sets, see also {@link #forEachCurrency(Consumer, String...)}.
+ * <p/>
  * This class is thread safe.
  *
  * @author Anatole Tresch
  */
 public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesSingletonSpi {
 
+    /**
+     * The maximal number of currencies memoized per index map, bounding the memory used if a provider creates
+     * currencies for arbitrary codes.
+     */
+    private static final int MAX_INDEXED = 4096;
+
+    /**
+     * The maximal number of provider chains, whose currencies are retained per index.
+     */
+    private static final int MAX_CHAINS = 64;
+
+    /**
+     * The configuration key of the default provider chain, compared on each access, since it may be
+     * overridden by a system property at any time.
+     */
+    private static final String DEFAULT_CHAIN_KEY = "currencies.default-chain";
+
+    private static final CurrencyQuery ALL_CURRENCIES_QUERY = CurrencyQueryBuilder.of().build();
+
+    private volatile CurrencyIndex index;
+
     @Override
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery query) {
+        if (isProviderQuery(query)) {
+            return getAllCurrencies(query.getProviderNames());
+        }
+        return collectCurrencies(query);
+    }
+
+    /**
+     * Passes all currencies of the given providers to the action, without copying them.
+     *
+     * @param action    the action, not null.
+     * @param providers the provider names, or none for the default provider chain.
+     */
+    public void forEachCurrency(Consumer<? super CurrencyUnit> action, String... providers) {
+        Objects.requireNonNull(action);
+        getAllCurrencies(Arrays.asList(providers)).forEach(action);
+    }
+
+    /**
+     * Checks if the query is constrained by provider names only, so its result is retained by the index.
+     */
+    private static boolean isProviderQuery(CurrencyQuery query) {
+        if (query.isEmpty() || ALL_CURRENCIES_QUERY.equals(query)) {
+            return true;
+        }
+        if (!query.getCurrencyCodes().isEmpty() || !query.getCountries().isEmpty()
+                || !query.getNumericCodes().isEmpty()) {
+            return false;
+        }
+        List<String> providerNames = query.getProviderNames();
+        return CurrencyQueryBuilder.of().setProviderNames(providerNames.toArray(new String[0])).build()
+                .equals(query);
+    }
+
+    private Set<CurrencyUnit> getAllCurrencies(List<String> providerNames) {
+        CurrencyIndex currentIndex = getIndex();
+        Set<CurrencyUnit> result = currentIndex.currenciesByChain.get(providerNames);
+        if (result == null) {
+            String[] names = providerNames.toArray(new String[0]);
+            result = Collections.unmodifiableSet(
+                    collectCurrencies(CurrencyQueryBuilder.of().setProviderNames(names).build()));
+            if (currentIndex.currenciesByChain.size() < MAX_CHAINS) {
+                currentIndex.currenciesByChain.put(Collections.unmodifiableList(Arrays.asList(names)), result);
+            }
+        }
+        return result;
+    }
+
+    private Set<CurrencyUnit> collectCurrencies(CurrencyQuery query) {
         Set<CurrencyUnit> result = new HashSet<>();
         List<CurrencyProviderSpi> providers = collectProviders(query);
         for (CurrencyProviderSpi spi : providers) {
@@ -55,13 +141,47 @@ public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrencies
         return result;
     }
 
+    @Override
+    public CurrencyUnit getCurrency(String currencyCode, String... providers) {
+        if (providers.length > 0 || currencyCode == null) {
+            return MonetaryCurrenciesSingletonSpi.super.getCurrency(currencyCode, providers);
+        }
+        CurrencyIndex currentIndex = getIndex();
+        CurrencyUnit unit = currentIndex.currenciesByCode.get(currencyCode);
+        if (unit == null) {
+            unit = MonetaryCurrenciesSingletonSpi.super.getCurrency(currencyCode);
+            currentIndex.put(currentIndex.currenciesByCode, currencyCode, unit);
+        }
+        return unit;
+    }
+
+    @Override
+    public CurrencyUnit getCurrency(Locale country, String... providers) {
+        if (providers.length > 0 || country == null) {
+            return MonetaryCurrenciesSingletonSpi.super.getCurrency(country, providers);
+        }
+        CurrencyIndex currentIndex = getIndex();
+        CurrencyUnit unit = currentIndex.currenciesByLocale.get(country);
+        if (unit == null) {
+            unit = MonetaryCurrenciesSingletonSpi.super.getCurrency(country);
+            currentIndex.put(currentIndex.currenciesByLocale, country, unit);
+        }
+        return unit;
+    }
+
     @Override
     public boolean isCurrencyAvailable(String code, String... providers) {
+        if (providers.length == 0 && code != null && getIndex().currenciesByCode.containsKey(code)) {
+            return true;
+        }
         return isCurrencyAvailable(CurrencyQueryBuilder.of().setCurrencyCodes(code).setProviderNames(providers).build());
     }
 
     @Override
     public boolean isCurrencyAvailable(Locale locale, String... providers) {
+        if (providers.length == 0 && locale != null && getIndex().currenciesByLocale.containsKey(locale)) {
+            return true;
+        }
         return isCurrencyAvailable(CurrencyQueryBuilder.of().setCountries(locale).setProviderNames(providers).build());
     }
 
@@ -75,67 +195,51 @@ public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrencies
     }
 
     private List<CurrencyProviderSpi> collectProviders(CurrencyQuery query) {
-        List<CurrencyProviderSpi> result = new ArrayList<>();
-        if (!query.getProviderNames().isEmpty()) {
-            for (String providerName : query.getProviderNames()) {
-                CurrencyProviderSpi provider = getProvider(providerName);
-                if (provider == null) {
-                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currency " +
-                            "provider found, ignoring: " + providerName);
-                } else {
-                    result.add(provider);
-                }
-            }
+        CurrencyIndex currentIndex = getIndex();
+        if (query.getProviderNames().isEmpty()) {
+            return currentIndex.defaultProviders;
         }
-        else{
-            for(String providerName:getDefaultProviderChain()){
-                CurrencyProviderSpi provider = getProvider(providerName);
-                if (provider == null) {
-                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currency " +
-                            "provider found, ignoring: " + providerName);
-                } else {
-                    result.add(provider);
-                }
+        List<CurrencyProviderSpi> result = new ArrayList<>();
+        for (String providerName : query.getProviderNames()) {
+            CurrencyProviderSpi provider = currentIndex.providersByName.get(providerName);
+            if (provider == null) {
+                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currency " +
+                        "provider found, ignoring: " + providerName);
+            } else {
+                result.add(provider);
             }
         }
         return result;
     }
 
-    private CurrencyProviderSpi getProvider(String providerName) {
-        for(CurrencyProviderSpi provider:Bootstrap.getServices(CurrencyProviderSpi.class)){
-            if(provider.getProviderName().equals(providerName)){
-                return provider;
-            }
+    /**
+     * Access the current index, rebuilding it if the providers, the configuration or the registered currencies
+     * changed.
+     */
+    private CurrencyIndex getIndex() {
+        Collection<CurrencyProviderSpi> services = Bootstrap.getServices(CurrencyProviderSpi.class);
+        MonetaryConfigSnapshot config = MonetaryConfigSnapshot.current();
+        long configVersion = config.getVersion();
+        String defaultChainConfig = config.getString(DEFAULT_CHAIN_KEY).orElse(null);
+        long registrationVersion = ConfigurableCurrencyUnitProvider.getVersion();
+        CurrencyIndex currentIndex = index;
+        if (currentIndex == null || !currentIndex.isCurrent(services, configVersion, defaultChainConfig,
+                registrationVersion)) {
+            currentIndex = new CurrencyIndex(services, configVersion, defaultChainConfig, registrationVersion);
+            index = currentIndex;
         }
-        return null;
+        return currentIndex;
     }
 
     /**
-     * This default implementation simply returns all providers defined in arbitrary order.
+     * This default implementation returns the providers configured by {@code currencies.default-chain}, or
+     * all providers loaded, if not configured.
      *
      * @return the default provider chain, never null.
      */
     @Override
     public List<String> getDefaultProviderChain() {
-        List<String> provList = new ArrayList<>();
-        String defaultChain = MonetaryConfig.getConfig().get("currencies.default-chain");
-        if(defaultChain!=null) {
-            String[] items = defaultChain.split(",");
-            for (String item : items) {
-                if (getProviderNames().contains(item.trim())) {
-                    provList.add(item);
-                } else {
-                    Logger.getLogger(getClass().getName())
-                            .warning("Ignoring non existing default provider: " + item);
-                }
-            }
-        }
-        else{
-            Bootstrap.getServices(CurrencyProviderSpi.class).forEach(
-                    p -> provList.add(p.getProviderName())
-            );
-        }
-        return provList;
+        return new ArrayList<>(getIndex().defaultChain);
     }
 
     /**
@@ -145,17 +249,116 @@ public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrencies
      */
     @Override
     public Set<String> getProviderNames() {
-        Set<String> result = new HashSet<>();
-        for (CurrencyProviderSpi spi : Bootstrap.getServices(CurrencyProviderSpi.class)) {
-            try {
-                result.add(spi.getProviderName());
-            } catch (Exception e) {
-                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
-                        .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
-                                e);
+        return new HashSet<>(getIndex().providersByName.keySet());
+    }
+
+    /**
+     * The providers and currencies resolved for one state of the loaded providers, the configuration and the
+     * registered currencies. The providers are immutable, the currencies are memoized when looked up.
+     */
+    private static final class CurrencyIndex {
+
+        private final Collection<CurrencyProviderSpi> services;
+
+        private final CurrencyProviderSpi[] loadedProviders;
+
+        private final long configVersion;
+
+        private final String defaultChainConfig;
+
+        private final long registrationVersion;
+
+        private final Map<String, CurrencyProviderSpi> providersByName;
+
+        private final List<String> defaultChain;
+
+        private final List<CurrencyProviderSpi> defaultProviders;
+
+        private final Map<String, CurrencyUnit> currenciesByCode = new ConcurrentHashMap<>();
+
+        private final Map<Locale, CurrencyUnit> currenciesByLocale = new ConcurrentHashMap<>();
+
+        private final Map<List<String>, Set<CurrencyUnit>> currenciesByChain = new ConcurrentHashMap<>();
+
+        CurrencyIndex(Collection<CurrencyProviderSpi> services, long configVersion, String defaultChainConfig,
+                      long registrationVersion) {
+            this.services = services;
+            this.loadedProviders = services.toArray(new CurrencyProviderSpi[0]);
+            this.configVersion = configVersion;
+            this.defaultChainConfig = defaultChainConfig;
+            this.registrationVersion = registrationVersion;
+            Map<String, CurrencyProviderSpi> byName = new HashMap<>();
+            for (CurrencyProviderSpi spi : loadedProviders) {
+                try {
+                    byName.putIfAbsent(spi.getProviderName(), spi);
+                } catch (Exception e) {
+                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
+                            .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
+                                    e);
+                }
+            }
+            this.providersByName = Collections.unmodifiableMap(byName);
+            this.defaultChain = Collections.unmodifiableList(resolveDefaultChain());
+            List<CurrencyProviderSpi> providers = new ArrayList<>();
+            for (String providerName : defaultChain) {
+                CurrencyProviderSpi provider = providersByName.get(providerName);
+                if (provider == null) {
+                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currency " +
+                            "provider found, ignoring: " + providerName);
+                } else {
+                    providers.add(provider);
+                }
+            }
+            this.defaultProviders = Collections.unmodifiableList(providers);
+        }
+
+        private List<String> resolveDefaultChain() {
+            List<String> provList = new ArrayList<>();
+            if (defaultChainConfig != null) {
+                String[] items = defaultChainConfig.split(",");
+                for (String item : items) {
+                    if (providersByName.containsKey(item.trim())) {
+                        provList.add(item);
+                    } else {
+                        Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
+                                .warning("Ignoring non existing default provider: " + item);
+                    }
+                }
+            } else {
+                for (CurrencyProviderSpi spi : loadedProviders) {
+                    provList.add(spi.getProviderName());
+                }
+            }
+            return provList;
+        }
+
+        boolean isCurrent(Collection<CurrencyProviderSpi> currentServices, long currentConfigVersion,
+                          String currentDefaultChainConfig, long currentRegistrationVersion) {
+            if (configVersion != currentConfigVersion || registrationVersion != currentRegistrationVersion
+                    || !Objects.equals(defaultChainConfig, currentDefaultChainConfig)) {
+                return false;
+            }
+            if (services == currentServices) {
+                return true;
+            }
+            // service providers may return a new collection per call, so compare the instances loaded
+            if (currentServices.size() != loadedProviders.length) {
+                return false;
+            }
+            Iterator<CurrencyProviderSpi> iterator = currentServices.iterator();
+            for (CurrencyProviderSpi provider : loadedProviders) {
+                if (iterator.next() != provider) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        <K> void put(Map<K, CurrencyUnit> currencies, K key, CurrencyUnit unit) {
+            if (currencies.size() < MAX_INDEXED) {
+                currencies.put(key, unit);
             }
         }
-        return result;
     }
 
 }
@@ -48,6 +48,15 @@ public final class DefaultNumberValue extends NumberValue {
         this.number = Objects.requireNonNull(number, "Number required");
     }
 
+    /**
+     * Access the wrapped number, without conversion, e.g. to retain the scale of a {@link BigDecimal}.
+     *
+     * @return the wrapped number, never null.
+     */
+    Number getWrappedNumber() {
+        return number;
+    }
+
     /**
      * Creates a new instance of {@link NumberValue}, using the given number.
      *
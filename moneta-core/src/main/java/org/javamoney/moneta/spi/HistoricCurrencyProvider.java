@@ -0,0 +1,301 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+
+import javax.money.CurrencyQuery;
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.spi.CurrencyProviderSpi;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Currency provider answering queries for the currencies valid at a given date, as set on the query by a
+ * {@link LocalDate} or {@link LocalDateTime}, e.g.
+ * <pre>
+ * CurrencyUnit currency = Monetary.getCurrency(CurrencyQueryBuilder.of().setProviderName("historic")
+ *         .setCurrencyCodes("DEM").set(tradeDate).build());
+ * </pre>
+ * The validity periods are read from the bundled ISO 4217 history {@code javamoney-currency-history.csv}, covering
+ * the legacy currencies of the euro area and redenominated currencies. Currencies of the JDK not listed there are
+ * considered valid at any date. The periods of a currency code are kept as sorted arrays, so the currency valid at
+ * a date is found by binary search. Units known to the JDK are returned as the instances of the
+ * {@link JDKCurrencyProvider}.
+ * <p>
+ * Queries without date are not answered, so currencies are not resolved differently, unless a date is set. Since
+ * other providers ignore the date, the provider name should be set on dated queries to validate currencies.
+ * Currency codes are matched exactly.
+ * </p>
+ * This class is immutable and thread-safe.
+ *
+ * @since 1.5
+ */
+public class HistoricCurrencyProvider implements CurrencyProviderSpi {
+
+    private static final Logger LOG = Logger.getLogger(HistoricCurrencyProvider.class.getName());
+
+    /** The bundled ISO 4217 history. */
+    private static final String RESOURCE = "/javamoney-currency-history.csv";
+
+    /** The provider name. */
+    private static final String PROVIDER_NAME = "historic";
+
+    /** Provider used for the currencies not listed in the history. */
+    private final JDKCurrencyProvider jdkProvider = new JDKCurrencyProvider();
+
+    /** The periods of the listed currencies by currency code. */
+    private final Map<String, Periods> periodsByCode = new HashMap<>();
+
+    /** The listed currency codes by numeric code. */
+    private final Map<Integer, Set<String>> codesByNumericCode = new HashMap<>();
+
+    /** The periods of the listed currencies by ISO country code. */
+    private final Map<String, List<Period>> periodsByCountry = new HashMap<>();
+
+    /**
+     * Creates a new instance, reading the bundled history.
+     */
+    public HistoricCurrencyProvider() {
+        Map<String, List<Period>> periods = new HashMap<>();
+        try (InputStream is = HistoricCurrencyProvider.class.getResourceAsStream(RESOURCE)) {
+            if (is == null) {
+                LOG.severe("Currency history not found: " + RESOURCE);
+            } else {
+                load(is, periods);
+            }
+        } catch (IOException e) {
+            LOG.log(Level.SEVERE, "Failed to read currency history: " + RESOURCE, e);
+        }
+        periods.forEach((code, list) -> periodsByCode.put(code, new Periods(list)));
+    }
+
+    private void load(InputStream is, Map<String, List<Period>> periods) throws IOException {
+        Map<String, CurrencyUnit> units = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                String[] fields = line.split(";", -1);
+                String code = fields[0].trim();
+                int numericCode = Integer.parseInt(fields[1].trim());
+                int fractionDigits = Integer.parseInt(fields[2].trim());
+                CurrencyUnit unit = units.computeIfAbsent(code, c -> createCurrencyUnit(c, numericCode,
+                        fractionDigits));
+                Period period = new Period(unit, parseDay(fields[3], Long.MIN_VALUE),
+                        parseDay(fields[4], Long.MAX_VALUE));
+                periods.computeIfAbsent(code, c -> new ArrayList<>()).add(period);
+                codesByNumericCode.computeIfAbsent(numericCode, n -> new TreeSet<>()).add(code);
+                for (String country : fields[5].trim().split("\\s+")) {
+                    if (!country.isEmpty()) {
+                        periodsByCountry.computeIfAbsent(country, c -> new ArrayList<>()).add(period);
+                    }
+                }
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "Ignoring invalid currency history entry: " + line, e);
+            }
+        }
+    }
+
+    private static CurrencyUnit createCurrencyUnit(String code, int numericCode, int fractionDigits) {
+        CurrencyUnit unit = JDKCurrencyProvider.getCachedCurrency(code);
+        if (unit != null) {
+            return unit;
+        }
+        return CurrencyUnitBuilder.of(code, PROVIDER_NAME).setNumericCode(numericCode)
+                .setDefaultFractionDigits(fractionDigits).build(false);
+    }
+
+    private static long parseDay(String date, long defaultValue) {
+        date = date.trim();
+        return date.isEmpty() ? defaultValue : LocalDate.parse(date).toEpochDay();
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    /**
+     * Return the {@link CurrencyUnit} instances matching the given query and valid at its date.
+     *
+     * @param currencyQuery the {@link javax.money.CurrencyQuery} containing the parameters determining the query. not null.
+     * @return the corresponding units, empty for queries without {@link LocalDate} or {@link LocalDateTime}.
+     */
+    @Override
+    public Set<CurrencyUnit> getCurrencies(CurrencyQuery currencyQuery) {
+        LocalDate date = currencyQuery.get(LocalDate.class);
+        if (date == null) {
+            LocalDateTime dateTime = currencyQuery.get(LocalDateTime.class);
+            if (dateTime == null) {
+                return Collections.emptySet();
+            }
+            date = dateTime.toLocalDate();
+        }
+        long day = date.toEpochDay();
+        Set<CurrencyUnit> result = new HashSet<>();
+        if (!currencyQuery.getCurrencyCodes().isEmpty()) {
+            for (String code : currencyQuery.getCurrencyCodes()) {
+                addIfPresent(result, getCurrencyUnit(code, day));
+            }
+            return result;
+        }
+        if (!currencyQuery.getCountries().isEmpty()) {
+            for (Locale locale : currencyQuery.getCountries()) {
+                List<Period> periods = periodsByCountry.get(locale.getCountry());
+                if (periods == null) {
+                    for (CurrencyUnit unit : jdkProvider.getCurrencies(CurrencyQueryBuilder.of()
+                            .setCountries(locale).build())) {
+                        addIfPresent(result, getCurrencyUnit(unit.getCurrencyCode(), day));
+                    }
+                } else {
+                    for (Period period : periods) {
+                        if (period.contains(day)) {
+                            result.add(period.unit);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+        if (!currencyQuery.getNumericCodes().isEmpty()) {
+            for (Integer numericCode : currencyQuery.getNumericCodes()) {
+                for (CurrencyUnit unit : jdkProvider.getCurrencies(CurrencyQueryBuilder.of()
+                        .setNumericCodes(numericCode).build())) {
+                    addIfPresent(result, getCurrencyUnit(unit.getCurrencyCode(), day));
+                }
+                for (String code : codesByNumericCode.getOrDefault(numericCode, Collections.emptySet())) {
+                    addIfPresent(result, getCurrencyUnit(code, day));
+                }
+            }
+            return result;
+        }
+        for (CurrencyUnit unit : jdkProvider.getCurrencies(CurrencyQueryBuilder.of().build())) {
+            addIfPresent(result, getCurrencyUnit(unit.getCurrencyCode(), day));
+        }
+        for (Periods periods : periodsByCode.values()) {
+            addIfPresent(result, periods.at(day));
+        }
+        return result;
+    }
+
+    /**
+     * Access the unit valid at the given day, as listed in the history or, if not listed, as known to the JDK.
+     *
+     * @param code the currency code, not null.
+     * @param day  the epoch day.
+     * @return the unit valid, or null.
+     */
+    private CurrencyUnit getCurrencyUnit(String code, long day) {
+        Periods periods = periodsByCode.get(code);
+        return periods == null ? JDKCurrencyProvider.getCachedCurrency(code) : periods.at(day);
+    }
+
+    private static void addIfPresent(Set<CurrencyUnit> result, CurrencyUnit unit) {
+        if (unit != null) {
+            result.add(unit);
+        }
+    }
+
+    /**
+     * Validity period of a currency unit, in epoch days, both inclusive.
+     */
+    private static final class Period {
+
+        private final CurrencyUnit unit;
+
+        private final long from;
+
+        private final long to;
+
+        Period(CurrencyUnit unit, long from, long to) {
+            if (from > to) {
+                throw new IllegalArgumentException("Invalid period of " + unit + ": " + from + " > " + to);
+            }
+            this.unit = unit;
+            this.from = from;
+            this.to = to;
+        }
+
+        boolean contains(long day) {
+            return from <= day && day <= to;
+        }
+    }
+
+    /**
+     * The periods of a currency code, sorted by start and merged where overlapping for the same unit, so the
+     * period containing a day is found by binary search on the starts.
+     */
+    private static final class Periods {
+
+        private final long[] from;
+
+        private final long[] to;
+
+        private final CurrencyUnit[] units;
+
+        Periods(List<Period> periods) {
+            List<Period> sorted = new ArrayList<>(periods);
+            sorted.sort(Comparator.comparingLong(p -> p.from));
+            List<Period> merged = new ArrayList<>(sorted.size());
+            for (Period period : sorted) {
+                Period last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && last.unit.equals(period.unit) && (last.to == Long.MAX_VALUE
+                        || period.from <= last.to + 1)) {
+                    merged.set(merged.size() - 1, new Period(last.unit, last.from, Math.max(last.to, period.to)));
+                } else {
+                    merged.add(period);
+                }
+            }
+            this.from = new long[merged.size()];
+            this.to = new long[merged.size()];
+            this.units = new CurrencyUnit[merged.size()];
+            for (int i = 0; i < merged.size(); i++) {
+                Period period = merged.get(i);
+                this.from[i] = period.from;
+                this.to[i] = period.to;
+                this.units[i] = period.unit;
+            }
+        }
+
+        /**
+         * Evaluates the unit valid at the given day.
+         *
+         * @param day the epoch day.
+         * @return the unit of the latest period starting not after the day, if containing it, else null.
+         */
+        CurrencyUnit at(long day) {
+            int index = Arrays.binarySearch(from, day);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return index >= 0 && day <= to[index] ? units[index] : null;
+        }
+    }
+}
@@ -154,6 +154,15 @@ public final class JDKCurrencyAdapter implements CurrencyUnit, Serializable, Com
         return false;
     }
 
+    /**
+     * Resolves deserialized instances to the shared instance of the {@link JDKCurrencyProvider}.
+     *
+     * @return the shared instance for this currency.
+     */
+    private Object readResolve() {
+        return CanonicalCurrencyUnits.canonicalize(this);
+    }
+
     /**
      * Returns {@link #getCurrencyCode()}
      *
@@ -20,7 +20,6 @@ import org.javamoney.moneta.spi.JDKCurrencyAdapter;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 
 import javax.money.CurrencyQuery;
 import javax.money.CurrencyUnit;
@@ -39,6 +38,22 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
 	/** Internal shared cache of {@link javax.money.CurrencyUnit} instances. */
     private static final Map<String, CurrencyUnit> CACHED = loadCurrencies();
 
+    /** All cached instances, returned for unconstrained queries. */
+    private static final Set<CurrencyUnit> CACHED_SET = Collections.unmodifiableSet(new HashSet<>(CACHED.values()));
+
+    /** The cached instances by numeric code, sorted by currency code. */
+    private static final Map<Integer, CurrencyUnit[]> CACHED_BY_NUMERIC_CODE = indexNumericCodes();
+
+    /**
+     * The cached instances by ISO country code, mapping to {@code null} for countries without currency. Other
+     * than for locales with extensions, such as {@code "de-DE-u-cu-usd"}, the JDK's currency of a locale only
+     * depends on its country.
+     */
+    private static final Map<String, CurrencyUnit> CACHED_BY_COUNTRY = indexCountries();
+
+    /** The results of currency codes given as regular expressions. */
+    private static final CurrencyCodePatternCache PATTERNS = new CurrencyCodePatternCache(256);
+
     private static Map<String, CurrencyUnit> loadCurrencies() {
         Set<Currency> availableCurrencies = Currency.getAvailableCurrencies();
         Map<String, CurrencyUnit> result = new HashMap<>(availableCurrencies.size());
@@ -49,6 +64,39 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
         return Collections.unmodifiableMap(result);
     }
 
+    private static Map<Integer, CurrencyUnit[]> indexNumericCodes() {
+        Map<Integer, List<CurrencyUnit>> units = new HashMap<>();
+        for (CurrencyUnit cu : CACHED.values()) {
+            units.computeIfAbsent(cu.getNumericCode(), k -> new ArrayList<>()).add(cu);
+        }
+        Map<Integer, CurrencyUnit[]> result = new HashMap<>(units.size());
+        units.forEach((numCode, list) -> {
+            list.sort(Comparator.comparing(CurrencyUnit::getCurrencyCode));
+            result.put(numCode, list.toArray(new CurrencyUnit[0]));
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, CurrencyUnit> indexCountries() {
+        String[] countries = Locale.getISOCountries();
+        Map<String, CurrencyUnit> result = new HashMap<>(countries.length + 1);
+        result.put("", null);
+        for (String country : countries) {
+            result.put(country, lookupCurrencyUnit(new Locale("", country)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Access the shared instance for the given currency code.
+     *
+     * @param currencyCode the currency code, not null.
+     * @return the shared instance, or null.
+     */
+    static CurrencyUnit getCachedCurrency(String currencyCode) {
+        return CACHED.get(currencyCode);
+    }
+
     @Override
     public String getProviderName(){
         return "default";
@@ -63,6 +111,11 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
      * is provided by this provider.
      */
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery currencyQuery){
+        if(currencyQuery.getCurrencyCodes().isEmpty() && currencyQuery.getCountries().isEmpty()
+                && currencyQuery.getNumericCodes().isEmpty()) {
+            // No constraints defined, return all.
+            return CACHED_SET;
+        }
         Set<CurrencyUnit> result = new HashSet<>();
         if(!currencyQuery.getCurrencyCodes().isEmpty()) {
             for (String code : currencyQuery.getCurrencyCodes()) {
@@ -71,10 +124,7 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
                     result.add(cu);
                 }
                 else{
-                    Pattern pattern = Pattern.compile(code);
-                    CACHED.keySet().stream()
-                            .filter(k -> pattern.matcher(k).matches())
-                            .forEach(r -> result.add(CACHED.get(r)));
+                    result.addAll(PATTERNS.match(code, CACHED, 0L));
                 }
             }
             return result;
@@ -93,25 +143,26 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
                 List<CurrencyUnit> cus = getCurrencyUnits(numCode);
                 result.addAll(cus);
             }
-            return result;
         }
-        // No constraints defined, return all.
-        result.addAll(CACHED.values());
         return result;
     }
 
     private List<CurrencyUnit> getCurrencyUnits(int numCode) {
-        List<CurrencyUnit> result = new ArrayList<>();
-        for(Currency currency: Currency.getAvailableCurrencies()){
-            if(currency.getNumericCode()==numCode){
-                result.add(CACHED.get(currency.getCurrencyCode()));
+        CurrencyUnit[] units = CACHED_BY_NUMERIC_CODE.get(numCode);
+        return units == null ? Collections.emptyList() : Arrays.asList(units);
+    }
+
+    private CurrencyUnit getCurrencyUnit(Locale locale) {
+        if (!locale.hasExtensions()) {
+            String country = locale.getCountry();
+            if (CACHED_BY_COUNTRY.containsKey(country)) {
+                return CACHED_BY_COUNTRY.get(country);
             }
         }
-        return result;
+        return lookupCurrencyUnit(locale);
     }
 
-
-    private CurrencyUnit getCurrencyUnit(Locale locale) {
+    private static CurrencyUnit lookupCurrencyUnit(Locale locale) {
 		Currency cur;
 		try {
 			cur = Currency.getInstance(locale);
@@ -119,8 +170,8 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
 				return CACHED.get(cur.getCurrencyCode());
 			}
 		} catch (Exception e) {
-			if (Logger.getLogger(getClass().getName()).isLoggable(Level.FINEST)) {
-				Logger.getLogger(getClass().getName()).finest(
+			if (Logger.getLogger(JDKCurrencyProvider.class.getName()).isLoggable(Level.FINEST)) {
+				Logger.getLogger(JDKCurrencyProvider.class.getName()).finest(
 						"No currency for locale found: " + locale);
 			}
 		}
@@ -0,0 +1,89 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import javax.money.*;
+
+import org.javamoney.moneta.MicroMoney;
+
+/**
+ * Implementation of {@link javax.money.MonetaryAmountFactory} creating instances of {@link MicroMoney}. The
+ * scale of the amounts created is the {@link MonetaryContext#getMaxScale() maximal scale} of the context set,
+ * if not set, the scale of the currency is used.
+ *
+ * @since 1.5
+ */
+public class MicroMoneyAmountFactory extends AbstractAmountFactory<MicroMoney> {
+
+    static final MonetaryContext DEFAULT_CONTEXT =
+            MonetaryContextBuilder.of(MicroMoney.class).setPrecision(19).setFixedScale(true)
+                    .set(RoundingMode.HALF_EVEN).build();
+    static final MonetaryContext MAX_CONTEXT =
+            MonetaryContextBuilder.of(MicroMoney.class).setPrecision(19).setMaxScale(MicroMoney.MAX_SCALE)
+                    .setFixedScale(true).set(RoundingMode.HALF_EVEN).build();
+
+    private static final NumberValue MAX_NUMBER = new DefaultNumberValue(BigDecimal.valueOf(Long.MAX_VALUE));
+
+    private static final NumberValue MIN_NUMBER = new DefaultNumberValue(BigDecimal.valueOf(Long.MIN_VALUE));
+
+    @Override
+    protected MicroMoney create(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        int scale = monetaryContext.getMaxScale();
+        if (scale < 0 || scale > MicroMoney.MAX_SCALE) {
+            return MicroMoney.of(number, currency);
+        }
+        return MicroMoney.of(number, currency, scale);
+    }
+
+    @Override
+    public Class<MicroMoney> getAmountType() {
+        return MicroMoney.class;
+    }
+
+    /**
+     * Access the maximal number supported, being the maximal {@code long} value, using a scale of {@code 0}.
+     *
+     * @return the maximal number.
+     */
+    @Override
+    public NumberValue getMaxNumber() {
+        return MAX_NUMBER;
+    }
+
+    /**
+     * Access the minimal number supported, being the minimal {@code long} value, using a scale of {@code 0}.
+     *
+     * @return the minimal number.
+     */
+    @Override
+    public NumberValue getMinNumber() {
+        return MIN_NUMBER;
+    }
+
+    @Override
+    protected MonetaryContext loadDefaultMonetaryContext() {
+        return DEFAULT_CONTEXT;
+    }
+
+    @Override
+    protected MonetaryContext loadMaxMonetaryContext() {
+        return MAX_CONTEXT;
+    }
+
+}
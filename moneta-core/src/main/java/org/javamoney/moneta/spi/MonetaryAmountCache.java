@@ -0,0 +1,199 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of shared instances for frequently created amounts of an immutable {@link MonetaryAmount} type, per
+ * currency. Cached are the integral values from zero up to a configurable bound, and one minor unit of the
+ * currency, e.g. {@code 0.01} for {@code EUR}. The bound can be configured with the property
+ * {@value #MAX_VALUE_PROPERTY}, it defaults to {@value #DEFAULT_MAX_VALUE}, a negative value disables caching.
+ * <p>
+ * Values are matched including their scale, {@code 1} is cached, whereas {@code 1.0} is not. Instances are
+ * only shared for the same {@link CurrencyUnit} instance, so the currency of an amount returned is always the
+ * instance requested.
+ * </p>
+ * This class is thread-safe.
+ *
+ * @param <T> the amount type.
+ * @since 1.5
+ */
+public final class MonetaryAmountCache<T extends MonetaryAmount> {
+
+    /**
+     * The property configuring the biggest integral value cached.
+     */
+    public static final String MAX_VALUE_PROPERTY = "org.javamoney.moneta.amountCache.maxValue";
+
+    /**
+     * The biggest integral value cached by default.
+     */
+    public static final int DEFAULT_MAX_VALUE = 10;
+
+    /**
+     * The maximal number of currencies cached, to limit the memory used when currencies are created on the fly.
+     */
+    private static final int MAX_CURRENCIES = 1024;
+
+    private static final Logger LOG = Logger.getLogger(MonetaryAmountCache.class.getName());
+
+    private final BiFunction<BigDecimal, CurrencyUnit, T> factory;
+
+    private final int maxValue;
+
+    private final Map<CurrencyUnit, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new cache, with the bound configured by {@value #MAX_VALUE_PROPERTY}.
+     *
+     * @param factory the function creating the amounts cached, not null.
+     */
+    public MonetaryAmountCache(BiFunction<BigDecimal, CurrencyUnit, T> factory) {
+        this(factory, loadMaxValue());
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param factory  the function creating the amounts cached, not null.
+     * @param maxValue the biggest integral value cached, a negative value disables caching.
+     */
+    public MonetaryAmountCache(BiFunction<BigDecimal, CurrencyUnit, T> factory, int maxValue) {
+        this.factory = Objects.requireNonNull(factory);
+        this.maxValue = maxValue;
+    }
+
+    private static int loadMaxValue() {
+        String value = MonetaryConfigSnapshot.current().getString(MAX_VALUE_PROPERTY, null);
+        if (value == null) {
+            return DEFAULT_MAX_VALUE;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.log(Level.WARNING, "Invalid integer parameter for '" + MAX_VALUE_PROPERTY + "': " + value
+                    + ", using " + DEFAULT_MAX_VALUE + '.');
+            return DEFAULT_MAX_VALUE;
+        }
+    }
+
+    /**
+     * Access the biggest integral value cached.
+     *
+     * @return the biggest integral value cached, a negative value if caching is disabled.
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Access the shared instance for the numeric value {@code unscaledValue * 10^-scale}.
+     *
+     * @param unscaledValue the unscaled value.
+     * @param scale         the scale.
+     * @param currency      the currency, not null.
+     * @return the shared instance, or {@code null}, if the value is not cached.
+     */
+    public T get(long unscaledValue, int scale, CurrencyUnit currency) {
+        if (scale == 0) {
+            if (unscaledValue >= 0L && unscaledValue <= maxValue) {
+                Entry entry = getEntry(currency);
+                if (entry != null) {
+                    return entry.get((int) unscaledValue, BigDecimal.valueOf(unscaledValue));
+                }
+            }
+        } else if (unscaledValue == 1L && scale == currency.getDefaultFractionDigits() && maxValue >= 0) {
+            Entry entry = getEntry(currency);
+            if (entry != null) {
+                return entry.get(maxValue + 1, entry.minorUnit);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Access the shared instance for the given numeric value.
+     *
+     * @param number   the numeric value, not null.
+     * @param currency the currency, not null.
+     * @return the shared instance, or {@code null}, if the value is not cached.
+     */
+    public T get(BigDecimal number, CurrencyUnit currency) {
+        int scale = number.scale();
+        if (scale == 0) {
+            if (number.precision() <= 18) {
+                return get(number.longValue(), 0, currency);
+            }
+        } else if (scale > 0 && number.precision() == 1 && number.signum() > 0
+                && scale == currency.getDefaultFractionDigits() && maxValue >= 0) {
+            Entry entry = getEntry(currency);
+            if (entry != null && number.compareTo(entry.minorUnit) == 0) {
+                return entry.get(maxValue + 1, entry.minorUnit);
+            }
+        }
+        return null;
+    }
+
+    private Entry getEntry(CurrencyUnit currency) {
+        Entry entry = entries.get(currency);
+        if (entry == null) {
+            if (entries.size() >= MAX_CURRENCIES) {
+                return null;
+            }
+            entry = entries.computeIfAbsent(currency, Entry::new);
+        }
+        if (entry.currency != currency) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * The cached amounts of one currency. The amounts are created lazily, as amounts are immutable, racing
+     * threads may at worst create the same amount more than once.
+     */
+    private final class Entry {
+
+        private final CurrencyUnit currency;
+        private final BigDecimal minorUnit;
+        private final Object[] amounts;
+
+        private Entry(CurrencyUnit currency) {
+            this.currency = currency;
+            this.minorUnit = BigDecimal.valueOf(1L, Math.max(0, currency.getDefaultFractionDigits()));
+            this.amounts = new Object[maxValue + 2];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int index, BigDecimal number) {
+            Object amount = amounts[index];
+            if (amount == null) {
+                amount = factory.apply(number, currency);
+                amounts[index] = amount;
+            }
+            return (T) amount;
+        }
+    }
+}
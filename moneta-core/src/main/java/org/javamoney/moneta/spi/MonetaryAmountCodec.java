@@ -0,0 +1,571 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.MicroMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.javamoney.moneta.WideMoney;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+import javax.money.NumberValue;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact binary encoding of the amount types of this implementation, being {@link FastMoney}, {@link Money},
+ * {@link RoundedMoney}, {@link MicroMoney} and {@link WideMoney}. An amount is encoded as
+ * <ul>
+ * <li>a header byte, holding the amount type and some flags,</li>
+ * <li>the currency, as variable length ISO numeric code for the JDK currencies, or as currency code otherwise,</li>
+ * <li>the number, as variable length unscaled value and, unless fixed by the amount type, its scale,</li>
+ * <li>for {@link Money} only, the {@link MonetaryContext}, if it is not the default context.</li>
+ * </ul>
+ * Typical amounts hence take 3 to 10 bytes. Currencies are resolved on read by their code, so the currency read
+ * is the instance registered with {@link Monetary}, which must be available on the reading side.
+ * <p>
+ * The codec can be used directly by caches and stores holding amounts in {@link ByteBuffer}s, and is used by the
+ * amount types as their serialized form, see {@link #toSerializedForm(MonetaryAmount)}.
+ * </p>
+ * This class is thread-safe.
+ *
+ * @since 1.5
+ */
+public final class MonetaryAmountCodec {
+
+    private static final int TYPE_MASK = 0x07;
+    private static final int TYPE_FAST_MONEY = 1;
+    private static final int TYPE_MONEY = 2;
+    private static final int TYPE_ROUNDED_MONEY = 3;
+    private static final int TYPE_MICRO_MONEY = 4;
+    private static final int TYPE_WIDE_MONEY = 5;
+
+    /** The currency is encoded as ISO numeric code instead of its currency code. */
+    private static final int FLAG_NUMERIC_CURRENCY = 0x08;
+    /** The unscaled value does not fit into a long and is encoded as two's-complement bytes. */
+    private static final int FLAG_BIG_NUMBER = 0x10;
+    /** The {@link Money} amount has a non-default context, which is encoded after the number. */
+    private static final int FLAG_CUSTOM_CONTEXT = 0x20;
+
+    private static final int CONTEXT_PRECISION = 0x01;
+    private static final int CONTEXT_MAX_SCALE = 0x02;
+    private static final int CONTEXT_FIXED_SCALE = 0x04;
+    private static final int CONTEXT_ROUNDING_MODE = 0x08;
+    private static final int CONTEXT_MATH_CONTEXT = 0x10;
+
+    private static final RoundingMode[] ROUNDING_MODES = RoundingMode.values();
+
+    private MonetaryAmountCodec() {
+    }
+
+    /**
+     * Checks whether the given amount can be encoded without losing information.
+     *
+     * @param amount the amount, not null.
+     * @return true, if the amount is of one of the supported types and, for {@link Money}, its context can be
+     * encoded, respectively, for {@link RoundedMoney}, it uses the default rounding and context.
+     */
+    public static boolean canEncode(MonetaryAmount amount) {
+        switch (getType(amount)) {
+            case TYPE_FAST_MONEY:
+            case TYPE_MICRO_MONEY:
+            case TYPE_WIDE_MONEY:
+                return true;
+            case TYPE_MONEY:
+                return isDefaultContext(amount) || decodeContext(ByteBuffer.wrap(encodeContext(amount.getContext())))
+                        .equals(amount.getContext());
+            case TYPE_ROUNDED_MONEY:
+                return isDefaultRoundedContext(amount.getContext());
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Writes the given amount at the buffer's current position, advancing the position.
+     *
+     * @param buffer the target buffer, not null.
+     * @param amount the amount, not null.
+     * @throws IllegalArgumentException        if the amount cannot be encoded, see {@link #canEncode(MonetaryAmount)}.
+     * @throws java.nio.BufferOverflowException if the remaining space of the buffer is not sufficient.
+     */
+    public static void write(ByteBuffer buffer, MonetaryAmount amount) {
+        Objects.requireNonNull(buffer);
+        Objects.requireNonNull(amount);
+        if (!canEncode(amount)) {
+            throw new IllegalArgumentException("Amount cannot be encoded: " + amount);
+        }
+        int type = getType(amount);
+        CurrencyUnit currency = amount.getCurrency();
+        int numericCode = getNumericCode(currency);
+        int header = type;
+        if (numericCode >= 0) {
+            header |= FLAG_NUMERIC_CURRENCY;
+        }
+        long unscaled = 0L;
+        BigInteger bigUnscaled = null;
+        int scale = 0;
+        switch (type) {
+            case TYPE_FAST_MONEY:
+                unscaled = ((FastMoney) amount).getUnscaledValue();
+                break;
+            case TYPE_MICRO_MONEY:
+                unscaled = ((MicroMoney) amount).getUnscaledValue();
+                scale = ((MicroMoney) amount).getScale();
+                break;
+            case TYPE_WIDE_MONEY:
+                bigUnscaled = getBigDecimal(amount).setScale(WideMoney.SCALE).unscaledValue();
+                break;
+            default:
+                BigDecimal number = getBigDecimal(amount);
+                bigUnscaled = number.unscaledValue();
+                scale = number.scale();
+                break;
+        }
+        if (bigUnscaled != null) {
+            if (bigUnscaled.bitLength() < Long.SIZE) {
+                unscaled = bigUnscaled.longValue();
+                bigUnscaled = null;
+            } else {
+                header |= FLAG_BIG_NUMBER;
+            }
+        }
+        byte[] context = null;
+        if (type == TYPE_MONEY && !isDefaultContext(amount)) {
+            header |= FLAG_CUSTOM_CONTEXT;
+            context = encodeContext(amount.getContext());
+        }
+        buffer.put((byte) header);
+        if (numericCode >= 0) {
+            writeVarLong(buffer, numericCode);
+        } else {
+            byte[] code = currency.getCurrencyCode().getBytes(StandardCharsets.UTF_8);
+            writeVarLong(buffer, code.length);
+            buffer.put(code);
+        }
+        if (type == TYPE_MICRO_MONEY) {
+            buffer.put((byte) scale);
+        } else if (type == TYPE_MONEY || type == TYPE_ROUNDED_MONEY) {
+            writeVarLong(buffer, zigZag(scale));
+        }
+        if (bigUnscaled != null) {
+            byte[] bytes = bigUnscaled.toByteArray();
+            writeVarLong(buffer, bytes.length);
+            buffer.put(bytes);
+        } else {
+            writeVarLong(buffer, zigZag(unscaled));
+        }
+        if (context != null) {
+            buffer.put(context);
+        }
+    }
+
+    /**
+     * Reads an amount from the buffer's current position, advancing the position.
+     *
+     * @param buffer the source buffer, not null.
+     * @return the amount read, never null.
+     * @throws IllegalArgumentException          if the data read is not a valid encoded amount.
+     * @throws javax.money.UnknownCurrencyException if the currency read is not available.
+     * @throws BufferUnderflowException           if the buffer ends before the amount is complete.
+     */
+    public static MonetaryAmount read(ByteBuffer buffer) {
+        int header = buffer.get() & 0xFF;
+        int type = header & TYPE_MASK;
+        if (type < TYPE_FAST_MONEY || type > TYPE_WIDE_MONEY) {
+            throw new IllegalArgumentException("Invalid amount type: " + type);
+        }
+        CurrencyUnit currency;
+        if ((header & FLAG_NUMERIC_CURRENCY) != 0) {
+            currency = getCurrency(NumericCodes.getCurrencyCode((int) readVarLong(buffer)));
+        } else {
+            byte[] code = new byte[readLength(buffer)];
+            buffer.get(code);
+            currency = getCurrency(new String(code, StandardCharsets.UTF_8));
+        }
+        int scale = 0;
+        if (type == TYPE_MICRO_MONEY) {
+            scale = buffer.get();
+        } else if (type == TYPE_MONEY || type == TYPE_ROUNDED_MONEY) {
+            scale = (int) unZigZag(readVarLong(buffer));
+        }
+        BigInteger bigUnscaled = null;
+        long unscaled = 0L;
+        if ((header & FLAG_BIG_NUMBER) != 0) {
+            byte[] bytes = new byte[readLength(buffer)];
+            buffer.get(bytes);
+            bigUnscaled = new BigInteger(bytes);
+        } else {
+            unscaled = unZigZag(readVarLong(buffer));
+        }
+        switch (type) {
+            case TYPE_FAST_MONEY:
+                return FastMoney.ofUnscaled(unscaled, currency);
+            case TYPE_MICRO_MONEY:
+                return MicroMoney.ofUnscaled(unscaled, scale, currency);
+            case TYPE_WIDE_MONEY:
+                return WideMoney.of(toBigDecimal(bigUnscaled, unscaled, WideMoney.SCALE), currency);
+            case TYPE_ROUNDED_MONEY:
+                return RoundedMoney.of(toBigDecimal(bigUnscaled, unscaled, scale), currency);
+            case TYPE_MONEY:
+                BigDecimal number = toBigDecimal(bigUnscaled, unscaled, scale);
+                if ((header & FLAG_CUSTOM_CONTEXT) != 0) {
+                    return Money.of(number, currency, decodeContext(buffer));
+                }
+                return Money.of(number, currency);
+            default:
+                throw new IllegalArgumentException("Invalid amount type: " + type);
+        }
+    }
+
+    /**
+     * Encodes the given amount into a new byte array.
+     *
+     * @param amount the amount, not null.
+     * @return the encoded amount, never null.
+     * @throws IllegalArgumentException if the amount cannot be encoded, see {@link #canEncode(MonetaryAmount)}.
+     */
+    public static byte[] encode(MonetaryAmount amount) {
+        ByteBuffer buffer = ByteBuffer.allocate(getMaxEncodedSize(amount));
+        write(buffer, amount);
+        byte[] result = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(result);
+        return result;
+    }
+
+    /**
+     * Decodes an amount encoded by {@link #encode(MonetaryAmount)}.
+     *
+     * @param bytes the encoded amount, not null.
+     * @return the amount, never null.
+     * @throws IllegalArgumentException if the bytes are not a valid encoded amount.
+     */
+    public static MonetaryAmount decode(byte[] bytes) {
+        try {
+            return read(ByteBuffer.wrap(bytes));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated amount data.", e);
+        }
+    }
+
+    /**
+     * Access the serialized form of an amount, to be returned from the amount's {@code writeReplace} method. The
+     * compact form is only used if the amount can be encoded and its currency is a canonical instance, so it can
+     * be resolved by its code on deserialization, see {@link CanonicalCurrencyUnits#isCanonical(CurrencyUnit)}.
+     *
+     * @param amount the amount, not null.
+     * @return the compact serialized form, or {@code amount} itself, if the default serialized form must be used.
+     */
+    public static Object toSerializedForm(MonetaryAmount amount) {
+        if (CanonicalCurrencyUnits.isCanonical(amount.getCurrency()) && canEncode(amount)) {
+            byte[] bytes = encode(amount);
+            if (bytes.length <= SerializedAmount.MAX_LENGTH) {
+                return new SerializedAmount(bytes);
+            }
+        }
+        return amount;
+    }
+
+    private static int getType(MonetaryAmount amount) {
+        Class<?> type = amount.getClass();
+        if (type == FastMoney.class) {
+            return TYPE_FAST_MONEY;
+        }
+        if (type == Money.class) {
+            return TYPE_MONEY;
+        }
+        if (type == RoundedMoney.class) {
+            return TYPE_ROUNDED_MONEY;
+        }
+        if (type == MicroMoney.class) {
+            return TYPE_MICRO_MONEY;
+        }
+        if (type == WideMoney.class) {
+            return TYPE_WIDE_MONEY;
+        }
+        return 0;
+    }
+
+    private static int getMaxEncodedSize(MonetaryAmount amount) {
+        int size = 32 + 3 * amount.getCurrency().getCurrencyCode().length();
+        if (getType(amount) == TYPE_MONEY || getType(amount) == TYPE_ROUNDED_MONEY) {
+            size += getBigDecimal(amount).unscaledValue().bitLength() / 8;
+        }
+        return size;
+    }
+
+    /**
+     * Evaluates the ISO numeric code to be written for the given currency. Numeric codes are only used for the
+     * JDK currencies, whose numeric code identifies them unambiguously.
+     */
+    private static int getNumericCode(CurrencyUnit currency) {
+        String code = currency.getCurrencyCode();
+        if (JDKCurrencyProvider.getCachedCurrency(code) != currency
+                || ConfigurableCurrencyUnitProvider.getRegisteredCurrency(code) != null) {
+            return -1;
+        }
+        int numericCode = currency.getNumericCode();
+        if (numericCode > 0 && code.equals(NumericCodes.getCurrencyCode(numericCode))) {
+            return numericCode;
+        }
+        return -1;
+    }
+
+    private static CurrencyUnit getCurrency(String code) {
+        CurrencyUnit currency = ConfigurableCurrencyUnitProvider.getRegisteredCurrency(code);
+        if (currency == null) {
+            currency = JDKCurrencyProvider.getCachedCurrency(code);
+        }
+        if (currency == null) {
+            currency = Monetary.getCurrency(code);
+        }
+        return currency;
+    }
+
+    /**
+     * Access the number of an amount, retaining its scale, other than {@code numberValue(BigDecimal.class)}.
+     */
+    private static BigDecimal getBigDecimal(MonetaryAmount amount) {
+        NumberValue number = amount.getNumber();
+        if (number instanceof DefaultNumberValue) {
+            Number wrapped = ((DefaultNumberValue) number).getWrappedNumber();
+            if (wrapped instanceof BigDecimal) {
+                return (BigDecimal) wrapped;
+            }
+        }
+        return number.numberValue(BigDecimal.class);
+    }
+
+    private static BigDecimal toBigDecimal(BigInteger bigUnscaled, long unscaled, int scale) {
+        if (bigUnscaled != null) {
+            return new BigDecimal(bigUnscaled, scale);
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static boolean isDefaultContext(MonetaryAmount amount) {
+        return amount.getContext() == Money.DEFAULT_MONETARY_CONTEXT
+                || amount.getContext().equals(Money.DEFAULT_MONETARY_CONTEXT);
+    }
+
+    private static boolean isDefaultRoundedContext(MonetaryContext context) {
+        return context.get("MonetaryRounding", Object.class) == Monetary.getDefaultRounding()
+                && context.equals(RoundedMoney.DEFAULT_MONETARY_CONTEXT);
+    }
+
+    /**
+     * Encodes the attributes of a {@link Money} context, which are the precision, maximal scale, fixed scale
+     * flag, {@link RoundingMode} and {@link MathContext}. Whether these attributes are sufficient to restore
+     * the context is checked by {@link #canEncode(MonetaryAmount)}.
+     */
+    private static byte[] encodeContext(MonetaryContext context) {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        Integer precision = context.getInt("precision");
+        Integer maxScale = context.getInt("maxScale");
+        Boolean fixedScale = context.getBoolean("fixedScale");
+        RoundingMode roundingMode = context.get(RoundingMode.class);
+        MathContext mathContext = context.get(MathContext.class);
+        int flags = 0;
+        flags |= precision != null ? CONTEXT_PRECISION : 0;
+        flags |= maxScale != null ? CONTEXT_MAX_SCALE : 0;
+        flags |= fixedScale != null ? CONTEXT_FIXED_SCALE : 0;
+        flags |= roundingMode != null ? CONTEXT_ROUNDING_MODE : 0;
+        flags |= mathContext != null ? CONTEXT_MATH_CONTEXT : 0;
+        buffer.put((byte) flags);
+        if (precision != null) {
+            writeVarLong(buffer, zigZag(precision));
+        }
+        if (maxScale != null) {
+            writeVarLong(buffer, zigZag(maxScale));
+        }
+        if (fixedScale != null) {
+            buffer.put((byte) (fixedScale ? 1 : 0));
+        }
+        if (roundingMode != null) {
+            buffer.put((byte) roundingMode.ordinal());
+        }
+        if (mathContext != null) {
+            writeVarLong(buffer, mathContext.getPrecision());
+            buffer.put((byte) mathContext.getRoundingMode().ordinal());
+        }
+        byte[] result = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(result);
+        return result;
+    }
+
+    private static MonetaryContext decodeContext(ByteBuffer buffer) {
+        MonetaryContextBuilder builder = MonetaryContextBuilder.of(Money.class);
+        int flags = buffer.get();
+        if ((flags & CONTEXT_PRECISION) != 0) {
+            builder.setPrecision((int) unZigZag(readVarLong(buffer)));
+        }
+        if ((flags & CONTEXT_MAX_SCALE) != 0) {
+            builder.setMaxScale((int) unZigZag(readVarLong(buffer)));
+        }
+        if ((flags & CONTEXT_FIXED_SCALE) != 0) {
+            builder.setFixedScale(buffer.get() != 0);
+        }
+        if ((flags & CONTEXT_ROUNDING_MODE) != 0) {
+            builder.set(getRoundingMode(buffer.get()));
+        }
+        if ((flags & CONTEXT_MATH_CONTEXT) != 0) {
+            int precision = (int) readVarLong(buffer);
+            builder.set(new MathContext(precision, getRoundingMode(buffer.get())));
+        }
+        return builder.build();
+    }
+
+    private static RoundingMode getRoundingMode(int ordinal) {
+        if (ordinal < 0 || ordinal >= ROUNDING_MODES.length) {
+            throw new IllegalArgumentException("Invalid rounding mode: " + ordinal);
+        }
+        return ROUNDING_MODES[ordinal];
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        return (int) length;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long result = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length number.");
+    }
+
+    /**
+     * Lazily evaluated mapping of the ISO numeric codes to the currency codes of the JDK currencies. Numeric
+     * codes shared by several currencies are not mapped.
+     */
+    private static final class NumericCodes {
+
+        private static final Map<Integer, String> CODES = createCodes();
+
+        private static Map<Integer, String> createCodes() {
+            Map<Integer, String> codes = new HashMap<>();
+            Set<Integer> ambiguous = new HashSet<>();
+            for (Currency currency : Currency.getAvailableCurrencies()) {
+                int numericCode = currency.getNumericCode();
+                if (numericCode > 0 && codes.putIfAbsent(numericCode, currency.getCurrencyCode()) != null) {
+                    ambiguous.add(numericCode);
+                }
+            }
+            codes.keySet().removeAll(ambiguous);
+            return codes;
+        }
+
+        static String getCurrencyCode(int numericCode) {
+            String code = CODES.get(numericCode);
+            if (code == null) {
+                throw new IllegalArgumentException("Unknown numeric currency code: " + numericCode);
+            }
+            return code;
+        }
+    }
+
+    /**
+     * The serialized form of the amounts, holding their encoded bytes.
+     */
+    private static final class SerializedAmount implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        static final int MAX_LENGTH = 0xFFFF;
+
+        private byte[] bytes;
+
+        /**
+         * Constructor used by the serialization framework.
+         */
+        public SerializedAmount() {
+        }
+
+        SerializedAmount(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            bytes = new byte[in.readUnsignedShort()];
+            in.readFully(bytes);
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                return decode(bytes);
+            } catch (RuntimeException e) {
+                InvalidObjectException exception = new InvalidObjectException("Invalid amount data.");
+                exception.initCause(e);
+                throw exception;
+            }
+        }
+    }
+}
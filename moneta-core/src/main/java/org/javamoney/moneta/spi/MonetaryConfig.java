@@ -40,7 +40,8 @@ public final class MonetaryConfig {
 
     /**
      * Sets a new config value. Note that when a custom {@link MonetaryConfigProvider} is registered, writing
-     * of configuration values is not supported. In this case a debug log (fine) is written.
+     * of configuration values is not supported. In this case a debug log (fine) is written. On success the
+     * current {@link MonetaryConfigSnapshot} is refreshed.
      *
      * @param key the key to be set, not null.
      * @param value the new value, or null.
@@ -49,10 +50,14 @@ public final class MonetaryConfig {
     public static String setValue(String key, String value){
         if(Bootstrap.getService(MonetaryConfigProvider.class) instanceof DefaultConfigProvider) {
             DefaultConfigProvider defaultConfigProvider = (DefaultConfigProvider)Bootstrap.getService(MonetaryConfigProvider.class);
-            if (value == null) {
-                return defaultConfigProvider.config.remove(key);
+            try {
+                if (value == null) {
+                    return defaultConfigProvider.config.remove(key);
+                }
+                return defaultConfigProvider.config.put(key, value);
+            } finally {
+                MonetaryConfigSnapshot.refresh();
             }
-            return defaultConfigProvider.config.put(key, value);
         }
         LOG.fine("MonetaryConfig does not support deprecated write of " + key + "=" + value);
         return null;
@@ -0,0 +1,141 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import javax.money.spi.Bootstrap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versioned snapshot of the configuration provided by the current {@link MonetaryConfigProvider}, intended to
+ * be used on hot paths, such as arithmetic operations or {@code toString()} of amounts.
+ * <p>
+ * The provider is resolved once per snapshot and each key is looked up in the provider at most once, all further
+ * reads of the same key are served from the snapshot. System properties are checked on each read before the
+ * memoized value, so, as with the {@link DefaultConfigProvider}, they override any other configuration and
+ * changes take effect immediately. A new snapshot is created after {@link #refresh()} was called, which happens
+ * automatically on {@link MonetaryConfig#setValue(String, String)}. When configuration is changed by other means,
+ * e.g. by registering another {@link MonetaryConfigProvider} at runtime, {@link #refresh()} must be called to
+ * make the changes visible.
+ * </p>
+ * This class is thread-safe.
+ *
+ * @since 1.5
+ */
+public final class MonetaryConfigSnapshot {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private static volatile MonetaryConfigSnapshot current;
+
+    private final long version;
+
+    private final MonetaryConfigProvider provider;
+
+    private final Map<String, Optional<String>> values = new ConcurrentHashMap<>();
+
+    private MonetaryConfigSnapshot(long version, MonetaryConfigProvider provider) {
+        this.version = version;
+        this.provider = Objects.requireNonNull(provider, "No MonetaryConfigProvider registered.");
+    }
+
+    /**
+     * Access the current snapshot, creating it if necessary.
+     *
+     * @return the current snapshot, never null.
+     */
+    public static MonetaryConfigSnapshot current() {
+        MonetaryConfigSnapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (MonetaryConfigSnapshot.class) {
+                snapshot = current;
+                if (snapshot == null) {
+                    snapshot = new MonetaryConfigSnapshot(VERSIONS.incrementAndGet(),
+                            Bootstrap.getService(MonetaryConfigProvider.class));
+                    current = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discards the current snapshot, so the configuration is reevaluated on next access.
+     */
+    public static void refresh() {
+        synchronized (MonetaryConfigSnapshot.class) {
+            current = null;
+        }
+    }
+
+    /**
+     * Get the version of this snapshot. Each snapshot created has a higher version than its predecessors,
+     * so clients can use the version to detect configuration changes.
+     *
+     * @return the version, always greater than zero.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get a configuration value.
+     *
+     * @param key the key, not null.
+     * @return the value, or an empty optional.
+     */
+    public Optional<String> getString(String key) {
+        String systemValue = System.getProperty(key);
+        if (systemValue != null) {
+            return Optional.of(systemValue);
+        }
+        Optional<String> value = values.get(key);
+        if (value == null) {
+            value = Optional.ofNullable(provider.getProperty(key));
+            values.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Get a configuration value.
+     *
+     * @param key          the key, not null.
+     * @param defaultValue the value returned, if the key is not configured.
+     * @return the value, or the default value.
+     */
+    public String getString(String key, String defaultValue) {
+        return getString(key).orElse(defaultValue);
+    }
+
+    /**
+     * Get a boolean configuration value.
+     *
+     * @param key          the key, not null.
+     * @param defaultValue the value returned, if the key is not configured.
+     * @return the value as evaluated by {@link Boolean#parseBoolean(String)}, or the default value.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Optional<String> value = getString(key);
+        if (value.isPresent()) {
+            return Boolean.parseBoolean(value.get());
+        }
+        return defaultValue;
+    }
+}
@@ -37,8 +37,26 @@ public class MoneyAmountFactory extends AbstractAmountFactory<Money> {
     static final MonetaryContext MAX_CONTEXT =
             MonetaryContextBuilder.of(Money.class).setPrecision(0).setMaxScale(-1).set(RoundingMode.HALF_EVEN).build();
 
+    /**
+     * The context of amounts created with the {@link #DEFAULT_CONTEXT}.
+     */
+    private static final MonetaryContext DEFAULT_MONEY_CONTEXT = MonetaryContext.from(DEFAULT_CONTEXT, Money.class);
+
+    /**
+     * Shared instances of small values, such as zero, created with the {@link #DEFAULT_CONTEXT}.
+     */
+    private static final MonetaryAmountCache<Money> DEFAULT_CACHE = new MonetaryAmountCache<>(
+            (number, currency) -> Money.of(number, currency, DEFAULT_MONEY_CONTEXT));
+
     @Override
     protected Money create(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        if (monetaryContext == DEFAULT_CONTEXT) {
+            Money cached = DEFAULT_CACHE.get(MoneyUtils.getBigDecimal(number), currency);
+            if (cached != null) {
+                return cached;
+            }
+            return Money.of(number, currency, DEFAULT_MONEY_CONTEXT);
+        }
         return Money.of(number, currency, MonetaryContext.from(monetaryContext, Money.class));
     }
 
@@ -50,6 +50,14 @@ public final class MoneyUtils {
     public static final char NBSP = NBSP_STRING.charAt(0);
     public static final char NNBSP = NNBSP_STRING.charAt(0);
 
+    /**
+     * Cache of resolved {@link MonetaryContext} instances, keyed by identity. Amounts derived from each other
+     * usually share the same context instance, so resolving the {@link MathContext} and max scale once per
+     * context avoids repeated attribute lookups on every arithmetic operation. Colliding entries are simply
+     * replaced, the size must be a power of two.
+     */
+    private static final ResolvedContext[] RESOLVED_CONTEXTS = new ResolvedContext[64];
+
     private MoneyUtils() {
     }
 
@@ -103,19 +111,33 @@ public final class MoneyUtils {
      * @return the corresponding {@link BigDecimal}
      */
     public static BigDecimal getBigDecimal(Number num, MonetaryContext moneyContext) {
-    	BigDecimal bd = getBigDecimal(num);
         if (Objects.nonNull(moneyContext)) {
-            MathContext mc = getMathContext(moneyContext, HALF_EVEN);
-            bd = new BigDecimal(bd.toString(), mc);
-            int maxScale = moneyContext.getMaxScale();
-            if (maxScale > 0) {
-                if (bd.scale() > maxScale) {
-                    if (LOG.isLoggable(FINEST)) {
-                        LOG.log(FINEST, "The number scale is " + bd.scale() + " but Max Scale is " + maxScale);
-                    }
-                    bd = bd.setScale(maxScale, mc.getRoundingMode());
-                }
+            ResolvedContext resolved = resolve(moneyContext, HALF_EVEN);
+            return getBigDecimal(num, resolved.mathContext, resolved.maxScale);
+        }
+        return getBigDecimal(num);
+    }
+
+    /**
+     * Creates a {@link BigDecimal} from the given {@link Number} doing the valid conversion depending the type
+     * given, rounded by the given {@link MathContext} and limited to the given maximal scale. Other than
+     * {@link #getBigDecimal(Number, MonetaryContext)}, this does not involve the cache of resolved contexts, so
+     * it is suited for contexts created per amount.
+     *
+     * @param num         the number type
+     * @param mathContext the {@link MathContext} applied, not null.
+     * @param maxScale    the maximal scale, or a value {@code <= 0}, if the scale is not limited.
+     * @return the corresponding {@link BigDecimal}
+     * @see #createMathContext(MonetaryContext, RoundingMode)
+     * @since 1.5
+     */
+    public static BigDecimal getBigDecimal(Number num, MathContext mathContext, int maxScale) {
+        BigDecimal bd = getBigDecimal(num).round(mathContext);
+        if (maxScale > 0 && bd.scale() > maxScale) {
+            if (LOG.isLoggable(FINEST)) {
+                LOG.log(FINEST, "The number scale is " + bd.scale() + " but Max Scale is " + maxScale);
             }
+            bd = bd.setScale(maxScale, mathContext.getRoundingMode());
         }
         return bd;
     }
@@ -129,19 +151,75 @@ public final class MoneyUtils {
      * @return the corresponding {@link MathContext}
      */
 	public static MathContext getMathContext(MonetaryContext monetaryContext, RoundingMode defaultMode) {
-		MathContext ctx = monetaryContext.get(MathContext.class);
-		if (Objects.nonNull(ctx)) {
-			return ctx;
-		}
-		RoundingMode roundingMode = monetaryContext.get(RoundingMode.class);
-		if (roundingMode == null) {
-			roundingMode = Optional.ofNullable(defaultMode).orElse(HALF_EVEN);
-		}
-		return new MathContext(monetaryContext.getPrecision(), roundingMode);
+		return resolve(monetaryContext, defaultMode).mathContext;
 	}
 
     /**
-     * Method to check if a currency is compatible with this amount instance.
+     * Evaluates the maximal scale from the given {@link MonetaryContext}.
+     *
+     * @param monetaryContext the {@link MonetaryContext}
+     * @return the maximal scale, or a value {@code <= 0}, if the scale is not limited.
+     * @see MonetaryContext#getMaxScale()
+     * @since 1.5
+     */
+    public static int getMaxScale(MonetaryContext monetaryContext) {
+        return resolve(monetaryContext, HALF_EVEN).maxScale;
+    }
+
+    /**
+     * Evaluates the {@link MathContext} from the given {@link MonetaryContext}, without caching the result as
+     * {@link #getMathContext(MonetaryContext, RoundingMode)} does.
+     *
+     * @param monetaryContext the {@link MonetaryContext}
+     * @param defaultMode     the default {@link RoundingMode}, to be used if no one is set
+     *                        in {@link MonetaryContext}.
+     * @return the corresponding {@link MathContext}
+     * @since 1.5
+     */
+    public static MathContext createMathContext(MonetaryContext monetaryContext, RoundingMode defaultMode) {
+        MathContext ctx = monetaryContext.get(MathContext.class);
+        if (Objects.isNull(ctx)) {
+            RoundingMode roundingMode = monetaryContext.get(RoundingMode.class);
+            if (roundingMode == null) {
+                roundingMode = Optional.ofNullable(defaultMode).orElse(HALF_EVEN);
+            }
+            ctx = new MathContext(monetaryContext.getPrecision(), roundingMode);
+        }
+        return ctx;
+    }
+
+    private static ResolvedContext resolve(MonetaryContext monetaryContext, RoundingMode defaultMode) {
+        int index = System.identityHashCode(monetaryContext) & (RESOLVED_CONTEXTS.length - 1);
+        ResolvedContext resolved = RESOLVED_CONTEXTS[index];
+        if (resolved == null || resolved.monetaryContext != monetaryContext || resolved.defaultMode != defaultMode) {
+            resolved = new ResolvedContext(monetaryContext, defaultMode);
+            RESOLVED_CONTEXTS[index] = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * The {@link MathContext} and max scale evaluated from a {@link MonetaryContext}. Instances are immutable, so
+     * they can be shared between threads without further synchronization.
+     */
+    private static final class ResolvedContext {
+
+        private final MonetaryContext monetaryContext;
+        private final RoundingMode defaultMode;
+        private final MathContext mathContext;
+        private final int maxScale;
+
+        private ResolvedContext(MonetaryContext monetaryContext, RoundingMode defaultMode) {
+            this.monetaryContext = monetaryContext;
+            this.defaultMode = defaultMode;
+            this.mathContext = createMathContext(monetaryContext, defaultMode);
+            this.maxScale = monetaryContext.getMaxScale();
+        }
+    }
+
+    /**
+     * Method to check if a currency is compatible with this amount instance. Identical currency instances, as
+     * the {@link CanonicalCurrencyUnits canonical} ones, are accepted without comparing the currency codes.
      *
      * @param amount       The monetary amount to be compared to, never null.
      * @param currencyUnit the currency unit to compare, never null.
@@ -152,11 +230,28 @@ public final class MoneyUtils {
     public static void checkAmountParameter(MonetaryAmount amount, CurrencyUnit currencyUnit) {
         requireNonNull(amount, "Amount must not be null.");
         final CurrencyUnit amountCurrency = amount.getCurrency();
-        if (!currencyUnit.getCurrencyCode().equals(amountCurrency.getCurrencyCode())) {
+        if (amountCurrency != currencyUnit
+                && !currencyUnit.getCurrencyCode().equals(amountCurrency.getCurrencyCode())) {
             throw new MonetaryException("Currency mismatch: " + currencyUnit + '/' + amountCurrency);
         }
     }
 
+    /**
+     * Compares two currencies by their currency codes, as done by the amount implementations when comparing amounts.
+     * Identical instances are detected without comparing the codes.
+     *
+     * @param currency1 the first currency, not null.
+     * @param currency2 the second currency, not null.
+     * @return the result of comparing the currency codes.
+     * @since 1.5
+     */
+    public static int compareCurrencies(CurrencyUnit currency1, CurrencyUnit currency2) {
+        if (currency1 == currency2) {
+            return 0;
+        }
+        return currency1.getCurrencyCode().compareTo(currency2.getCurrencyCode());
+    }
+
     /**
      * Internal method to check for correct number parameter.
      *
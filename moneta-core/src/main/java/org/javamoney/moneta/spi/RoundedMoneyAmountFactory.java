@@ -38,6 +38,18 @@ public class RoundedMoneyAmountFactory extends AbstractAmountFactory<RoundedMone
     static final MonetaryContext MAX_CONTEXT =
             MonetaryContextBuilder.of(RoundedMoney.class).setPrecision(0).set(RoundingMode.HALF_EVEN).build();
 
+    /**
+     * The context of amounts created with the {@link #DEFAULT_CONTEXT}.
+     */
+    private static final MonetaryContext DEFAULT_ROUNDED_MONEY_CONTEXT =
+            MonetaryContext.from(DEFAULT_CONTEXT, RoundedMoney.class);
+
+    /**
+     * Shared instances of small values, such as zero, created with the {@link #DEFAULT_CONTEXT}.
+     */
+    private static final MonetaryAmountCache<RoundedMoney> DEFAULT_CACHE = new MonetaryAmountCache<>(
+            (number, currency) -> RoundedMoney.of(number, currency, DEFAULT_ROUNDED_MONEY_CONTEXT));
+
     /*
      * (non-Javadoc)
      * @see org.javamoney.moneta.spi.AbstractAmountFactory#of(javax.money.CurrencyUnit,
@@ -45,6 +57,17 @@ public class RoundedMoneyAmountFactory extends AbstractAmountFactory<RoundedMone
      */
     @Override
     protected RoundedMoney create(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        if (monetaryContext == DEFAULT_CONTEXT) {
+            RoundedMoney cached = DEFAULT_CACHE.get(MoneyUtils.getBigDecimal(number), currency);
+            if (cached != null) {
+                return cached;
+            }
+            return RoundedMoney.of(number, currency, DEFAULT_ROUNDED_MONEY_CONTEXT);
+        }
+        if (RoundedMoney.DEFAULT_MONETARY_CONTEXT.equals(monetaryContext)) {
+            // copy of the default context, e.g. when rounding an amount, so share the default context
+            return RoundedMoney.of(MoneyUtils.getBigDecimal(number), currency);
+        }
         return RoundedMoney.of(number, currency, MonetaryContext.from(monetaryContext, RoundedMoney.class));
     }
 
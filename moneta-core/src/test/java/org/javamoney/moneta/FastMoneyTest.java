@@ -33,6 +33,7 @@ import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Locale;
+import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -269,6 +270,28 @@ public class FastMoneyTest {
         assertEquals(m4.compareTo(m2), 1);
     }
 
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#compareTo(javax.money.MonetaryAmount)} with
+     * mixed amount types and currencies.
+     */
+    @Test
+    public void testCompareTo_MixedTypes() {
+        FastMoney m = FastMoney.of(new BigDecimal("1.5"), "CHF");
+        assertEquals(m.compareTo(Money.of(new BigDecimal("1.50000000"), "CHF")), 0);
+        assertEquals(m.compareTo(Money.of(new BigDecimal("1.500000001"), "CHF")), -1);
+        assertEquals(m.compareTo(Money.of(new BigDecimal("-1.5"), "CHF")), 1);
+        assertEquals(m.compareTo(Money.of(0, "CHF")), 1);
+        assertEquals(m.compareTo(RoundedMoney.of(new BigDecimal("1.6"), "CHF")), -1);
+        assertEquals(FastMoney.of(0, "CHF").compareTo(Money.of(new BigDecimal("0.000"), "CHF")), 0);
+        assertEquals(FastMoney.of(-1, "CHF").compareTo(Money.of(0, "CHF")), -1);
+        assertEquals(FastMoney.MIN_VALUE.compareTo(FastMoney.MAX_VALUE), -1);
+        assertTrue(m.compareTo(FastMoney.of(1, "EUR")) < 0);
+        assertTrue(m.compareTo(Money.of(1, "AUD")) > 0);
+        assertTrue(m.isLessThan(Money.of(new BigDecimal("1.50001"), "CHF")));
+        assertTrue(m.isEqualTo(Money.of(new BigDecimal("1.50"), "CHF")));
+        assertTrue(m.isGreaterThanOrEqualTo(FastMoney.of(new BigDecimal("1.5"), "CHF")));
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#abs()}.
      */
@@ -378,6 +401,27 @@ public class FastMoneyTest {
         assertEquals(FastMoney.of(BigDecimal.valueOf(20), "CHF"), m.divide(5L));
     }
 
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#divide(long)} and
+     * {@link org.javamoney.moneta.FastMoney#divide(java.lang.Number)}, results are rounded HALF_EVEN.
+     */
+    @Test
+    public void testDivide_RoundsHalfEven() {
+        FastMoney m = FastMoney.of(20, "CHF");
+        assertEquals(m.divide(3L), FastMoney.of(new BigDecimal("6.66667"), "CHF"));
+        assertEquals(m.divide(BigDecimal.valueOf(3)), FastMoney.of(new BigDecimal("6.66667"), "CHF"));
+        assertEquals(m.negate().divide(3), FastMoney.of(new BigDecimal("-6.66667"), "CHF"));
+        assertEquals(FastMoney.of(new BigDecimal("0.00005"), "CHF").divide(2L),
+                FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(FastMoney.of(10, "CHF").divide(new BigDecimal("1024")),
+                FastMoney.of(new BigDecimal("0.00977"), "CHF"));
+        assertEquals(FastMoney.of(10, "CHF").divide(new BigDecimal("0.000003")),
+                FastMoney.of(new BigDecimal("3333333.33333"), "CHF"));
+        assertThrows(ArithmeticException.class, () -> m.divide(0L));
+        assertThrows(ArithmeticException.class, () -> m.divide(BigDecimal.ZERO));
+        assertThrows(ArithmeticException.class, () -> m.divide(new BigDecimal("0.0000000000001")));
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#divide(double)}.
      */
@@ -469,6 +513,60 @@ public class FastMoneyTest {
         assertEquals(FastMoney.of(expectedValue, "CHF"), m.multiply(multiplicand));
     }
 
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#multiply(java.lang.Number)}, results are rounded
+     * HALF_EVEN, also for factors exceeding the scale of {@link FastMoney}.
+     */
+    @Test
+    public void testMultiplyNumber_RoundsHalfEven() {
+        FastMoney m = FastMoney.of(10, "CHF");
+        assertEquals(m.multiply(new BigDecimal("1.123456")), FastMoney.of(new BigDecimal("11.23456"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("0.0000015")), FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("0.0000025")), FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(m.negate().multiply(new BigDecimal("0.0000035")), FastMoney.of(new BigDecimal("-0.00004"), "CHF"));
+        assertEquals(FastMoney.of(new BigDecimal("0.00003"), "CHF").multiply(new BigDecimal("0.5")),
+                FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(FastMoney.of(new BigDecimal("92233720368547.75807"), "CHF").multiply(new BigDecimal("0.99999")),
+                FastMoney.of(new BigDecimal("92232798031344.07259"), "CHF"));
+        assertSame(m.multiply(BigDecimal.ONE), m);
+        assertSame(m.multiply(1), m);
+        assertThrows(ArithmeticException.class, () -> m.multiply(new BigDecimal("9300000000000.123456")));
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#multiply(double)}, huge results are checked for
+     * overflow.
+     */
+    @Test
+    public void testMultiplyDouble_Overflow() {
+        FastMoney m = FastMoney.of(90000000000000L, "CHF");
+        assertEquals(m.multiply(1.01), FastMoney.of(90900000000000L, "CHF"));
+        assertThrows(ArithmeticException.class, () -> m.multiply(2.0));
+        assertThrows(ArithmeticException.class, () -> m.multiply(Double.valueOf(-2.0)));
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#multiply(double)} and
+     * {@link org.javamoney.moneta.FastMoney#divide(double)}, results are rounded HALF_EVEN based on the decimal
+     * value of the {@code double}, as when passing it as {@link BigDecimal}.
+     */
+    @Test
+    public void testDouble_RoundsHalfEven() {
+        FastMoney m = FastMoney.of(new BigDecimal("-2.20845"), "EUR");
+        assertEquals(m.multiply(2.3), FastMoney.of(new BigDecimal("-5.07944"), "EUR"));
+        assertEquals(m.multiply(Double.valueOf(2.3)), FastMoney.of(new BigDecimal("-5.07944"), "EUR"));
+        FastMoney d = FastMoney.of(new BigDecimal("-0.33003"), "EUR");
+        assertEquals(d.divide(0.0096), FastMoney.of(new BigDecimal("-34.37812"), "EUR"));
+        assertEquals(d.divide(Double.valueOf(0.0096)), FastMoney.of(new BigDecimal("-34.37812"), "EUR"));
+        Random random = new Random(42L);
+        for (int i = 0; i < 10_000; i++) {
+            FastMoney amount = FastMoney.ofUnscaled(random.nextInt(2_000_000) - 1_000_000, Monetary.getCurrency("EUR"));
+            double factor = Math.round(random.nextDouble() * 100_000) / 10_000.0 + 0.0001;
+            assertEquals(amount.multiply(factor), amount.multiply(BigDecimal.valueOf(factor)));
+            assertEquals(amount.divide(factor), amount.divide(BigDecimal.valueOf(factor)));
+        }
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#multiply(long)}.
      */
@@ -697,6 +795,34 @@ public class FastMoneyTest {
         assertSame(m, m.subtract(FastMoney.of(0, "CHF")));
     }
 
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#add(javax.money.MonetaryAmount)} and
+     * {@link org.javamoney.moneta.FastMoney#subtract(javax.money.MonetaryAmount)} mixing amount types.
+     */
+    @Test
+    public void testAddSubtractMixedTypes() {
+        FastMoney m = FastMoney.of(new BigDecimal("12.40234"), "CHF");
+        assertEquals(FastMoney.of(new BigDecimal("14.75234"), "CHF"), m.add(Money.of(new BigDecimal("2.35"), "CHF")));
+        assertEquals(FastMoney.of(new BigDecimal("10.05234"), "CHF"), m.subtract(Money.of(new BigDecimal("2.35"), "CHF")));
+        assertSame(m, m.add(Money.of(0, "CHF")));
+        assertSame(m, m.subtract(Money.of(0, "CHF")));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAdd_CurrencyMismatch() {
+        FastMoney.of(1, "CHF").add(FastMoney.of(1, "EUR"));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testSubtract_CurrencyMismatch() {
+        FastMoney.of(1, "CHF").subtract(FastMoney.of(1, "EUR"));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSubtract_Overflow() {
+        FastMoney.of(-92233720368547L, "CHF").subtract(FastMoney.of(92233720368547L, "CHF"));
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#remainder(java.lang.Number)} .
      */
@@ -0,0 +1,172 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryException;
+
+import org.testng.annotations.Test;
+
+public class FastMoneyVectorTest {
+
+    private static final CurrencyUnit EUR = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit USD = Monetary.getCurrency("USD");
+
+    private static FastMoneyVector vector(String... values) {
+        FastMoney[] amounts = Arrays.stream(values).map(v -> FastMoney.of(new BigDecimal(v), EUR))
+                .toArray(FastMoney[]::new);
+        return FastMoneyVector.of(EUR, amounts);
+    }
+
+    @Test
+    public void testOf() {
+        FastMoneyVector vector = FastMoneyVector.of(EUR, FastMoney.of(1, EUR), Money.of(new BigDecimal("2.5"), EUR));
+        assertEquals(vector.length(), 2);
+        assertEquals(vector.getCurrency(), EUR);
+        assertEquals(vector.get(0), FastMoney.of(1, EUR));
+        assertEquals(vector.get(1), FastMoney.of(new BigDecimal("2.5"), EUR));
+        assertEquals(vector.getUnscaledValue(1), 250000L);
+        assertEquals(vector.asList(), Arrays.asList(FastMoney.of(1, EUR), FastMoney.of(new BigDecimal("2.5"), EUR)));
+        assertEquals(FastMoneyVector.ofUnscaled(EUR, 100000L, 250000L), vector);
+        assertEquals(FastMoneyVector.zero(EUR, 3).toUnscaledArray(), new long[3]);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testOf_CurrencyMismatch() {
+        FastMoneyVector.of(EUR, FastMoney.of(1, USD));
+    }
+
+    @Test
+    public void testUnscaledArrayIsCopied() {
+        long[] values = {1L, 2L};
+        FastMoneyVector vector = FastMoneyVector.ofUnscaled(EUR, values);
+        values[0] = 5L;
+        vector.toUnscaledArray()[1] = 5L;
+        assertEquals(vector.toUnscaledArray(), new long[]{1L, 2L});
+    }
+
+    @Test
+    public void testAddSubtract() {
+        FastMoneyVector a = vector("1.5", "-2", "10.00001");
+        FastMoneyVector b = vector("0.5", "3", "-0.00001");
+        assertEquals(a.add(b), vector("2", "1", "10"));
+        assertEquals(a.subtract(b), vector("1", "-5", "10.00002"));
+        assertEquals(a.negate(), vector("-1.5", "2", "-10.00001"));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAdd_Overflow() {
+        FastMoneyVector.ofUnscaled(EUR, 1L, Long.MAX_VALUE).add(FastMoneyVector.ofUnscaled(EUR, 1L, 1L));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSubtract_Overflow() {
+        FastMoneyVector.ofUnscaled(EUR, Long.MIN_VALUE).subtract(FastMoneyVector.ofUnscaled(EUR, 1L));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAdd_LengthMismatch() {
+        vector("1").add(vector("1", "2"));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAdd_CurrencyMismatch() {
+        vector("1").add(FastMoneyVector.ofUnscaled(USD, 1L));
+    }
+
+    @Test
+    public void testMultiply() {
+        FastMoneyVector vector = vector("1.5", "-2", "0.00003");
+        assertEquals(vector.multiply(3L), vector("4.5", "-6", "0.00009"));
+        assertEquals(vector.multiply(new BigDecimal("0.5")), vector("0.75", "-1", "0.00002"));
+        assertEquals(vector.multiply(new BigDecimal("1E+2")), vector("150", "-200", "0.003"));
+        assertEquals(vector.multiply(new BigDecimal("0.1000000000000000000001")),
+                vector("0.15", "-0.2", "0"));
+        for (int i = 0; i < vector.length(); i++) {
+            assertEquals(vector.multiply(new BigDecimal("1.0825")).get(i),
+                    vector.get(i).multiply(new BigDecimal("1.0825")));
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMultiply_Overflow() {
+        FastMoneyVector.ofUnscaled(EUR, Long.MAX_VALUE / 2 + 1).multiply(2L);
+    }
+
+    @Test
+    public void testMultiply_OverflowOfAnyElement() {
+        assertThrows(ArithmeticException.class,
+                () -> FastMoneyVector.ofUnscaled(EUR, 1L, Long.MIN_VALUE / 3 - 1, 2L).multiply(3L));
+        assertThrows(ArithmeticException.class,
+                () -> FastMoneyVector.ofUnscaled(EUR, 0L, Long.MIN_VALUE).multiply(-1L));
+        assertThrows(ArithmeticException.class, () -> FastMoneyVector.ofUnscaled(EUR, -1L).multiply(Long.MIN_VALUE));
+        assertThrows(ArithmeticException.class, () -> FastMoneyVector.ofUnscaled(EUR, Long.MIN_VALUE).negate());
+        assertEquals(FastMoneyVector.ofUnscaled(EUR, 1L, Long.MIN_VALUE / 3).multiply(3L).toUnscaledArray(),
+                new long[]{3L, Long.MIN_VALUE / 3 * 3});
+        assertEquals(FastMoneyVector.ofUnscaled(EUR, 1L).multiply(Long.MIN_VALUE).toUnscaledArray(),
+                new long[]{Long.MIN_VALUE});
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMultiply_NaN() {
+        vector("1").multiply(Double.NaN);
+    }
+
+    @Test
+    public void testSumMinMax() {
+        FastMoneyVector vector = vector("1.5", "-2", "10.00001", "0");
+        assertEquals(vector.sum(), FastMoney.of(new BigDecimal("9.50001"), EUR));
+        assertEquals(vector.min(), FastMoney.of(-2, EUR));
+        assertEquals(vector.max(), FastMoney.of(new BigDecimal("10.00001"), EUR));
+        assertEquals(FastMoneyVector.zero(EUR, 0).sum(), FastMoney.zero(EUR));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSum_Overflow() {
+        FastMoneyVector.ofUnscaled(EUR, Long.MAX_VALUE, 1L).sum();
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testMin_Empty() {
+        FastMoneyVector.zero(EUR, 0).min();
+    }
+
+    @Test
+    public void testCompareTo() {
+        FastMoneyVector vector = vector("1.5", "-2", "10");
+        assertEquals(vector.compareTo(vector("1.5", "-1", "9")), new int[]{0, -1, 1});
+        assertEquals(vector.compareTo(Money.of(new BigDecimal("1.5"), EUR)), new int[]{0, -1, 1});
+        assertEquals(vector.countGreaterThan(FastMoney.of(0, EUR)), 2);
+    }
+
+    @Test
+    public void testEqualsAndToString() {
+        assertEquals(vector("1", "2"), vector("1", "2"));
+        assertEquals(vector("1", "2").hashCode(), vector("1", "2").hashCode());
+        assertNotEquals(vector("1", "2"), vector("2", "1"));
+        assertNotEquals(FastMoneyVector.ofUnscaled(EUR, 1L), FastMoneyVector.ofUnscaled(USD, 1L));
+        assertEquals(vector("1", "-2.5").toString(), "EUR [1.00000, -2.50000]");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import org.testng.annotations.Test;
+
+public class LongMathTest {
+
+    private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    @Test
+    public void testMultiply() {
+        assertEquals(LongMath.multiply(100000L, 150000L, 5), 150000L);
+        assertEquals(LongMath.multiply(3L, 50000L, 5), 2L);
+        assertEquals(LongMath.multiply(5L, 50000L, 5), 2L);
+        assertEquals(LongMath.multiply(-5L, 50000L, 5), -2L);
+        assertEquals(LongMath.multiply(7L, 50000L, 5), 4L);
+        assertEquals(LongMath.multiply(Long.MAX_VALUE, 1L, 0), Long.MAX_VALUE);
+        assertEquals(LongMath.multiply(Long.MIN_VALUE, 1L, 0), Long.MIN_VALUE);
+        assertEquals(LongMath.multiply(Long.MAX_VALUE, 100000L, 5), Long.MAX_VALUE);
+        assertEquals(LongMath.multiply(0L, Long.MIN_VALUE, 18), 0L);
+    }
+
+    @Test
+    public void testDivide() {
+        assertEquals(LongMath.divide(1000000L, 3L, 0), 333333L);
+        assertEquals(LongMath.divide(2000000L, 3L, 0), 666667L);
+        assertEquals(LongMath.divide(-2000000L, 3L, 0), -666667L);
+        assertEquals(LongMath.divide(25L, 10L, 0), 2L);
+        assertEquals(LongMath.divide(35L, 10L, 0), 4L);
+        assertEquals(LongMath.divide(100000L, 5L, 1), 200000L);
+        assertEquals(LongMath.divide(Long.MIN_VALUE, 1L, 0), Long.MIN_VALUE);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivideByZero() {
+        LongMath.divide(1L, 0L, 3);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMultiplyOverflow() {
+        LongMath.multiply(Long.MAX_VALUE, 200001L, 5);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivideOverflow() {
+        LongMath.divide(Long.MIN_VALUE, -1L, 0);
+    }
+
+    @Test
+    public void testMultiplyAgainstBigDecimal() {
+        Random random = new Random(4711L);
+        for (int i = 0; i < 100000; i++) {
+            long value = randomLong(random);
+            long factor = randomLong(random);
+            int scale = random.nextInt(LongMath.MAX_SCALE + 1);
+            BigInteger expected = new BigDecimal(value).multiply(BigDecimal.valueOf(factor, scale))
+                    .setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+            assertResult(() -> LongMath.multiply(value, factor, scale), expected,
+                    value + " * " + factor + "E-" + scale);
+        }
+    }
+
+    @Test
+    public void testDivideAgainstBigDecimal() {
+        Random random = new Random(815L);
+        for (int i = 0; i < 100000; i++) {
+            long value = randomLong(random);
+            long divisor = randomLong(random);
+            if (divisor == 0L) {
+                continue;
+            }
+            int scale = random.nextInt(LongMath.MAX_SCALE + 1);
+            BigInteger expected = new BigDecimal(value).divide(BigDecimal.valueOf(divisor, scale), 0,
+                    RoundingMode.HALF_EVEN).toBigIntegerExact();
+            assertResult(() -> LongMath.divide(value, divisor, scale), expected,
+                    value + " / " + divisor + "E-" + scale);
+        }
+    }
+
+    private static long randomLong(Random random) {
+        // mix magnitudes, so small, medium and full range values are all covered
+        return random.nextLong() >> random.nextInt(64);
+    }
+
+    private static void assertResult(LongSupplier operation, BigInteger expected, String message) {
+        boolean overflow = expected.compareTo(MIN) < 0 || expected.compareTo(MAX) > 0;
+        try {
+            long result = operation.getAsLong();
+            if (overflow) {
+                fail("Overflow expected for " + message + ", but was " + result);
+            }
+            assertEquals(result, expected.longValue(), message);
+        } catch (ArithmeticException e) {
+            if (!overflow) {
+                fail("Unexpected overflow for " + message, e);
+            }
+        }
+    }
+}
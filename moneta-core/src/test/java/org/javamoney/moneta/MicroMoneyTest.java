@@ -0,0 +1,196 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.spi.MonetaryConfigSnapshot;
+import org.testng.annotations.Test;
+
+public class MicroMoneyTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit YEN = Monetary.getCurrency("JPY");
+
+    @Test
+    public void testOf_DefaultScale() {
+        MicroMoney euro = MicroMoney.of(new BigDecimal("12.3"), EURO);
+        assertEquals(euro.getScale(), 2);
+        assertEquals(euro.getUnscaledValue(), 1230L);
+        assertEquals(euro.getContext().getMaxScale(), 2);
+        assertTrue(euro.getContext().isFixedScale());
+        MicroMoney yen = MicroMoney.of(1234, YEN);
+        assertEquals(yen.getScale(), 0);
+        assertEquals(yen.getUnscaledValue(), 1234L);
+        assertEquals(MicroMoney.of(1, "XXX").getScale(), 5);
+        assertThrows(ArithmeticException.class, () -> MicroMoney.of(new BigDecimal("1.5"), YEN));
+        assertEquals(MicroMoney.of(new BigDecimal("1.500"), EURO).getUnscaledValue(), 150L);
+    }
+
+    @Test
+    public void testOf_ExplicitScale() {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("0.00012345"), "EUR", 8);
+        assertEquals(amount.getScale(), 8);
+        assertEquals(amount.getUnscaledValue(), 12345L);
+        assertEquals(amount.getNumber().numberValue(BigDecimal.class), new BigDecimal("0.00012345"));
+        assertEquals(MicroMoney.of(1, EURO, 18).getUnscaledValue(), 1_000_000_000_000_000_000L);
+        assertEquals(MicroMoney.ofUnscaled(1234, 3, EURO).getNumber().numberValue(BigDecimal.class),
+                new BigDecimal("1.234"));
+        assertEquals(MicroMoney.ofMinor(YEN, 1234), MicroMoney.of(1234, YEN));
+        assertThrows(IllegalArgumentException.class, () -> MicroMoney.of(1, EURO, 19));
+        assertThrows(IllegalArgumentException.class, () -> MicroMoney.of(1, EURO, -1));
+        assertThrows(ArithmeticException.class, () -> MicroMoney.of(10, EURO, 18));
+    }
+
+    @Test
+    public void testDefaultScale_Configured() {
+        try {
+            System.setProperty(MicroMoney.SCALE_PROPERTY_PREFIX + "EUR", "4");
+            MonetaryConfigSnapshot.refresh();
+            assertEquals(MicroMoney.getDefaultScale(EURO), 4);
+            assertEquals(MicroMoney.of(new BigDecimal("1.2345"), EURO).getScale(), 4);
+        } finally {
+            System.clearProperty(MicroMoney.SCALE_PROPERTY_PREFIX + "EUR");
+            MonetaryConfigSnapshot.refresh();
+        }
+        assertEquals(MicroMoney.getDefaultScale(EURO), 2);
+    }
+
+    @Test
+    public void testAddSubtract() {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("1.25"), EURO, 3);
+        assertEquals(amount.add(MicroMoney.of(new BigDecimal("0.5"), EURO, 1)),
+                MicroMoney.of(new BigDecimal("1.75"), EURO, 3));
+        assertEquals(amount.subtract(FastMoney.of(new BigDecimal("0.125"), EURO)),
+                MicroMoney.of(new BigDecimal("1.125"), EURO, 3));
+        assertEquals(amount.add(Money.of(2, EURO)).getScale(), 3);
+        assertSame(amount.add(MicroMoney.zero(EURO)), amount);
+        assertThrows(ArithmeticException.class, () -> amount.add(MicroMoney.of(new BigDecimal("0.0001"), EURO, 4)));
+        assertThrows(MonetaryException.class, () -> amount.add(MicroMoney.of(1, "USD")));
+        MicroMoney max = MicroMoney.ofUnscaled(Long.MAX_VALUE, 0, EURO);
+        assertThrows(ArithmeticException.class, () -> max.add(MicroMoney.of(1, EURO, 0)));
+        assertThrows(ArithmeticException.class, () -> MicroMoney.ofUnscaled(Long.MIN_VALUE, 2, EURO).negate());
+    }
+
+    @Test
+    public void testMultiplyDivide() {
+        MicroMoney amount = MicroMoney.of(10, EURO, 8);
+        assertEquals(amount.multiply(3).getUnscaledValue(), 3_000_000_000L);
+        assertEquals(amount.multiply(new BigDecimal("0.123456789")).getUnscaledValue(), 123_456_789L);
+        assertEquals(amount.multiply(0.5).getUnscaledValue(), 500_000_000L);
+        assertEquals(amount.divide(3).getUnscaledValue(), 333_333_333L);
+        assertEquals(amount.divide(new BigDecimal("0.3")).getUnscaledValue(), 3_333_333_333L);
+        assertEquals(amount.divide(4.0).getUnscaledValue(), 250_000_000L);
+        assertEquals(MicroMoney.of(new BigDecimal("0.05"), EURO).multiply(new BigDecimal("0.5")).getUnscaledValue(), 2L);
+        assertEquals(MicroMoney.of(new BigDecimal("0.07"), EURO).divide(2).getUnscaledValue(), 4L);
+        assertThrows(ArithmeticException.class, () -> amount.divide(0));
+        assertThrows(ArithmeticException.class, () -> MicroMoney.of(1, EURO, 18).multiply(10));
+        assertThrows(ArithmeticException.class, () -> MicroMoney.of(1, EURO, 18).divide(new BigDecimal("0.1")));
+        assertThrows(ArithmeticException.class, () -> amount.multiply(Double.NaN));
+    }
+
+    @Test
+    public void testMultiplyDivideDouble_RoundsHalfEven() {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("-2.20845"), EURO, 5);
+        assertEquals(amount.multiply(2.3), MicroMoney.of(new BigDecimal("-5.07944"), EURO, 5));
+        assertEquals(amount.multiply(Double.valueOf(2.3)), MicroMoney.of(new BigDecimal("-5.07944"), EURO, 5));
+        MicroMoney dividend = MicroMoney.of(new BigDecimal("-0.33003"), EURO, 5);
+        assertEquals(dividend.divide(0.0096), MicroMoney.of(new BigDecimal("-34.37812"), EURO, 5));
+        assertEquals(dividend.divide(Double.valueOf(0.0096)), MicroMoney.of(new BigDecimal("-34.37812"), EURO, 5));
+        Random random = new Random(42L);
+        for (int i = 0; i < 10_000; i++) {
+            MicroMoney value = MicroMoney.ofUnscaled(random.nextInt(2_000_000) - 1_000_000, 5, EURO);
+            double factor = Math.round(random.nextDouble() * 100_000) / 10_000.0 + 0.0001;
+            assertEquals(value.multiply(factor), value.multiply(BigDecimal.valueOf(factor)));
+            assertEquals(value.divide(factor), value.divide(BigDecimal.valueOf(factor)));
+        }
+    }
+
+    @Test
+    public void testRemainderAndIntegralValue() {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("10.5"), EURO);
+        assertEquals(amount.divideToIntegralValue(3), MicroMoney.of(3, EURO));
+        assertEquals(amount.remainder(3), MicroMoney.of(new BigDecimal("1.5"), EURO));
+        assertEquals(amount.remainder(Long.MAX_VALUE), amount);
+        assertEquals(amount.remainder(new BigDecimal("0.4")), MicroMoney.of(new BigDecimal("0.1"), EURO));
+        MicroMoney[] result = amount.negate().divideAndRemainder(4);
+        assertEquals(result[0], MicroMoney.of(-2, EURO));
+        assertEquals(result[1], MicroMoney.of(new BigDecimal("-2.5"), EURO));
+        assertEquals(amount.divideToIntegralValue(new BigDecimal("0.25")), MicroMoney.of(42, EURO));
+        assertEquals(amount.scaleByPowerOfTen(-1), MicroMoney.of(new BigDecimal("1.05"), EURO));
+    }
+
+    @Test
+    public void testCompare() {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("1.5"), EURO, 1);
+        MicroMoney other = MicroMoney.of(new BigDecimal("1.50"), EURO, 8);
+        assertEquals(amount.compareTo(other), 0);
+        assertTrue(amount.isEqualTo(other));
+        assertFalse(amount.equals(other));
+        assertTrue(amount.isLessThan(MicroMoney.of(2, EURO)));
+        assertTrue(amount.isGreaterThan(Money.of(new BigDecimal("1.49999999"), EURO)));
+        assertTrue(amount.isGreaterThan(MicroMoney.of(-2, EURO, 3)));
+        assertEquals(amount.withScale(8), other);
+        assertThrows(ArithmeticException.class, () -> MicroMoney.of(new BigDecimal("1.55"), EURO).withScale(1));
+    }
+
+    @Test
+    public void testFactory() {
+        MonetaryAmountFactory<MicroMoney> factory = Monetary.getAmountFactory(MicroMoney.class);
+        MicroMoney amount = factory.setCurrency(EURO).setNumber(1.25).create();
+        assertEquals(amount.getScale(), 2);
+        MicroMoney scaled = MicroMoney.of(1, EURO, 6);
+        MicroMoney created = scaled.getFactory().setNumber(new BigDecimal("0.123456")).create();
+        assertEquals(created.getScale(), 6);
+        assertEquals(created.getUnscaledValue(), 123456L);
+    }
+
+    @Test
+    public void testToStringAndParse() {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("0.00012300"), EURO, 8);
+        assertEquals(amount.toString(), "EUR 0.00012300");
+        assertEquals(MicroMoney.parse(amount.toString()), amount);
+        assertEquals(MicroMoney.parse("EUR 1.5"), MicroMoney.of(new BigDecimal("1.50"), EURO));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        MicroMoney amount = MicroMoney.of(new BigDecimal("123.456"), EURO, 3);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(amount);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            assertEquals(ois.readObject(), amount);
+        }
+    }
+}
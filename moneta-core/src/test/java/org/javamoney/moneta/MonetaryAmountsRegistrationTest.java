@@ -34,6 +34,8 @@ public class MonetaryAmountsRegistrationTest{
         assertNotNull(Monetary.getDefaultAmountFactory());
         assertNotNull(Monetary.getAmountFactory(FastMoney.class));
         assertNotNull(Monetary.getAmountFactory(Money.class));
+        assertNotNull(Monetary.getAmountFactory(MicroMoney.class));
+        assertNotNull(Monetary.getAmountFactory(WideMoney.class));
         assertSame(Monetary.getDefaultAmountFactory().getClass(), Monetary.getAmountFactory(Money.class).getClass());
     }
 
@@ -43,10 +45,12 @@ public class MonetaryAmountsRegistrationTest{
     @Test
     public void testGetTypes(){
         assertNotNull(Monetary.getAmountTypes());
-        assertEquals(Monetary.getAmountTypes().size(), 3);
+        assertEquals(Monetary.getAmountTypes().size(), 5);
         assertTrue(Monetary.getAmountTypes().contains(FastMoney.class));
         assertTrue(Monetary.getAmountTypes().contains(Money.class));
         assertTrue(Monetary.getAmountTypes().contains(RoundedMoney.class));
+        assertTrue(Monetary.getAmountTypes().contains(MicroMoney.class));
+        assertTrue(Monetary.getAmountTypes().contains(WideMoney.class));
     }
 
     /**
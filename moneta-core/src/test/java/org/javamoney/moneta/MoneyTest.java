@@ -438,6 +438,25 @@ public class MoneyTest {
         assertEquals(m4.compareTo(m2), 1);
     }
 
+    /**
+     * Test method for {@link org.javamoney.moneta.Money#compareTo(javax.money.MonetaryAmount)} with mixed
+     * amount types and currencies.
+     */
+    @Test
+    public void testCompareTo_MixedTypes() {
+        Money m = Money.of(new BigDecimal("1.500"), "CHF");
+        assertEquals(m.compareTo(FastMoney.of(new BigDecimal("1.5"), "CHF")), 0);
+        assertEquals(m.compareTo(FastMoney.of(new BigDecimal("1.50001"), "CHF")), -1);
+        assertEquals(m.compareTo(FastMoney.of(-2, "CHF")), 1);
+        assertEquals(m.compareTo(RoundedMoney.of(new BigDecimal("1.4"), "CHF")), 1);
+        assertEquals(Money.of(new BigDecimal("1.500000001"), "CHF").compareTo(FastMoney.of(new BigDecimal("1.5"), "CHF")), 1);
+        assertTrue(m.compareTo(Money.of(1, "EUR")) < 0);
+        assertTrue(m.compareTo(FastMoney.of(1, "AUD")) > 0);
+        assertTrue(m.isEqualTo(FastMoney.of(new BigDecimal("1.5"), "CHF")));
+        assertTrue(m.isGreaterThan(FastMoney.of(new BigDecimal("1.49999"), "CHF")));
+        assertTrue(m.isLessThanOrEqualTo(Money.of(new BigDecimal("1.5"), "CHF")));
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.Money#getFactory()#setContext(java.math.MathContext)}.
      */
@@ -0,0 +1,173 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmountFactory;
+
+import org.testng.annotations.Test;
+
+public class WideMoneyTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    private static final BigDecimal MAX = new BigDecimal(BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE),
+            WideMoney.SCALE);
+
+    private static BigDecimal number(WideMoney amount) {
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    private static void assertNumber(WideMoney amount, BigDecimal expected) {
+        assertNumber(amount, expected, null);
+    }
+
+    private static void assertNumber(WideMoney amount, BigDecimal expected, String message) {
+        assertEquals(number(amount).compareTo(expected), 0, message + ": expected " + expected + " but was " + amount);
+    }
+
+    private static BigDecimal randomNumber(Random random) {
+        BigInteger unscaled = new BigInteger(1 + random.nextInt(120), random);
+        return new BigDecimal(random.nextBoolean() ? unscaled : unscaled.negate(), WideMoney.SCALE);
+    }
+
+    @Test
+    public void testOf() {
+        assertNumber(WideMoney.of(new BigDecimal("1234.5678"), EURO), new BigDecimal("1234.5678000000"));
+        assertNumber(WideMoney.of(-12, EURO), new BigDecimal("-12.0000000000"));
+        assertNumber(WideMoney.ofMinor(EURO, 1234), new BigDecimal("12.3400000000"));
+        assertNumber(WideMoney.MAX_VALUE, MAX);
+        assertNumber(WideMoney.MIN_VALUE, MAX.negate().subtract(new BigDecimal("1E-10")));
+        BigDecimal big = new BigDecimal("12345678901234567890123456.0123456789");
+        assertNumber(WideMoney.of(big, EURO), big);
+        assertNumber(WideMoney.of(big.negate(), EURO), big.negate());
+        assertThrows(ArithmeticException.class, () -> WideMoney.of(new BigDecimal("1E-11"), EURO));
+        assertThrows(ArithmeticException.class, () -> WideMoney.of(MAX.add(new BigDecimal("1E-10")), EURO));
+        assertEquals(WideMoney.of(Long.MAX_VALUE, EURO).getNumber().numberValue(BigDecimal.class).longValueExact(),
+                Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testAddSubtract() {
+        WideMoney big = WideMoney.of(new BigDecimal("10000000000000000000000000"), EURO);
+        assertNumber(big.add(big), new BigDecimal("20000000000000000000000000.0000000000"));
+        assertNumber(big.add(FastMoney.of(new BigDecimal("0.00001"), EURO)),
+                new BigDecimal("10000000000000000000000000.0000100000"));
+        assertNumber(big.subtract(Money.of(new BigDecimal("0.5"), EURO)),
+                new BigDecimal("9999999999999999999999999.5000000000"));
+        assertNumber(WideMoney.of(1, EURO).subtract(MicroMoney.of(new BigDecimal("0.000000001"), EURO, 9)),
+                new BigDecimal("0.9999999990"));
+        assertSame(big.add(WideMoney.zero(EURO)), big);
+        assertThrows(ArithmeticException.class, () -> WideMoney.MAX_VALUE.add(WideMoney.of(new BigDecimal("1E-10"),
+                WideMoney.MAX_VALUE.getCurrency())));
+        assertThrows(ArithmeticException.class, () -> WideMoney.MIN_VALUE.negate());
+        assertEquals(WideMoney.MAX_VALUE.negate().subtract(WideMoney.of(new BigDecimal("1E-10"),
+                WideMoney.MAX_VALUE.getCurrency())), WideMoney.MIN_VALUE);
+    }
+
+    @Test
+    public void testMultiplyDivide() {
+        WideMoney amount = WideMoney.of(new BigDecimal("1000000000000000000000"), EURO);
+        assertNumber(amount.multiply(1000), new BigDecimal("1000000000000000000000000.0000000000"));
+        assertNumber(amount.divide(3), new BigDecimal("333333333333333333333.3333333333"));
+        assertNumber(amount.negate().divide(new BigDecimal("0.7")),
+                new BigDecimal("-1428571428571428571428.5714285714"));
+        assertNumber(WideMoney.of(new BigDecimal("0.0000000005"), EURO).multiply(new BigDecimal("0.5")),
+                new BigDecimal("0.0000000002"));
+        assertNumber(WideMoney.of(new BigDecimal("0.0000000015"), EURO).multiply(new BigDecimal("0.5")),
+                new BigDecimal("0.0000000008"));
+        assertNumber(WideMoney.of(new BigDecimal("-0.0000000003"), EURO).multiply(new BigDecimal("1E+37")),
+                new BigDecimal("-3E+27"));
+        assertNumber(amount.multiply(1.5), new BigDecimal("1500000000000000000000.0000000000"));
+        assertThrows(ArithmeticException.class, () -> amount.multiply(100_000_000L));
+        assertThrows(ArithmeticException.class, () -> amount.divide(0));
+        assertThrows(ArithmeticException.class, () -> amount.divide(BigDecimal.ZERO));
+        assertNumber(WideMoney.of(10, EURO).divide(Long.MIN_VALUE), BigDecimal.ZERO);
+    }
+
+    @Test
+    public void testMultiplyDivide_MatchesBigDecimal() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 2000; i++) {
+            BigDecimal value = randomNumber(random);
+            WideMoney amount = WideMoney.of(value, EURO);
+            BigDecimal factor = new BigDecimal(BigInteger.valueOf(random.nextLong() >> random.nextInt(60)),
+                    random.nextInt(19));
+            BigDecimal product = value.multiply(factor).setScale(WideMoney.SCALE, RoundingMode.HALF_EVEN);
+            if (product.abs().compareTo(MAX) <= 0) {
+                assertNumber(amount.multiply(factor), product, value + " * " + factor);
+            } else {
+                assertThrows(ArithmeticException.class, () -> amount.multiply(factor));
+            }
+            if (factor.signum() != 0) {
+                BigDecimal quotient = value.divide(factor, WideMoney.SCALE, RoundingMode.HALF_EVEN);
+                if (quotient.abs().compareTo(MAX) <= 0) {
+                    assertNumber(amount.divide(factor), quotient, value + " / " + factor);
+                } else {
+                    assertThrows(ArithmeticException.class, () -> amount.divide(factor));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompare() {
+        WideMoney amount = WideMoney.of(new BigDecimal("1.5"), EURO);
+        assertTrue(amount.isEqualTo(Money.of(new BigDecimal("1.50"), EURO)));
+        assertTrue(amount.isLessThan(WideMoney.of(new BigDecimal("100000000000000000000"), EURO)));
+        assertTrue(amount.isGreaterThan(WideMoney.of(new BigDecimal("-100000000000000000000"), EURO)));
+        assertTrue(amount.negate().isNegative());
+        assertEquals(WideMoney.zero(EURO).signum(), 0);
+        assertEquals(amount.compareTo(FastMoney.of(2, EURO)), -1);
+    }
+
+    @Test
+    public void testFactoryAndFormat() {
+        MonetaryAmountFactory<WideMoney> factory = Monetary.getAmountFactory(WideMoney.class);
+        WideMoney amount = factory.setCurrency(EURO).setNumber(new BigDecimal("12345678901234567890.25")).create();
+        assertEquals(amount.toString(), "EUR 12345678901234567890.25");
+        assertEquals(WideMoney.parse(amount.toString()), amount);
+        assertEquals(WideMoney.zero(EURO).toString(), "EUR 0");
+        assertEquals(amount.getContext().getMaxScale(), WideMoney.SCALE);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        WideMoney amount = WideMoney.of(new BigDecimal("-12345678901234567890.25"), EURO);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(amount);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            assertEquals(ois.readObject(), amount);
+        }
+    }
+}
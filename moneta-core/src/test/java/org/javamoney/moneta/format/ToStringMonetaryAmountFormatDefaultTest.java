@@ -29,6 +29,7 @@ import javax.money.Monetary;
 import javax.money.MonetaryAmount;
 import javax.money.format.MonetaryParseException;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import static org.testng.Assert.assertEquals;
@@ -191,6 +192,30 @@ public class ToStringMonetaryAmountFormatDefaultTest {
 		assertEquals(sb.toString(), "BRL 10");
 	}
 
+	@Test
+	public void shouldFormatFastMoneyDigits() {
+		ToStringMonetaryAmountFormat format = ToStringMonetaryAmountFormat.of(ToStringMonetaryAmountFormatStyle.FAST_MONEY);
+		assertEquals(format.queryFrom(FastMoney.of(0, BRAZILIAN_REAL)), "BRL 0");
+		assertEquals(format.queryFrom(FastMoney.of(new BigDecimal("-0.00001"), BRAZILIAN_REAL)), "BRL -0.00001");
+		assertEquals(format.queryFrom(FastMoney.of(new BigDecimal("-1234.5"), BRAZILIAN_REAL)), "BRL -1234.5");
+		assertEquals(format.queryFrom(FastMoney.MAX_VALUE), "XXX 92233720368547.75807");
+		assertEquals(format.queryFrom(FastMoney.MIN_VALUE), "XXX -92233720368547.75808");
+		assertEquals(format.queryFrom(FastMoney.of(1000, BRAZILIAN_REAL)), "BRL 1000");
+		assertEquals(FastMoney.of(new BigDecimal("12.340"), BRAZILIAN_REAL).toString(), "BRL 12.34");
+	}
+
+	@Test
+	public void shouldPrintToAppendable() throws IOException {
+		StringBuilder sb = new StringBuilder("amount: ");
+		FastMoney.of(new BigDecimal("1.5"), BRAZILIAN_REAL).print(sb);
+		sb.append(", ");
+		Money.of(new BigDecimal("2.25"), BRAZILIAN_REAL).print(sb);
+		assertEquals(sb.toString(), "amount: BRL 1.5, BRL 2.25");
+		StringWriter writer = new StringWriter();
+		FastMoney.of(-3, BRAZILIAN_REAL).print(writer);
+		assertEquals(writer.toString(), "BRL -3");
+	}
+
 	private void executeTest(MonetaryAmount expectedMoney, MonetaryAmount a,
 			MonetaryAmount b, ToStringMonetaryAmountFormatStyle type) {
 
@@ -0,0 +1,124 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class ConcurrentMonetarySummaryStatisticsTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+
+    @Test
+    public void testAccept() {
+        ConcurrentMonetarySummaryStatistics statistics = ConcurrentMonetarySummaryStatistics.of(EURO);
+        assertEquals(statistics.getCount(), 0L);
+        assertTrue(statistics.getMin().isZero());
+        statistics.accept(FastMoney.of(10, EURO));
+        statistics.accept(Money.of(-2, EURO));
+        statistics.accept(FastMoney.of(4, EURO));
+        statistics.accept(FastMoney.of(100, DOLLAR));
+        assertEquals(statistics.getCount(), 3L);
+        assertTrue(statistics.getMin().isEqualTo(Money.of(-2, EURO)));
+        assertTrue(statistics.getMax().isEqualTo(Money.of(10, EURO)));
+        assertTrue(statistics.getSum().isEqualTo(Money.of(12, EURO)));
+        assertTrue(statistics.getAverage().isEqualTo(Money.of(4, EURO)));
+    }
+
+    @Test
+    public void testCombine() {
+        ConcurrentMonetarySummaryStatistics statistics = ConcurrentMonetarySummaryStatistics.of(EURO);
+        statistics.accept(FastMoney.of(1, EURO));
+        DefaultMonetarySummaryStatistics other = DefaultMonetarySummaryStatistics.of(EURO);
+        other.accept(Money.of(5, EURO));
+        other.accept(Money.of(-1, EURO));
+        statistics.combine(other);
+        assertEquals(statistics.getCount(), 3L);
+        assertTrue(statistics.getSum().isEqualTo(Money.of(5, EURO)));
+        assertTrue(statistics.getMin().isEqualTo(Money.of(-1, EURO)));
+        assertTrue(statistics.getMax().isEqualTo(Money.of(5, EURO)));
+    }
+
+    @Test
+    public void testAcceptOverflowingUnscaledSum() {
+        ConcurrentMonetarySummaryStatistics statistics = ConcurrentMonetarySummaryStatistics.of(EURO);
+        FastMoney max = FastMoney.ofUnscaled(Long.MAX_VALUE, EURO);
+        statistics.accept(max);
+        statistics.accept(max);
+        statistics.accept(FastMoney.of(1, EURO));
+        assertEquals(statistics.getCount(), 3L);
+        assertTrue(statistics.getSum().isEqualTo(Money.of(max.getNumber().numberValue(BigDecimal.class)
+                .multiply(BigDecimal.valueOf(2)).add(BigDecimal.ONE), EURO)));
+        assertTrue(statistics.getMin().isEqualTo(FastMoney.of(1, EURO)));
+        assertTrue(statistics.getMax().isEqualTo(max));
+    }
+
+    @Test
+    public void testAcceptConcurrently() throws InterruptedException {
+        ConcurrentMonetarySummaryStatistics statistics = ConcurrentMonetarySummaryStatistics.of(EURO);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    statistics.accept(i % 10 == 0 ? Money.of(i, EURO) : FastMoney.of(i, EURO));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(statistics.getCount(), 80_000L);
+        assertTrue(statistics.getSum().isEqualTo(Money.of(8L * 10_000 * 10_001 / 2, EURO)));
+        assertTrue(statistics.getMin().isEqualTo(Money.of(1, EURO)));
+        assertTrue(statistics.getMax().isEqualTo(Money.of(10_000, EURO)));
+    }
+
+    @Test
+    public void testGroupBySummarizingMonetaryConcurrent() {
+        Collector<MonetaryAmount, ?, ? extends Map<CurrencyUnit, MonetarySummaryStatistics>> collector =
+                MonetaryFunctions.groupBySummarizingMonetaryConcurrent();
+        assertTrue(collector.characteristics().contains(Collector.Characteristics.CONCURRENT));
+        Map<CurrencyUnit, MonetarySummaryStatistics> parallel = IntStream.range(0, 100_000).parallel()
+                .mapToObj(StreamFactory::mixedAmount).collect(collector);
+        Map<CurrencyUnit, MonetarySummaryStatistics> sequential = IntStream.range(0, 100_000)
+                .mapToObj(StreamFactory::mixedAmount)
+                .collect(MonetaryFunctions.groupBySummarizingMonetary()).get();
+        assertEquals(parallel.keySet(), sequential.keySet());
+        for (CurrencyUnit currency : parallel.keySet()) {
+            MonetarySummaryStatistics expected = sequential.get(currency);
+            MonetarySummaryStatistics actual = parallel.get(currency);
+            assertEquals(actual.getCount(), expected.getCount());
+            assertTrue(actual.getSum().isEqualTo(expected.getSum()));
+            assertTrue(actual.getMin().isEqualTo(expected.getMin()));
+            assertTrue(actual.getMax().isEqualTo(expected.getMax()));
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
 
 import javax.money.CurrencyUnit;
 
+import org.javamoney.moneta.FastMoney;
 import org.javamoney.moneta.Money;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -103,6 +104,31 @@ public class DefaultMonetarySummaryStatisticsTest {
 		Assert.assertEquals(70L, summaryA.getAverage().getNumber().longValue());
 	}
 
+	@Test
+	public void combineIntoEmptyTest() {
+		MonetarySummaryStatistics summary = new DefaultMonetarySummaryStatistics(BRAZILIAN_REAL);
+		summary.combine(createSummary(BRAZILIAN_REAL));
+		summary.combine(new DefaultMonetarySummaryStatistics(BRAZILIAN_REAL));
+		Assert.assertEquals(3L, summary.getCount());
+		Assert.assertEquals(10L, summary.getMin().getNumber().longValue());
+		Assert.assertEquals(110L, summary.getMax().getNumber().longValue());
+		Assert.assertEquals(70L, summary.getAverage().getNumber().longValue());
+	}
+
+	@Test
+	public void fastMoneyTest() {
+		MonetarySummaryStatistics summary = new DefaultMonetarySummaryStatistics(BRAZILIAN_REAL);
+		summary.accept(FastMoney.of(5, BRAZILIAN_REAL));
+		summary.accept(FastMoney.of(-3, BRAZILIAN_REAL));
+		summary.accept(Money.of(2, BRAZILIAN_REAL));
+		summary.accept(FastMoney.of(8, BRAZILIAN_REAL));
+		Assert.assertEquals(summary.getMin(), FastMoney.of(-3, BRAZILIAN_REAL));
+		Assert.assertEquals(summary.getMax(), FastMoney.of(8, BRAZILIAN_REAL));
+		Assert.assertEquals(summary.getAverage().getNumber().intValueExact(), 3);
+		summary.accept(FastMoney.of(4, BRAZILIAN_REAL));
+		Assert.assertEquals(summary.getAverage().getNumber().doubleValue(), 3.2);
+	}
+
 	private MonetarySummaryStatistics createSummary(CurrencyUnit currencyUnit) {
 		MonetarySummaryStatistics summary = new DefaultMonetarySummaryStatistics(
 				currencyUnit);
@@ -0,0 +1,99 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.CurrencyUnit;
+import javax.money.NumberValue;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.CurrencyConversionException;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+
+import org.javamoney.moneta.spi.AbstractRateProvider;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+
+/**
+ * Test utility rate provider, deriving its rates from fixed values of the currencies and counting the rates
+ * looked up.
+ */
+final class FixedRateProvider extends AbstractRateProvider {
+
+    private final Map<CurrencyUnit, BigDecimal> values = new HashMap<>();
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    FixedRateProvider() {
+        super(ProviderContext.of("FIXED"));
+    }
+
+    /**
+     * Sets the value of a currency, relative to the other currencies.
+     */
+    FixedRateProvider with(CurrencyUnit currency, String value) {
+        values.put(currency, new BigDecimal(value));
+        return this;
+    }
+
+    int getLookups() {
+        return lookups.get();
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+        lookups.incrementAndGet();
+        CurrencyUnit base = conversionQuery.getBaseCurrency();
+        CurrencyUnit term = conversionQuery.getCurrency();
+        if (!values.containsKey(base) || !values.containsKey(term)) {
+            throw new CurrencyConversionException(base, term, null);
+        }
+        BigDecimal factor = values.get(base).divide(values.get(term), MathContext.DECIMAL64);
+        return new ExchangeRate() {
+            @Override
+            public ConversionContext getContext() {
+                return ConversionContext.OTHER_CONVERSION;
+            }
+
+            @Override
+            public CurrencyUnit getBaseCurrency() {
+                return base;
+            }
+
+            @Override
+            public CurrencyUnit getCurrency() {
+                return term;
+            }
+
+            @Override
+            public NumberValue getFactor() {
+                return new DefaultNumberValue(factor);
+            }
+
+            @Override
+            public List<ExchangeRate> getExchangeRateChain() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
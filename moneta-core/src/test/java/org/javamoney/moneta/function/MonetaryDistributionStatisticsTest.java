@@ -0,0 +1,147 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class MonetaryDistributionStatisticsTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    private static void assertApproximately(MonetaryAmount actual, double expected, double relativeAccuracy) {
+        double value = actual.getNumber().doubleValue();
+        assertTrue(Math.abs(value - expected) <= Math.abs(expected) * relativeAccuracy,
+                "expected " + expected + " but was " + value);
+    }
+
+    @Test
+    public void testEmpty() {
+        MonetaryDistributionStatistics statistics = MonetaryDistributionStatistics.of(EURO);
+        assertEquals(statistics.getCount(), 0L);
+        assertTrue(statistics.getQuantile(0.5).isZero());
+        assertTrue(statistics.getAverage().isZero());
+        assertEquals(statistics.getVariance(), 0.0);
+        assertEquals(statistics.getHistogram(0), new long[]{0, 0});
+    }
+
+    @Test
+    public void testVariance() {
+        MonetaryDistributionStatistics statistics = MonetaryDistributionStatistics.of(EURO);
+        for (int value : new int[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistics.accept(FastMoney.of(value, EURO));
+        }
+        assertEquals(statistics.getVariance(), 4.0, 1e-9);
+        assertEquals(statistics.getSampleVariance(), 32.0 / 7, 1e-9);
+        assertTrue(statistics.getStandardDeviation().isEqualTo(Money.of(2, EURO)));
+        assertTrue(statistics.getAverage().isEqualTo(Money.of(5, EURO)));
+        assertTrue(statistics.getSum().isEqualTo(Money.of(40, EURO)));
+        assertThrows(MonetaryException.class, () -> statistics.accept(Money.of(1, "USD")));
+    }
+
+    @Test
+    public void testQuantiles() {
+        MonetaryDistributionStatistics statistics = MonetaryDistributionStatistics.of(EURO);
+        double[] values = new double[100_000];
+        Random random = new Random(42);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.round(Math.exp(random.nextGaussian() * 2) * 10000) / 100.0 - 20;
+            statistics.accept(Money.of(BigDecimal.valueOf(values[i]), EURO));
+        }
+        Arrays.sort(values);
+        for (double quantile : new double[]{0.01, 0.25, 0.5, 0.9, 0.99, 0.999}) {
+            double expected = values[(int) (quantile * (values.length - 1))];
+            assertApproximately(statistics.getQuantile(quantile), expected, 0.011);
+        }
+        assertTrue(statistics.getQuantile(0).isEqualTo(Money.of(BigDecimal.valueOf(values[0]), EURO)));
+        assertTrue(statistics.getQuantile(1).isEqualTo(
+                Money.of(BigDecimal.valueOf(values[values.length - 1]), EURO)));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getQuantile(1.5));
+    }
+
+    @Test
+    public void testHistogram() {
+        MonetaryDistributionStatistics statistics = MonetaryDistributionStatistics.of(EURO);
+        IntStream.rangeClosed(-10, 100).forEach(i -> statistics.accept(FastMoney.of(i, EURO)));
+        long[] histogram = statistics.getHistogram(-5.5, 0, 50.5);
+        assertEquals(histogram, new long[]{5, 6, 50, 50});
+        assertThrows(IllegalArgumentException.class, () -> statistics.getHistogram(2, 1));
+    }
+
+    @Test
+    public void testBoundedBuckets() {
+        MonetaryDistributionStatistics statistics = MonetaryDistributionStatistics.of(EURO, 0.01, 300);
+        for (int i = 0; i < 20; i++) {
+            statistics.accept(Money.of(BigDecimal.TEN.pow(i), EURO));
+        }
+        assertApproximately(statistics.getQuantile(0.95), 1e18, 0.01);
+        assertApproximately(statistics.getQuantile(0.9), 1e17, 0.01);
+        assertEquals(statistics.getHistogram(1e20)[0], 20L);
+    }
+
+    @Test
+    public void testValuesBelowCollapsedBuckets() {
+        MonetaryDistributionStatistics statistics = MonetaryDistributionStatistics.of(EURO, 0.01, 100);
+        for (int i = 0; i < 20; i++) {
+            statistics.accept(Money.of(BigDecimal.TEN.pow(i), EURO));
+        }
+        for (int i = 0; i < 1000; i++) {
+            statistics.accept(Money.of(BigDecimal.ONE.movePointLeft(i % 3), EURO));
+        }
+        assertEquals(statistics.getCount(), 1020L);
+        assertTrue(statistics.getQuantile(0).isEqualTo(Money.of(new BigDecimal("0.01"), EURO)));
+        assertTrue(statistics.getQuantile(1).isEqualTo(Money.of(BigDecimal.TEN.pow(19), EURO)));
+        // all but the highest values are collapsed into the lowest bucket retained
+        assertTrue(statistics.getQuantile(0.01).isEqualTo(statistics.getQuantile(0.99)));
+        assertTrue(statistics.getQuantile(0.99).isGreaterThan(Money.of(BigDecimal.TEN.pow(17), EURO)));
+        assertEquals(statistics.getHistogram(1e20)[0], 1020L);
+    }
+
+    @Test
+    public void testCollectors() {
+        MonetaryDistributionStatistics sequential = IntStream.range(0, 10_000)
+                .mapToObj(i -> FastMoney.of(i % 1000, EURO))
+                .collect(MonetaryFunctions.distributionMonetary(EURO));
+        MonetaryDistributionStatistics parallel = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> FastMoney.of(i % 1000, EURO))
+                .collect(MonetaryFunctions.distributionMonetary(EURO));
+        assertEquals(parallel.getCount(), sequential.getCount());
+        assertEquals(parallel.getVariance(), sequential.getVariance(), 1e-6);
+        assertTrue(parallel.getQuantile(0.9).isEqualTo(sequential.getQuantile(0.9)));
+        assertTrue(parallel.getSum().isEqualTo(sequential.getSum()));
+        Map<CurrencyUnit, MonetaryDistributionStatistics> grouped = IntStream.range(0, 100).parallel()
+                .mapToObj(i -> FastMoney.of(i, i % 2 == 0 ? "EUR" : "USD"))
+                .collect(MonetaryFunctions.groupByDistributionMonetary());
+        assertEquals(grouped.size(), 2);
+        assertEquals(grouped.get(EURO).getCount(), 50L);
+    }
+}
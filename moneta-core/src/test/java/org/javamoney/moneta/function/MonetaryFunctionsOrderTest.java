@@ -21,11 +21,20 @@ import static org.javamoney.moneta.function.MonetaryFunctions.sortNumber;
 import static org.javamoney.moneta.function.MonetaryFunctions.sortNumberDesc;
 import static org.javamoney.moneta.function.StreamFactory.BRAZILIAN_REAL;
 import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
+import static org.javamoney.moneta.function.StreamFactory.EURO;
 import static org.javamoney.moneta.function.StreamFactory.currencies;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import javax.money.MonetaryAmount;
 
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -62,4 +71,38 @@ public class MonetaryFunctionsOrderTest {
         Assert.assertEquals(BRAZILIAN_REAL, money.getCurrency());
         Assert.assertEquals(BigDecimal.ZERO, money.getNumber().numberValue(BigDecimal.class));
     }
+
+    @Test
+    public void sortValuableTest() {
+        FixedRateProvider provider = new FixedRateProvider().with(EURO, "1").with(DOLLAR, "0.8")
+                .with(BRAZILIAN_REAL, "0.2");
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            amounts.add(FastMoney.of(random.nextInt(10_000), i % 3 == 0 ? EURO : i % 3 == 1 ? DOLLAR
+                    : BRAZILIAN_REAL));
+        }
+        List<MonetaryAmount> expected = new ArrayList<>(amounts);
+        expected.sort(MonetaryFunctions.sortValuable(provider, EURO));
+        Assert.assertEquals(provider.getLookups(), 2);
+        List<MonetaryAmount> sorted = new ArrayList<>(amounts);
+        MonetaryFunctions.sortValuable(sorted, provider, EURO);
+        Assert.assertEquals(sorted, expected);
+        Assert.assertEquals(provider.getLookups(), 4);
+        MonetaryFunctions.sortValuableDesc(sorted, provider, DOLLAR);
+        for (int i = 1; i < sorted.size(); i++) {
+            Assert.assertTrue(MonetaryFunctions.sortValuable(provider).compare(sorted.get(i - 1), sorted.get(i))
+                    >= 0);
+        }
+    }
+
+    @Test
+    public void sortValuableStableTest() {
+        FixedRateProvider provider = new FixedRateProvider().with(EURO, "1").with(DOLLAR, "0.5");
+        MonetaryAmount euro = Money.of(1, EURO);
+        MonetaryAmount dollars = FastMoney.of(2, DOLLAR);
+        List<MonetaryAmount> amounts = new ArrayList<>(Arrays.asList(dollars, Money.of(3, EURO), euro));
+        MonetaryFunctions.sortValuable(amounts, provider, EURO);
+        Assert.assertEquals(amounts, Arrays.asList(dollars, euro, Money.of(3, EURO)));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class MonetaryTotalsTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+    private static final CurrencyUnit FRANC = Monetary.getCurrency("CHF");
+
+    @Test
+    public void testAcceptMixedCurrencies() {
+        MonetaryTotals totals = MonetaryTotals.of();
+        totals.accept(FastMoney.of(10, EURO));
+        totals.accept(Money.of(5, DOLLAR));
+        totals.accept(Money.of(new BigDecimal("0.5"), EURO));
+        assertEquals(totals.getCurrencies().size(), 2);
+        assertTrue(totals.get(EURO).isEqualTo(Money.of(new BigDecimal("10.5"), EURO)));
+        assertTrue(totals.get(DOLLAR).isEqualTo(Money.of(5, DOLLAR)));
+        assertTrue(totals.get(FRANC).isZero());
+        assertEquals(totals.toMap().size(), 2);
+        assertTrue(totals.combine(totals).get(EURO).isEqualTo(Money.of(21, EURO)));
+    }
+
+    @Test
+    public void testSummingMonetaryByCurrency() {
+        MonetaryTotals parallel = IntStream.range(0, 100_000).parallel()
+                .mapToObj(StreamFactory::mixedAmount)
+                .collect(MonetaryFunctions.summingMonetaryByCurrency());
+        Map<CurrencyUnit, List<MonetaryAmount>> grouped = IntStream.range(0, 100_000)
+                .mapToObj(StreamFactory::mixedAmount)
+                .collect(MonetaryFunctions.groupByCurrencyUnit());
+        assertEquals(parallel.getCurrencies(), grouped.keySet());
+        grouped.forEach((currency, amounts) -> assertTrue(parallel.get(currency)
+                .isEqualTo(amounts.stream().reduce(MonetaryFunctions.sum()).get())));
+    }
+
+    @Test
+    public void testSummingMonetaryWithConversion() {
+        FixedRateProvider provider = new FixedRateProvider().with(EURO, "1").with(DOLLAR, "0.5")
+                .with(FRANC, "2");
+        MonetaryAmount total = Stream.of(FastMoney.of(10, EURO), FastMoney.of(4, DOLLAR), Money.of(1, FRANC),
+                FastMoney.of(6, DOLLAR), Money.of(2, EURO))
+                .collect(MonetaryFunctions.summingMonetary(EURO, provider));
+        assertEquals(total.getCurrency(), EURO);
+        assertTrue(total.isEqualTo(Money.of(19, EURO)));
+        assertEquals(provider.getLookups(), 2);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.javamoney.moneta.function.MonetaryFunctions.summingMonetary;
+import static org.javamoney.moneta.function.StreamFactory.BRAZILIAN_REAL;
+import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
+import static org.javamoney.moneta.function.StreamFactory.streamNormal;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class MoneyAccumulatorTest {
+
+    @Test
+    public void shouldSumMixedAmounts() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(DOLLAR)
+                .add(FastMoney.of(10.5, DOLLAR))
+                .add(Money.of(new BigDecimal("2.25"), DOLLAR))
+                .subtract(FastMoney.of(1, DOLLAR));
+        assertEquals(accumulator.getNumber(), new BigDecimal("11.75000"));
+        MonetaryAmount sum = accumulator.toAmount();
+        assertTrue(sum instanceof FastMoney);
+        assertEquals(sum, FastMoney.of(new BigDecimal("11.75"), DOLLAR));
+    }
+
+    @Test
+    public void shouldKeepExactScale() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(DOLLAR)
+                .add(FastMoney.of(1, DOLLAR))
+                .add(Money.of(new BigDecimal("0.0000001"), DOLLAR));
+        assertEquals(accumulator.getNumber(), new BigDecimal("1.0000001"));
+        MonetaryAmount sum = accumulator.toAmount();
+        assertTrue(sum instanceof Money);
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal("1.0000001")), 0);
+    }
+
+    @Test
+    public void shouldSumBeyondRangeOfLong() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(DOLLAR);
+        accumulator.add(FastMoney.MAX_VALUE.getFactory().setCurrency(DOLLAR).create())
+                .add(FastMoney.MAX_VALUE.getFactory().setCurrency(DOLLAR).create());
+        BigDecimal max = FastMoney.MAX_VALUE.getNumber().numberValue(BigDecimal.class);
+        assertEquals(accumulator.getNumber(), max.add(max));
+        assertTrue(accumulator.toAmount() instanceof Money);
+        accumulator.subtract(FastMoney.MAX_VALUE.getFactory().setCurrency(DOLLAR).create());
+        assertEquals(accumulator.getNumber(), max);
+        assertEquals(accumulator.toFastMoney().getUnscaledValue(), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldSubtractMinValue() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(DOLLAR)
+                .subtract(FastMoney.MIN_VALUE.getFactory().setCurrency(DOLLAR).create());
+        assertEquals(accumulator.getNumber(), FastMoney.MIN_VALUE.getNumber().numberValue(BigDecimal.class).negate());
+    }
+
+    @Test
+    public void shouldMultiplyAdd() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(DOLLAR)
+                .multiplyAdd(FastMoney.of(new BigDecimal("2.5"), DOLLAR), 4)
+                .multiplyAdd(Money.of(10, DOLLAR), new BigDecimal("0.075"))
+                .multiplyAdd(FastMoney.of(1, DOLLAR), Integer.valueOf(3));
+        assertEquals(accumulator.getNumber(), new BigDecimal("13.75000"));
+        accumulator.multiplyAdd(FastMoney.MAX_VALUE.getFactory().setCurrency(DOLLAR).create(), 2L);
+        BigDecimal max = FastMoney.MAX_VALUE.getNumber().numberValue(BigDecimal.class);
+        assertEquals(accumulator.getNumber(), max.multiply(BigDecimal.valueOf(2)).add(new BigDecimal("13.75")));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldNotMultiplyAddNaN() {
+        MoneyAccumulator.of(DOLLAR).multiplyAdd(FastMoney.of(1, DOLLAR), Double.NaN);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void shouldNotAddOtherCurrency() {
+        MoneyAccumulator.of(DOLLAR).add(FastMoney.of(1, BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldCombineAndReset() {
+        MoneyAccumulator first = MoneyAccumulator.of(DOLLAR).add(FastMoney.of(1, DOLLAR));
+        MoneyAccumulator second = MoneyAccumulator.of(DOLLAR).add(Money.of(new BigDecimal("0.0000001"), DOLLAR));
+        assertEquals(first.combine(second).getNumber(), new BigDecimal("1.0000001"));
+        first.reset();
+        assertTrue(first.isZero());
+        assertEquals(first.add(FastMoney.of(2, DOLLAR)).toAmount(), FastMoney.of(2, DOLLAR));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void shouldNotCombineOtherCurrency() {
+        MoneyAccumulator.of(DOLLAR).combine(MoneyAccumulator.of(BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldCollectSum() {
+        MonetaryAmount sum = streamNormal().collect(summingMonetary(BRAZILIAN_REAL));
+        assertEquals(sum.getNumber().intValue(), 20);
+        assertTrue(Stream.<MonetaryAmount>empty().collect(summingMonetary(DOLLAR)).isZero());
+    }
+
+    @Test
+    public void shouldCollectSumInParallel() {
+        MonetaryAmount sum = LongStream.rangeClosed(1, 10_000).parallel()
+                .mapToObj(i -> (MonetaryAmount) FastMoney.of(i, DOLLAR))
+                .collect(summingMonetary(DOLLAR));
+        assertEquals(sum, FastMoney.of(50_005_000L, DOLLAR));
+    }
+}
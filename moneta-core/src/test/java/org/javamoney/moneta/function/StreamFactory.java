@@ -22,6 +22,7 @@ import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.Monetary;
 
+import org.javamoney.moneta.FastMoney;
 import org.javamoney.moneta.Money;
 
 /**
@@ -86,6 +87,18 @@ public final class StreamFactory {
 		return Stream.of(m1, m2, m3, m4, m5);
 	}
 
+	/**
+	 * Creates the amount with the given index of a sequence of amounts, mixing {@link FastMoney} and
+	 * {@link Money}, positive and negative values and the currencies dollar, euro and real.
+	 */
+	public static MonetaryAmount mixedAmount(int i) {
+		CurrencyUnit currency = i % 3 == 0 ? DOLLAR : i % 3 == 1 ? EURO : BRAZILIAN_REAL;
+		if (i % 5 == 0) {
+			return Money.of(new BigDecimal(i - 5000).movePointLeft(2), currency);
+		}
+		return FastMoney.of(i - 5000, currency);
+	}
+
 	public static  Stream<MonetaryAmount> streamNull() {
 		Money m1 = Money.of(BigDecimal.TEN, BRAZILIAN_REAL);
 		Money m2 = Money.of(BigDecimal.ZERO, BRAZILIAN_REAL);
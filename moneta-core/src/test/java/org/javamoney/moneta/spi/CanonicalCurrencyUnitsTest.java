@@ -0,0 +1,76 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.testng.Assert.*;
+
+public class CanonicalCurrencyUnitsTest {
+
+    private static Object roundTrip(Object object) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(object);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            return ois.readObject();
+        }
+    }
+
+    @Test
+    public void testCanonicalize() {
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        assertSame(CanonicalCurrencyUnits.canonicalize(eur), eur);
+        assertTrue(CanonicalCurrencyUnits.isCanonical(eur));
+        CurrencyUnit custom = CurrencyUnitBuilder.of("EUR", "CanonicalCurrencyUnitsTest").build();
+        assertSame(CanonicalCurrencyUnits.canonicalize(custom), custom);
+        assertFalse(CanonicalCurrencyUnits.isCanonical(custom));
+    }
+
+    @Test
+    public void testCanonicalize_Registered() throws Exception {
+        CurrencyUnit unit = CurrencyUnitBuilder.of("CCUT", "CanonicalCurrencyUnitsTest")
+                .setDefaultFractionDigits(3).build(true);
+        try {
+            assertTrue(CanonicalCurrencyUnits.isCanonical(unit));
+            assertSame(roundTrip(unit), unit);
+            CurrencyUnit other = CurrencyUnitBuilder.of("CCUT", "CanonicalCurrencyUnitsTest")
+                    .setDefaultFractionDigits(2).build();
+            assertSame(CanonicalCurrencyUnits.canonicalize(other), other);
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("CCUT");
+        }
+    }
+
+    @Test
+    public void testDeserializedCurrencyIsShared() throws Exception {
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        assertSame(roundTrip(eur), eur);
+        Money money = (Money) roundTrip(Money.of(10, eur));
+        assertSame(money.getCurrency(), eur);
+    }
+}
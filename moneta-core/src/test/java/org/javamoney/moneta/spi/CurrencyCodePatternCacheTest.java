@@ -0,0 +1,71 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.testng.annotations.Test;
+
+public class CurrencyCodePatternCacheTest {
+
+    @Test
+    public void testMatch() {
+        Map<String, CurrencyUnit> currencies = new HashMap<>();
+        currencies.put("EUR", Monetary.getCurrency("EUR"));
+        currencies.put("USD", Monetary.getCurrency("USD"));
+        CurrencyCodePatternCache cache = new CurrencyCodePatternCache(2);
+        assertEquals(cache.match("EU.", currencies, 1L), Set.of(Monetary.getCurrency("EUR")));
+        Set<CurrencyUnit> all = cache.match("[A-Z]{3}", currencies, 1L);
+        assertEquals(all.size(), 2);
+        assertSame(cache.match("[A-Z]{3}", currencies, 1L), all);
+        assertTrue(cache.match("XYZ", currencies, 1L).isEmpty());
+        assertEquals(cache.match("USD", currencies, 1L), Set.of(Monetary.getCurrency("USD")));
+        assertTrue(cache.match("*EU", currencies, 1L).isEmpty());
+        currencies.put("CHF", Monetary.getCurrency("CHF"));
+        assertEquals(cache.match("[A-Z]{3}", currencies, 1L).size(), 2);
+        assertEquals(cache.match("[A-Z]{3}", currencies, 2L).size(), 3);
+    }
+
+    @Test
+    public void testProviders() {
+        assertTrue(new JDKCurrencyProvider().getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("EU.").build())
+                .contains(Monetary.getCurrency("EUR")));
+        assertTrue(new JDKCurrencyProvider().getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("(EU").build())
+                .isEmpty());
+        ConfigurableCurrencyUnitProvider provider = new ConfigurableCurrencyUnitProvider();
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("PT.").build()).isEmpty());
+        CurrencyUnit unit = CurrencyUnitBuilder.of("PTX", "pattern-test").build(false);
+        ConfigurableCurrencyUnitProvider.registerCurrencyUnit(unit);
+        try {
+            assertEquals(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("PT.").build()),
+                    Set.of(unit));
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("PTX");
+        }
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("PT.").build()).isEmpty());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.UnknownCurrencyException;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.testng.annotations.Test;
+
+public class DefaultMonetaryCurrenciesSingletonSpiTest {
+
+    private final DefaultMonetaryCurrenciesSingletonSpi spi = new DefaultMonetaryCurrenciesSingletonSpi();
+
+    @Test
+    public void testGetCurrency() {
+        CurrencyUnit euro = spi.getCurrency("EUR");
+        assertEquals(euro.getCurrencyCode(), "EUR");
+        assertSame(spi.getCurrency("EUR"), euro);
+        assertTrue(spi.isCurrencyAvailable("EUR"));
+        assertEquals(spi.getCurrency(Locale.GERMANY), euro);
+        assertSame(spi.getCurrency(Locale.GERMANY), spi.getCurrency(Locale.GERMANY));
+        assertEquals(spi.getCurrency("EUR", "default"), euro);
+        assertThrows(UnknownCurrencyException.class, () -> spi.getCurrency("XYZ"));
+        assertFalse(spi.isCurrencyAvailable("XYZ"));
+    }
+
+    @Test
+    public void testRegistrationChangesIndex() {
+        CurrencyUnit unit = CurrencyUnitBuilder.of("IDX", "index-test").setDefaultFractionDigits(2).build(false);
+        Locale locale = new Locale("", "IX");
+        assertFalse(spi.isCurrencyAvailable("IDX"));
+        ConfigurableCurrencyUnitProvider.registerCurrencyUnit(unit);
+        ConfigurableCurrencyUnitProvider.registerCurrencyUnit(unit, locale);
+        try {
+            assertSame(spi.getCurrency("IDX"), unit);
+            assertSame(spi.getCurrency(locale), unit);
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("IDX");
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit(locale);
+        }
+        assertThrows(UnknownCurrencyException.class, () -> spi.getCurrency("IDX"));
+        assertFalse(spi.isCurrencyAvailable(locale));
+    }
+
+    @Test
+    public void testConfigurationChangesIndex() {
+        assertTrue(spi.getDefaultProviderChain().contains("default"));
+        String previous = MonetaryConfig.setValue("currencies.default-chain", "ConfigurableCurrencyUnitProvider");
+        try {
+            assertEquals(spi.getDefaultProviderChain(), Collections.singletonList("ConfigurableCurrencyUnitProvider"));
+            assertFalse(spi.isCurrencyAvailable("EUR"));
+        } finally {
+            MonetaryConfig.setValue("currencies.default-chain", previous);
+        }
+        assertTrue(spi.isCurrencyAvailable("EUR"));
+    }
+
+    @Test
+    public void testSystemPropertyChangesIndex() {
+        assertTrue(spi.isCurrencyAvailable("EUR"));
+        System.setProperty("currencies.default-chain", "ConfigurableCurrencyUnitProvider");
+        try {
+            assertEquals(spi.getDefaultProviderChain(), Collections.singletonList("ConfigurableCurrencyUnitProvider"));
+            assertFalse(spi.isCurrencyAvailable("EUR"));
+        } finally {
+            System.clearProperty("currencies.default-chain");
+        }
+        assertTrue(spi.isCurrencyAvailable("EUR"));
+    }
+
+    @Test
+    public void testGetAllCurrencies() {
+        Set<CurrencyUnit> currencies = spi.getCurrencies();
+        assertTrue(currencies.contains(spi.getCurrency("EUR")));
+        assertSame(spi.getCurrencies(), currencies);
+        assertSame(spi.getCurrencies(CurrencyQueryBuilder.of().build()), currencies);
+        assertThrows(UnsupportedOperationException.class, () -> currencies.add(spi.getCurrency("EUR")));
+        assertEquals(spi.getCurrencies("default"), currencies);
+        assertTrue(spi.getCurrencies("ConfigurableCurrencyUnitProvider").isEmpty());
+        AtomicInteger count = new AtomicInteger();
+        spi.forEachCurrency(unit -> count.incrementAndGet());
+        assertEquals(count.get(), currencies.size());
+        CurrencyUnit unit = CurrencyUnitBuilder.of("ALX", "index-test").build(false);
+        ConfigurableCurrencyUnitProvider.registerCurrencyUnit(unit);
+        try {
+            assertTrue(spi.getCurrencies().contains(unit));
+            assertEquals(spi.getCurrencies("ConfigurableCurrencyUnitProvider"), Set.of(unit));
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("ALX");
+        }
+        assertEquals(spi.getCurrencies(), currencies);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryException;
+
+import org.testng.annotations.Test;
+
+public class HistoricCurrencyProviderTest {
+
+    private static final LocalDate Y1995 = LocalDate.of(1995, 6, 30);
+    private static final LocalDate Y2000 = LocalDate.of(2000, 6, 30);
+    private static final LocalDate Y2010 = LocalDate.of(2010, 6, 30);
+
+    private final HistoricCurrencyProvider provider = new HistoricCurrencyProvider();
+
+    private Set<String> codes(CurrencyQueryBuilder builder) {
+        return provider.getCurrencies(builder.build()).stream().map(CurrencyUnit::getCurrencyCode)
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testGetCurrenciesByCode() {
+        assertEquals(codes(CurrencyQueryBuilder.of().setCurrencyCodes("DEM", "EUR").set(Y1995)), Set.of("DEM"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCurrencyCodes("DEM", "EUR").set(Y2000)),
+                Set.of("DEM", "EUR"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCurrencyCodes("DEM", "EUR").set(Y2010)), Set.of("EUR"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCurrencyCodes("DEM").set(LocalDate.of(2002, 2, 28))),
+                Set.of("DEM"));
+        assertTrue(codes(CurrencyQueryBuilder.of().setCurrencyCodes("DEM").set(LocalDate.of(2002, 3, 1)))
+                .isEmpty());
+        assertEquals(codes(CurrencyQueryBuilder.of().setCurrencyCodes("USD").set(LocalDate.of(1900, 1, 1))),
+                Set.of("USD"));
+        assertTrue(codes(CurrencyQueryBuilder.of().setCurrencyCodes("XYZ").set(Y1995)).isEmpty());
+        assertSame(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("DEM").set(Y1995).build())
+                .iterator().next(), Monetary.getCurrency("DEM"));
+    }
+
+    @Test
+    public void testGetCurrenciesByCountry() {
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(Locale.GERMANY).set(Y1995)), Set.of("DEM"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(Locale.GERMANY).set(Y2000)),
+                Set.of("DEM", "EUR"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(Locale.GERMANY).set(Y2010)), Set.of("EUR"));
+        Locale slovenia = new Locale("", "SI");
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(slovenia).set(Y2000)), Set.of("SIT"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(slovenia).set(Y2010)), Set.of("EUR"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(Locale.US).set(Y1995)), Set.of("USD"));
+    }
+
+    @Test
+    public void testGetCurrenciesOfBulgaria() {
+        Locale bulgaria = new Locale("", "BG");
+        LocalDate lastLevDay = LocalDate.of(2025, 12, 31);
+        LocalDate firstEuroDay = LocalDate.of(2026, 1, 1);
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(bulgaria).set(Y2010)), Set.of("BGN"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(bulgaria).set(lastLevDay)), Set.of("BGN"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCountries(bulgaria).set(firstEuroDay)), Set.of("EUR"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setCurrencyCodes("BGN").set(lastLevDay)), Set.of("BGN"));
+        assertTrue(codes(CurrencyQueryBuilder.of().setCurrencyCodes("BGN").set(firstEuroDay)).isEmpty());
+    }
+
+    @Test
+    public void testGetCurrenciesByNumericCode() {
+        assertEquals(codes(CurrencyQueryBuilder.of().setNumericCodes(484).set(LocalDate.of(1990, 1, 1))),
+                Set.of("MXP"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setNumericCodes(484).set(Y2000)), Set.of("MXN"));
+        assertEquals(codes(CurrencyQueryBuilder.of().setNumericCodes(792).set(Y2000)), Set.of("TRL"));
+        assertTrue(codes(CurrencyQueryBuilder.of().setNumericCodes(792).set(Y2010)).isEmpty());
+        CurrencyUnit peso = provider.getCurrencies(CurrencyQueryBuilder.of().setNumericCodes(484)
+                .set(LocalDate.of(1990, 1, 1)).build()).iterator().next();
+        assertEquals(peso.getNumericCode(), 484);
+        assertEquals(peso.getDefaultFractionDigits(), 2);
+    }
+
+    @Test
+    public void testGetAllCurrencies() {
+        Set<String> y1995 = codes(CurrencyQueryBuilder.of().set(Y1995));
+        assertTrue(y1995.containsAll(Set.of("DEM", "FRF", "TRL", "USD")));
+        assertFalse(y1995.contains("EUR"));
+        Set<String> y2010 = codes(CurrencyQueryBuilder.of().set(LocalDateTime.of(2010, 6, 30, 12, 0)));
+        assertTrue(y2010.containsAll(Set.of("EUR", "TRY", "USD")));
+        assertFalse(y2010.contains("DEM"));
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().build()).isEmpty());
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("DEM").build()).isEmpty());
+    }
+
+    @Test
+    public void testMonetaryLookup() {
+        assertEquals(Monetary.getCurrency(CurrencyQueryBuilder.of().setProviderName("historic")
+                .setCurrencyCodes("FRF").set(Y1995).build()).getCurrencyCode(), "FRF");
+        assertThrows(MonetaryException.class, () -> Monetary.getCurrency(CurrencyQueryBuilder.of()
+                .setProviderName("historic").setCurrencyCodes("FRF").set(Y2010).build()));
+        assertEquals(Monetary.getCurrency("EUR"), Monetary.getCurrency(CurrencyQueryBuilder.of()
+                .setProviderName("historic").setCountries(Locale.FRANCE).set(Y2010).build()));
+    }
+}
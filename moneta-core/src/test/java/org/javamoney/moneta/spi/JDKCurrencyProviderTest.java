@@ -0,0 +1,72 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+
+import org.testng.annotations.Test;
+
+public class JDKCurrencyProviderTest {
+
+    private final JDKCurrencyProvider provider = new JDKCurrencyProvider();
+
+    private static Set<String> expectedCodes(Locale locale) {
+        try {
+            Currency currency = Currency.getInstance(locale);
+            return currency == null ? Set.of() : Set.of(currency.getCurrencyCode());
+        } catch (IllegalArgumentException e) {
+            return Set.of();
+        }
+    }
+
+    private static Set<String> codes(Set<CurrencyUnit> units) {
+        return units.stream().map(CurrencyUnit::getCurrencyCode).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testGetCurrenciesByLocale() {
+        for (Locale locale : Locale.getAvailableLocales()) {
+            assertEquals(codes(provider.getCurrencies(CurrencyQueryBuilder.of().setCountries(locale).build())),
+                    expectedCodes(locale), locale.toString());
+        }
+        Locale withExtension = Locale.forLanguageTag("de-DE-u-cu-usd");
+        assertEquals(codes(provider.getCurrencies(CurrencyQueryBuilder.of().setCountries(withExtension).build())),
+                expectedCodes(withExtension));
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setCountries(Locale.ENGLISH).build()).isEmpty());
+    }
+
+    @Test
+    public void testGetCurrenciesByNumericCode() {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int numericCode = currency.getNumericCode();
+            Set<String> expected = Currency.getAvailableCurrencies().stream()
+                    .filter(c -> c.getNumericCode() == numericCode)
+                    .map(Currency::getCurrencyCode).collect(Collectors.toSet());
+            assertEquals(codes(provider.getCurrencies(CurrencyQueryBuilder.of().setNumericCodes(numericCode)
+                    .build())), expected, currency.toString());
+        }
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setNumericCodes(1).build()).isEmpty());
+    }
+}
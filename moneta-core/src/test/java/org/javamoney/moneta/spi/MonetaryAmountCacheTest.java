@@ -0,0 +1,95 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.math.BigDecimal;
+
+import static org.testng.Assert.*;
+
+public class MonetaryAmountCacheTest {
+
+    private static final CurrencyUnit EUR = Monetary.getCurrency("EUR");
+
+    @Test
+    public void testGet() {
+        MonetaryAmountCache<Money> cache = new MonetaryAmountCache<>(Money::of, 5);
+        assertEquals(cache.getMaxValue(), 5);
+        Money zero = cache.get(0L, 0, EUR);
+        assertEquals(zero, Money.zero(EUR));
+        assertSame(cache.get(BigDecimal.ZERO, EUR), zero);
+        assertSame(cache.get(5L, 0, EUR), cache.get(BigDecimal.valueOf(5), EUR));
+        assertSame(cache.get(1L, 2, EUR), cache.get(new BigDecimal("0.01"), EUR));
+        assertEquals(cache.get(1L, 2, EUR), Money.of(new BigDecimal("0.01"), EUR));
+    }
+
+    @Test
+    public void testGet_NotCached() {
+        MonetaryAmountCache<Money> cache = new MonetaryAmountCache<>(Money::of, 5);
+        assertNull(cache.get(6L, 0, EUR));
+        assertNull(cache.get(-1L, 0, EUR));
+        assertNull(cache.get(10L, 1, EUR));
+        assertNull(cache.get(1L, 3, EUR));
+        assertNull(cache.get(new BigDecimal("1.0"), EUR));
+        assertNull(cache.get(new BigDecimal("0.00"), EUR));
+        assertNull(cache.get(new BigDecimal("0.02"), EUR));
+        assertNull(cache.get(new BigDecimal("1E+1"), EUR));
+    }
+
+    @Test
+    public void testGet_Disabled() {
+        MonetaryAmountCache<Money> cache = new MonetaryAmountCache<>(Money::of, -1);
+        assertNull(cache.get(0L, 0, EUR));
+        assertNull(cache.get(new BigDecimal("0.01"), EUR));
+    }
+
+    @Test
+    public void testGet_OtherCurrencyInstance() {
+        MonetaryAmountCache<Money> cache = new MonetaryAmountCache<>(Money::of, 5);
+        CurrencyUnit custom = CurrencyUnitBuilder.of("EUR", "MonetaryAmountCacheTest").build();
+        assertSame(cache.get(0L, 0, EUR).getCurrency(), EUR);
+        assertNull(cache.get(0L, 0, custom));
+    }
+
+    @Test
+    public void testAmountsAreShared() {
+        assertSame(FastMoney.zero(EUR), FastMoney.of(0, EUR));
+        assertSame(FastMoney.of(new BigDecimal("1.00"), EUR), FastMoney.of(1L, EUR));
+        assertSame(FastMoney.ofMinor(EUR, 1), FastMoney.of(new BigDecimal("0.01"), EUR));
+        assertNotSame(FastMoney.of(1000, EUR), FastMoney.of(1000, EUR));
+        assertSame(Money.zero(EUR), Money.of(0, EUR));
+        assertSame(Money.of(3, EUR), Money.of(BigDecimal.valueOf(3), "EUR"));
+        assertNotSame(Money.of(new BigDecimal("3.0"), EUR), Money.of(3, EUR));
+        assertSame(RoundedMoney.zero(EUR), RoundedMoney.of(BigDecimal.ZERO, EUR));
+        assertSame(RoundedMoney.of(0, EUR), RoundedMoney.of(0, EUR));
+        assertSame(RoundedMoney.of(1, EUR), RoundedMoney.of(1L, EUR));
+        assertSame(RoundedMoney.of(1L, "EUR"), RoundedMoney.of(BigDecimal.ONE, EUR));
+        assertSame(RoundedMoney.zero(EUR), RoundedMoney.of(0, "EUR"));
+        assertSame(Monetary.getAmountFactory(Money.class).setCurrency(EUR).setNumber(0).create(),
+                Monetary.getAmountFactory(Money.class).setCurrency(EUR).setNumber(0).create());
+        assertSame(Monetary.getAmountFactory(FastMoney.class).setCurrency(EUR).setNumber(0).create(),
+                FastMoney.zero(EUR));
+        assertSame(Monetary.getAmountFactory(RoundedMoney.class).setCurrency(EUR).setNumber(1).create(),
+                Monetary.getAmountFactory(RoundedMoney.class).setCurrency(EUR).setNumber(1).create());
+    }
+}
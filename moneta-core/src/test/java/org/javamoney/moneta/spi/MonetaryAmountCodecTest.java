@@ -0,0 +1,165 @@
+/*
+  Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.MicroMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.javamoney.moneta.WideMoney;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContextBuilder;
+import javax.money.MonetaryOperator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+import static org.testng.Assert.*;
+
+public class MonetaryAmountCodecTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    private static MonetaryAmount roundTrip(MonetaryAmount amount) {
+        MonetaryAmount result = MonetaryAmountCodec.decode(MonetaryAmountCodec.encode(amount));
+        assertEquals(result.getClass(), amount.getClass());
+        assertEquals(result, amount);
+        assertEquals(result.getContext(), amount.getContext());
+        assertSame(result.getCurrency(), amount.getCurrency());
+        return result;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        roundTrip(FastMoney.of(new BigDecimal("12.34567"), EURO));
+        roundTrip(FastMoney.of(-1, "USD"));
+        roundTrip(FastMoney.MAX_VALUE);
+        roundTrip(FastMoney.MIN_VALUE);
+        roundTrip(Money.of(new BigDecimal("-1234.5678"), EURO));
+        roundTrip(Money.of(new BigDecimal("1E+20"), EURO));
+        roundTrip(Money.of(new BigDecimal("123456789012345678901234567890.123"), "CHF"));
+        roundTrip(RoundedMoney.of(new BigDecimal("2.5"), EURO));
+        roundTrip(MicroMoney.of(new BigDecimal("0.00012345"), EURO, 8));
+        roundTrip(WideMoney.of(new BigDecimal("12345678901234567890.0123456789"), EURO));
+        roundTrip(WideMoney.of(-3, EURO));
+    }
+
+    @Test
+    public void testRoundTrip_RetainsScale() {
+        Money amount = Money.of(new BigDecimal("1.50"), EURO);
+        Money result = (Money) roundTrip(amount);
+        assertEquals(result.toString(), amount.toString());
+    }
+
+    @Test
+    public void testRoundTrip_CustomContext() {
+        Money amount = Money.of(new BigDecimal("1.5"), EURO, MonetaryContextBuilder.of(Money.class)
+                .setPrecision(20).setMaxScale(6).set(RoundingMode.HALF_UP).build());
+        roundTrip(amount);
+        roundTrip(Money.of(BigDecimal.TEN, EURO, MonetaryContextBuilder.of(Money.class)
+                .set(MathContext.DECIMAL32).build()));
+    }
+
+    @Test
+    public void testRoundTrip_CustomCurrency() {
+        CurrencyUnit unit = CurrencyUnitBuilder.of("MACT", "MonetaryAmountCodecTest")
+                .setDefaultFractionDigits(3).build(true);
+        try {
+            roundTrip(FastMoney.of(1, unit));
+            roundTrip(Money.of(2, unit));
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("MACT");
+        }
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(MonetaryAmountCodec.encode(FastMoney.of(1, EURO)).length, 6);
+        assertEquals(MonetaryAmountCodec.encode(Money.of(new BigDecimal("19.99"), EURO)).length, 6);
+        assertTrue(MonetaryAmountCodec.encode(MicroMoney.of(10, EURO)).length <= 6);
+    }
+
+    @Test
+    public void testBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        MonetaryAmountCodec.write(buffer, Money.of(1, EURO));
+        MonetaryAmountCodec.write(buffer, FastMoney.of(2, "USD"));
+        buffer.flip();
+        assertEquals(MonetaryAmountCodec.read(buffer), Money.of(1, EURO));
+        assertEquals(MonetaryAmountCodec.read(buffer), FastMoney.of(2, "USD"));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testUnsupported() {
+        MonetaryOperator rounding = Monetary.getRounding(EURO);
+        RoundedMoney custom = RoundedMoney.of(BigDecimal.ONE, EURO, rounding);
+        assertFalse(MonetaryAmountCodec.canEncode(custom));
+        assertThrows(IllegalArgumentException.class, () -> MonetaryAmountCodec.encode(custom));
+        assertSame(MonetaryAmountCodec.toSerializedForm(custom), custom);
+        assertThrows(IllegalArgumentException.class, () -> MonetaryAmountCodec.decode(new byte[]{7, 0}));
+        assertThrows(IllegalArgumentException.class, () -> MonetaryAmountCodec.decode(new byte[]{1}));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        MonetaryAmount[] amounts = {FastMoney.of(1, EURO), Money.of(new BigDecimal("1.50"), EURO),
+                RoundedMoney.of(BigDecimal.TEN, EURO), MicroMoney.of(1, EURO), WideMoney.of(1, EURO)};
+        for (MonetaryAmount amount : amounts) {
+            MonetaryAmount result = (MonetaryAmount) deserialize(serialize(amount));
+            assertEquals(result, amount);
+            assertSame(result.getCurrency(), EURO);
+        }
+        CurrencyUnit unit = CurrencyUnitBuilder.of("EUR", "MonetaryAmountCodecTest").build();
+        Money custom = Money.of(1, unit);
+        assertEquals(deserialize(serialize(custom)), custom);
+    }
+
+    @Test
+    public void testSerialization_Compact() throws Exception {
+        MonetaryAmount[] amounts = new MonetaryAmount[100];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Money.of(i, EURO);
+        }
+        assertTrue(serialize(amounts).length < amounts.length * 20);
+        assertTrue(serialize(Money.of(1, EURO)).length < 100);
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2012, 2025, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test for the {@link org.javamoney.moneta.spi.MonetaryConfigSnapshot} class.
+ */
+public class MonetaryConfigSnapshotTest {
+
+    @Test
+    public void testCurrentIsShared() {
+        assertSame(MonetaryConfigSnapshot.current(), MonetaryConfigSnapshot.current());
+    }
+
+    @Test
+    public void testGetString() {
+        MonetaryConfigSnapshot snapshot = MonetaryConfigSnapshot.current();
+        assertEquals(snapshot.getString("myTestValue").orElse(null), "myTestValue");
+        assertFalse(snapshot.getString("MonetaryConfigSnapshotTest.undefined").isPresent());
+        assertEquals(snapshot.getString("MonetaryConfigSnapshotTest.undefined", "default"), "default");
+    }
+
+    @Test
+    public void testGetBoolean() {
+        MonetaryConfigSnapshot snapshot = MonetaryConfigSnapshot.current();
+        assertTrue(snapshot.getBoolean("MonetaryConfigSnapshotTest.undefined", true));
+        assertFalse(snapshot.getBoolean("myTestValue", true));
+    }
+
+    @Test
+    public void testRefreshCreatesNewVersion() {
+        MonetaryConfigSnapshot snapshot = MonetaryConfigSnapshot.current();
+        MonetaryConfigSnapshot.refresh();
+        MonetaryConfigSnapshot refreshed = MonetaryConfigSnapshot.current();
+        assertNotSame(refreshed, snapshot);
+        assertTrue(refreshed.getVersion() > snapshot.getVersion());
+    }
+
+    @Test
+    public void testSetValueRefreshes() {
+        String key = "MonetaryConfigSnapshotTest.flag";
+        assertFalse(MonetaryConfigSnapshot.current().getBoolean(key, false));
+        try {
+            MonetaryConfig.setValue(key, "true");
+            assertTrue(MonetaryConfigSnapshot.current().getBoolean(key, false));
+        } finally {
+            MonetaryConfig.setValue(key, null);
+        }
+        assertFalse(MonetaryConfigSnapshot.current().getBoolean(key, false));
+    }
+
+    @Test
+    public void testSystemPropertiesAreLive() {
+        String key = "MonetaryConfigSnapshotTest.system";
+        MonetaryConfigSnapshot snapshot = MonetaryConfigSnapshot.current();
+        assertFalse(snapshot.getString(key).isPresent());
+        System.setProperty(key, "true");
+        try {
+            assertTrue(snapshot.getBoolean(key, false));
+            assertEquals(MonetaryConfigSnapshot.current().getString(key).orElse(null), "true");
+        } finally {
+            System.clearProperty(key);
+        }
+        assertFalse(snapshot.getString(key).isPresent());
+    }
+}
@@ -1,12 +1,18 @@
 package org.javamoney.moneta.spi;
 
 import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
 import org.testng.annotations.Test;
 
 import javax.money.CurrencyUnit;
 import javax.money.Monetary;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
 import javax.money.MonetaryException;
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import static java.math.BigDecimal.TEN;
 import static org.javamoney.moneta.spi.MoneyUtils.*;
@@ -38,6 +44,58 @@ public class MoneyUtilsTest {
         assertEquals(getBigDecimal(Float.valueOf(0.24F)), new BigDecimal("0.24"));
     }
 
+    @Test
+    public void testGetBigDecimal_NumberMonetaryContext() {
+        MonetaryContext context = MonetaryContextBuilder.of().setPrecision(5).setMaxScale(2).build();
+        assertEquals(getBigDecimal(new BigDecimal("123.456"), context), new BigDecimal("123.46"));
+        assertEquals(getBigDecimal(new BigDecimal("1234567"), context), new BigDecimal("1.2346E+6"));
+        assertEquals(getBigDecimal(new BigDecimal("0.125"), context), new BigDecimal("0.12"));
+        assertEquals(getBigDecimal(new BigDecimal("123.456"), null), new BigDecimal("123.456"));
+    }
+
+    @Test
+    public void testGetMathContext() {
+        MonetaryContext context = MonetaryContextBuilder.of().setPrecision(7).build();
+        MathContext mathContext = getMathContext(context, RoundingMode.HALF_EVEN);
+        assertEquals(mathContext, new MathContext(7, RoundingMode.HALF_EVEN));
+        assertSame(getMathContext(context, RoundingMode.HALF_EVEN), mathContext);
+        assertEquals(getMathContext(context, RoundingMode.DOWN), new MathContext(7, RoundingMode.DOWN));
+        MonetaryContext explicit = MonetaryContextBuilder.of().set(MathContext.DECIMAL32).build();
+        assertSame(getMathContext(explicit, RoundingMode.DOWN), MathContext.DECIMAL32);
+    }
+
+    @Test
+    public void testGetMaxScale() {
+        assertEquals(getMaxScale(MonetaryContextBuilder.of().setMaxScale(4).build()), 4);
+        assertTrue(getMaxScale(MonetaryContextBuilder.of().build()) <= 0);
+    }
+
+    @Test
+    public void testGetBigDecimal_NumberMathContext() {
+        MonetaryContext context = MonetaryContextBuilder.of().setPrecision(5).setMaxScale(2).build();
+        MathContext mathContext = createMathContext(context, RoundingMode.HALF_EVEN);
+        assertEquals(mathContext, new MathContext(5, RoundingMode.HALF_EVEN));
+        assertNotSame(createMathContext(context, RoundingMode.HALF_EVEN), mathContext);
+        assertEquals(getBigDecimal(new BigDecimal("123.456"), mathContext, 2), new BigDecimal("123.46"));
+        assertEquals(getBigDecimal(new BigDecimal("0.125"), mathContext, 0), new BigDecimal("0.125"));
+    }
+
+    @Test
+    public void testRoundedMoneyKeepsResolvedContexts() {
+        MonetaryContext moneyContext = MonetaryContextBuilder.of(Money.class).setPrecision(20).build();
+        MathContext defaultMathContext = getMathContext(Money.DEFAULT_MONETARY_CONTEXT, RoundingMode.HALF_EVEN);
+        MathContext mathContext = getMathContext(moneyContext, RoundingMode.HALF_EVEN);
+        RoundedMoney amount = RoundedMoney.of(BigDecimal.ONE, Monetary.getCurrency("EUR"));
+        MonetaryContext roundedContext = MonetaryContextBuilder.of(RoundedMoney.class).setPrecision(10).build();
+        for (int i = 0; i < 1000; i++) {
+            amount = amount.add(amount).divide(2).multiply(new BigDecimal("1.01"));
+            RoundedMoney.of(i, "EUR", roundedContext).subtract(RoundedMoney.of(1, "EUR", roundedContext));
+        }
+        assertSame(amount.getContext(), RoundedMoney.DEFAULT_MONETARY_CONTEXT);
+        assertSame(getMathContext(Money.DEFAULT_MONETARY_CONTEXT, RoundingMode.HALF_EVEN), defaultMathContext);
+        assertSame(getMathContext(moneyContext, RoundingMode.HALF_EVEN), mathContext);
+    }
+
     @Test
     public void testCheckAmountParameter() {
         CurrencyUnit dollar = Monetary.getCurrency("USD");
@@ -0,0 +1,19 @@
+/*
+Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+Licensed under the Apache License, Version 2.0 (the "License"); you may not
+use this file except in compliance with the License. You may obtain a copy of
+the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+License for the specific language governing permissions and limitations under
+the License.
+*/
+module org.javamoney.moneta.store {
+    exports org.javamoney.moneta.store;
+    requires transitive org.javamoney.moneta;
+}
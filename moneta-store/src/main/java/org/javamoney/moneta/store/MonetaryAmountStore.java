@@ -0,0 +1,610 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.store;
+
+import org.javamoney.moneta.FastMoney;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed-capacity store of {@link FastMoney} amounts held outside of the Java heap, in direct or memory-mapped
+ * buffers. Each amount takes 10 bytes, being its unscaled value as {@code long} and a 2 byte index into the
+ * store's currency table, so hundreds of millions of amounts can be held without any heap objects per amount.
+ * <p>
+ * Amounts are accessed by index, either as {@link FastMoney} instances, or as raw unscaled values, see
+ * {@link FastMoney#getUnscaledValue()}. The aggregation methods, such as {@link #sum(CurrencyUnit)}, operate on
+ * the raw values and do not create any objects per amount.
+ * </p>
+ * <p>
+ * Stores created by {@link #map(Path, long)} are backed by a file, which also holds the currency table, so the
+ * amounts are retained when the file is mapped again.
+ * </p>
+ * Instances are not thread-safe for writing: concurrent reads are safe, writes must be synchronized
+ * externally. Writes to distinct indexes, however, do not interfere.
+ *
+ * @since 1.5
+ */
+public final class MonetaryAmountStore {
+
+    /**
+     * The maximal number of distinct currencies held by a store.
+     */
+    public static final int MAX_CURRENCIES = 1023;
+
+    /**
+     * The maximal length of a currency code held by a store.
+     */
+    public static final int MAX_CODE_LENGTH = 8;
+
+    private static final int MAGIC = 0x4D4E5354;
+    private static final int VERSION = 1;
+
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int CURRENCY_COUNT_OFFSET = 16;
+    private static final int CURRENCY_TABLE_OFFSET = 32;
+    private static final int HEADER_SIZE = CURRENCY_TABLE_OFFSET + (MAX_CURRENCIES + 1) * MAX_CODE_LENGTH;
+
+    private static final int SLOT_SIZE = Long.BYTES + Short.BYTES;
+
+    /**
+     * The number of amounts held by a segment, being a buffer of at most 640 MB.
+     */
+    private static final int SEGMENT_SHIFT = 26;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1L;
+
+    private final long capacity;
+
+    private final ByteBuffer header;
+
+    /**
+     * The segments, each holding the unscaled values followed by the currency indexes of its amounts.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * The offsets of the currency indexes within the segments.
+     */
+    private final int[] indexOffsets;
+
+    /**
+     * The currency table, resolved lazily for stores read from a file. Index {@code 0} denotes an empty slot.
+     */
+    private final CurrencyUnit[] currencies = new CurrencyUnit[MAX_CURRENCIES + 1];
+
+    private final String[] currencyCodes = new String[MAX_CURRENCIES + 1];
+
+    private final Map<String, Integer> currencyIndexes = new ConcurrentHashMap<>();
+
+    private volatile int currencyCount;
+
+    private MonetaryAmountStore(long capacity, ByteBuffer header, ByteBuffer[] segments) {
+        this.capacity = capacity;
+        this.header = header;
+        this.segments = segments;
+        this.indexOffsets = new int[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            indexOffsets[i] = segments[i].capacity() / SLOT_SIZE * Long.BYTES;
+        }
+        if (header.getInt(0) == MAGIC) {
+            readCurrencyTable();
+        } else {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(CAPACITY_OFFSET, capacity);
+            header.putInt(CURRENCY_COUNT_OFFSET, 0);
+        }
+    }
+
+    /**
+     * Creates a new store, backed by direct buffers, with all amounts empty.
+     *
+     * @param capacity the number of amounts held.
+     * @return the new store, never null.
+     */
+    public static MonetaryAmountStore allocate(long capacity) {
+        checkCapacity(capacity);
+        ByteBuffer header = ByteBuffer.allocateDirect(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer[] segments = new ByteBuffer[getSegmentCount(capacity)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(getSegmentSize(capacity, i) * SLOT_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new MonetaryAmountStore(capacity, header, segments);
+    }
+
+    /**
+     * Maps a store from the given file. If the file is empty or does not exist, a new store with all amounts
+     * empty is created, otherwise the store previously written to the file is mapped.
+     *
+     * @param file     the file, not null.
+     * @param capacity the number of amounts held, which must match the capacity of an existing store.
+     * @return the store, never null.
+     * @throws IOException              if the file cannot be mapped.
+     * @throws IllegalArgumentException if the file is no store file, or has a different capacity.
+     */
+    public static MonetaryAmountStore map(Path file, long capacity) throws IOException {
+        Objects.requireNonNull(file);
+        checkCapacity(capacity);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size > 0) {
+                ByteBuffer existing = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, HEADER_SIZE))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                if (size < HEADER_SIZE || existing.getInt(0) != MAGIC || existing.getInt(4) != VERSION) {
+                    throw new IllegalArgumentException("Not a store file: " + file);
+                }
+                if (existing.getLong(CAPACITY_OFFSET) != capacity) {
+                    throw new IllegalArgumentException("Store file has a capacity of "
+                            + existing.getLong(CAPACITY_OFFSET) + ": " + file);
+                }
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer[] segments = new ByteBuffer[getSegmentCount(capacity)];
+            long position = HEADER_SIZE;
+            for (int i = 0; i < segments.length; i++) {
+                long segmentSize = (long) getSegmentSize(capacity, i) * SLOT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentSize)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                position += segmentSize;
+            }
+            return new MonetaryAmountStore(capacity, header, segments);
+        }
+    }
+
+    /**
+     * Access the number of amounts held by this store.
+     *
+     * @return the capacity.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks whether the amount at the given index is empty, i.e. was never set or was cleared.
+     *
+     * @param index the index.
+     * @return true, if no amount is held at the given index.
+     */
+    public boolean isEmpty(long index) {
+        return getCurrencyIndex(index) == 0;
+    }
+
+    /**
+     * Access the amount at the given index.
+     *
+     * @param index the index.
+     * @return the amount, or {@code null}, if the amount at the index is empty.
+     */
+    public FastMoney get(long index) {
+        int currencyIndex = getCurrencyIndex(index);
+        if (currencyIndex == 0) {
+            return null;
+        }
+        return FastMoney.ofUnscaled(getUnscaledValue(index), getCurrency(currencyIndex));
+    }
+
+    /**
+     * Access the currency of the amount at the given index.
+     *
+     * @param index the index.
+     * @return the currency, or {@code null}, if the amount at the index is empty.
+     */
+    public CurrencyUnit getCurrency(long index) {
+        int currencyIndex = getCurrencyIndex(index);
+        return currencyIndex == 0 ? null : getCurrency(currencyIndex);
+    }
+
+    /**
+     * Access the unscaled value of the amount at the given index, see {@link FastMoney#getUnscaledValue()}.
+     *
+     * @param index the index.
+     * @return the unscaled value, {@code 0} for an empty amount.
+     */
+    public long getUnscaledValue(long index) {
+        checkIndex(index);
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & SEGMENT_MASK) << 3);
+    }
+
+    /**
+     * Sets the amount at the given index.
+     *
+     * @param index  the index.
+     * @param amount the amount, not null. Amounts other than {@link FastMoney} are converted using
+     *               {@link FastMoney#from(MonetaryAmount)}.
+     * @throws ArithmeticException if the amount cannot be represented as {@link FastMoney}.
+     * @throws MonetaryException   if the maximal number of currencies would be exceeded.
+     */
+    public void set(long index, MonetaryAmount amount) {
+        FastMoney fastMoney = amount instanceof FastMoney ? (FastMoney) amount : FastMoney.from(amount);
+        setUnscaledValue(index, fastMoney.getCurrency(), fastMoney.getUnscaledValue());
+    }
+
+    /**
+     * Sets the amount at the given index from its unscaled value, see {@link FastMoney#getUnscaledValue()}.
+     *
+     * @param index         the index.
+     * @param currency      the currency, not null.
+     * @param unscaledValue the unscaled value.
+     * @throws MonetaryException if the maximal number of currencies would be exceeded.
+     */
+    public void setUnscaledValue(long index, CurrencyUnit currency, long unscaledValue) {
+        checkIndex(index);
+        int currencyIndex = getOrAddCurrencyIndex(currency);
+        ByteBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+        int offset = (int) (index & SEGMENT_MASK);
+        segment.putLong(offset << 3, unscaledValue);
+        segment.putShort(indexOffsets[(int) (index >>> SEGMENT_SHIFT)] + (offset << 1), (short) currencyIndex);
+    }
+
+    /**
+     * Adds the given unscaled value to the amount at the given index, e.g. to book a transaction on a
+     * position. An empty amount is treated as zero.
+     *
+     * @param index         the index.
+     * @param currency      the currency, not null.
+     * @param unscaledValue the unscaled value to be added.
+     * @return the new unscaled value.
+     * @throws MonetaryException   if the amount at the index has a different currency.
+     * @throws ArithmeticException if the result exceeds the range of {@link FastMoney}.
+     */
+    public long addUnscaledValue(long index, CurrencyUnit currency, long unscaledValue) {
+        int currencyIndex = getCurrencyIndex(index);
+        long result = unscaledValue;
+        if (currencyIndex != 0) {
+            if (!getCurrencyCode(currencyIndex).equals(currency.getCurrencyCode())) {
+                throw new MonetaryException("Currency mismatch: " + getCurrencyCode(currencyIndex) + '/'
+                        + currency.getCurrencyCode());
+            }
+            result = Math.addExact(getUnscaledValue(index), unscaledValue);
+        }
+        setUnscaledValue(index, currency, result);
+        return result;
+    }
+
+    /**
+     * Clears the amount at the given index.
+     *
+     * @param index the index.
+     */
+    public void clear(long index) {
+        checkIndex(index);
+        ByteBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+        int offset = (int) (index & SEGMENT_MASK);
+        segment.putLong(offset << 3, 0L);
+        segment.putShort(indexOffsets[(int) (index >>> SEGMENT_SHIFT)] + (offset << 1), (short) 0);
+    }
+
+    /**
+     * Passes the amounts in the given range to the visitor, as raw values. Empty amounts are skipped.
+     *
+     * @param fromIndex the first index, inclusive.
+     * @param toIndex   the last index, exclusive.
+     * @param visitor   the visitor, not null.
+     */
+    public void forEach(long fromIndex, long toIndex, AmountVisitor visitor) {
+        checkRange(fromIndex, toIndex);
+        for (long index = fromIndex; index < toIndex; ) {
+            int segmentIndex = (int) (index >>> SEGMENT_SHIFT);
+            ByteBuffer segment = segments[segmentIndex];
+            int indexOffset = indexOffsets[segmentIndex];
+            long base = (long) segmentIndex << SEGMENT_SHIFT;
+            int start = (int) (index - base);
+            int end = (int) Math.min(SEGMENT_SIZE, toIndex - base);
+            for (int offset = start; offset < end; offset++) {
+                int currencyIndex = segment.getShort(indexOffset + (offset << 1));
+                if (currencyIndex != 0) {
+                    visitor.visit(base + offset, getCurrency(currencyIndex), segment.getLong(offset << 3));
+                }
+            }
+            index = base + end;
+        }
+    }
+
+    /**
+     * Evaluates the total of all amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the total, zero if no amount of the currency is held.
+     * @throws ArithmeticException if the total exceeds the range of {@link FastMoney}.
+     */
+    public FastMoney sum(CurrencyUnit currency) {
+        return sum(currency, 0, capacity);
+    }
+
+    /**
+     * Evaluates the total of all amounts of the given currency in the given range.
+     *
+     * @param currency  the currency, not null.
+     * @param fromIndex the first index, inclusive.
+     * @param toIndex   the last index, exclusive.
+     * @return the total, zero if no amount of the currency is held in the range.
+     * @throws ArithmeticException if the total exceeds the range of {@link FastMoney}.
+     */
+    public FastMoney sum(CurrencyUnit currency, long fromIndex, long toIndex) {
+        checkRange(fromIndex, toIndex);
+        Integer currencyIndex = currencyIndexes.get(currency.getCurrencyCode());
+        if (currencyIndex == null) {
+            return FastMoney.zero(currency);
+        }
+        long[] totals = new long[1];
+        aggregate(fromIndex, toIndex, currencyIndex, Aggregation.SUM, totals, new long[1]);
+        return FastMoney.ofUnscaled(totals[0], currency);
+    }
+
+    /**
+     * Evaluates the totals of all amounts per currency.
+     *
+     * @return the totals by currency, never null.
+     * @throws ArithmeticException if a total exceeds the range of {@link FastMoney}.
+     */
+    public Map<CurrencyUnit, FastMoney> sumByCurrency() {
+        long[] totals = new long[MAX_CURRENCIES + 1];
+        long[] counts = new long[MAX_CURRENCIES + 1];
+        aggregate(0, capacity, -1, Aggregation.SUM, totals, counts);
+        Map<CurrencyUnit, FastMoney> result = new LinkedHashMap<>();
+        for (int i = 1; i <= currencyCount; i++) {
+            if (counts[i] > 0) {
+                result.put(getCurrency(i), FastMoney.ofUnscaled(totals[i], getCurrency(i)));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Evaluates the number of amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the number of amounts.
+     */
+    public long count(CurrencyUnit currency) {
+        Integer currencyIndex = currencyIndexes.get(currency.getCurrencyCode());
+        if (currencyIndex == null) {
+            return 0L;
+        }
+        long[] counts = new long[1];
+        aggregate(0, capacity, currencyIndex, Aggregation.COUNT, new long[1], counts);
+        return counts[0];
+    }
+
+    /**
+     * Evaluates the minimal amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the minimal amount, or empty, if no amount of the currency is held.
+     */
+    public Optional<FastMoney> min(CurrencyUnit currency) {
+        return extreme(currency, Aggregation.MIN);
+    }
+
+    /**
+     * Evaluates the maximal amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the maximal amount, or empty, if no amount of the currency is held.
+     */
+    public Optional<FastMoney> max(CurrencyUnit currency) {
+        return extreme(currency, Aggregation.MAX);
+    }
+
+    /**
+     * Writes changes of a store created by {@link #map(Path, long)} to its file. Has no effect for stores
+     * created by {@link #allocate(long)}.
+     */
+    public void force() {
+        if (header instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) header).force();
+            for (ByteBuffer segment : segments) {
+                ((MappedByteBuffer) segment).force();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryAmountStore [capacity=" + capacity + ", currencies=" + currencyCount + ']';
+    }
+
+    private Optional<FastMoney> extreme(CurrencyUnit currency, Aggregation aggregation) {
+        Integer currencyIndex = currencyIndexes.get(currency.getCurrencyCode());
+        if (currencyIndex == null) {
+            return Optional.empty();
+        }
+        long[] result = {aggregation == Aggregation.MIN ? Long.MAX_VALUE : Long.MIN_VALUE};
+        long[] counts = new long[1];
+        aggregate(0, capacity, currencyIndex, aggregation, result, counts);
+        if (counts[0] == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(FastMoney.ofUnscaled(result[0], getCurrency(currencyIndex)));
+    }
+
+    /**
+     * Aggregates the amounts of the given currency into {@code results[0]} and {@code counts[0]}, or of all
+     * currencies, if {@code currencyIndex} is negative, in which case the arrays are indexed by currency index.
+     */
+    private void aggregate(long fromIndex, long toIndex, int currencyIndex, Aggregation aggregation,
+                           long[] results, long[] counts) {
+        for (long index = fromIndex; index < toIndex; ) {
+            int segmentIndex = (int) (index >>> SEGMENT_SHIFT);
+            ByteBuffer segment = segments[segmentIndex];
+            int indexOffset = indexOffsets[segmentIndex];
+            long base = (long) segmentIndex << SEGMENT_SHIFT;
+            int start = (int) (index - base);
+            int end = (int) Math.min(SEGMENT_SIZE, toIndex - base);
+            for (int offset = start; offset < end; offset++) {
+                int current = segment.getShort(indexOffset + (offset << 1));
+                if (current == 0 || (currencyIndex >= 0 && current != currencyIndex)) {
+                    continue;
+                }
+                int target = currencyIndex < 0 ? current : 0;
+                counts[target]++;
+                switch (aggregation) {
+                    case SUM:
+                        results[target] = Math.addExact(results[target], segment.getLong(offset << 3));
+                        break;
+                    case MIN:
+                        results[target] = Math.min(results[target], segment.getLong(offset << 3));
+                        break;
+                    case MAX:
+                        results[target] = Math.max(results[target], segment.getLong(offset << 3));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            index = base + end;
+        }
+    }
+
+    private int getCurrencyIndex(long index) {
+        checkIndex(index);
+        int segmentIndex = (int) (index >>> SEGMENT_SHIFT);
+        return segments[segmentIndex].getShort(indexOffsets[segmentIndex] + ((int) (index & SEGMENT_MASK) << 1));
+    }
+
+    private int getOrAddCurrencyIndex(CurrencyUnit currency) {
+        String code = currency.getCurrencyCode();
+        Integer currencyIndex = currencyIndexes.get(code);
+        if (currencyIndex != null) {
+            return currencyIndex;
+        }
+        synchronized (currencyIndexes) {
+            currencyIndex = currencyIndexes.get(code);
+            if (currencyIndex != null) {
+                return currencyIndex;
+            }
+            byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_CODE_LENGTH) {
+                throw new MonetaryException("Currency code too long for store: " + code);
+            }
+            int count = currencyCount;
+            if (count >= MAX_CURRENCIES) {
+                throw new MonetaryException("Too many currencies for store, max " + MAX_CURRENCIES + ": " + code);
+            }
+            int newIndex = count + 1;
+            int position = CURRENCY_TABLE_OFFSET + newIndex * MAX_CODE_LENGTH;
+            for (int i = 0; i < MAX_CODE_LENGTH; i++) {
+                header.put(position + i, i < bytes.length ? bytes[i] : 0);
+            }
+            currencies[newIndex] = currency;
+            currencyCodes[newIndex] = code;
+            header.putInt(CURRENCY_COUNT_OFFSET, newIndex);
+            currencyCount = newIndex;
+            currencyIndexes.put(code, newIndex);
+            return newIndex;
+        }
+    }
+
+    private CurrencyUnit getCurrency(int currencyIndex) {
+        CurrencyUnit currency = currencies[currencyIndex];
+        if (currency == null) {
+            currency = Monetary.getCurrency(getCurrencyCode(currencyIndex));
+            currencies[currencyIndex] = currency;
+        }
+        return currency;
+    }
+
+    private String getCurrencyCode(int currencyIndex) {
+        return currencyCodes[currencyIndex];
+    }
+
+    private void readCurrencyTable() {
+        int count = header.getInt(CURRENCY_COUNT_OFFSET);
+        for (int i = 1; i <= count; i++) {
+            int position = CURRENCY_TABLE_OFFSET + i * MAX_CODE_LENGTH;
+            int length = 0;
+            while (length < MAX_CODE_LENGTH && header.get(position + length) != 0) {
+                length++;
+            }
+            byte[] bytes = new byte[length];
+            for (int j = 0; j < length; j++) {
+                bytes[j] = header.get(position + j);
+            }
+            String code = new String(bytes, StandardCharsets.UTF_8);
+            currencyCodes[i] = code;
+            currencyIndexes.put(code, i);
+        }
+        currencyCount = count;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= capacity) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for capacity " + capacity);
+        }
+    }
+
+    private void checkRange(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > capacity || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+                    + ") out of bounds for capacity " + capacity);
+        }
+    }
+
+    private static void checkCapacity(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+    }
+
+    private static int getSegmentCount(long capacity) {
+        return (int) ((capacity + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+    }
+
+    private static int getSegmentSize(long capacity, int segmentIndex) {
+        return (int) Math.min(SEGMENT_SIZE, capacity - ((long) segmentIndex << SEGMENT_SHIFT));
+    }
+
+    private enum Aggregation {
+        SUM, COUNT, MIN, MAX
+    }
+
+    /**
+     * Receives the raw values of the amounts of a store, see {@link #forEach(long, long, AmountVisitor)}.
+     */
+    @FunctionalInterface
+    public interface AmountVisitor {
+
+        /**
+         * Visits an amount.
+         *
+         * @param index         the index of the amount.
+         * @param currency      the currency of the amount.
+         * @param unscaledValue the unscaled value of the amount, see {@link FastMoney#getUnscaledValue()}.
+         */
+        void visit(long index, CurrencyUnit currency, long unscaledValue);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+  Copyright (c) 2012, 2025, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta.store;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+public class MonetaryAmountStoreTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+
+    @Test
+    public void testGetSet() {
+        MonetaryAmountStore store = MonetaryAmountStore.allocate(100);
+        assertEquals(store.capacity(), 100L);
+        assertTrue(store.isEmpty(5));
+        assertNull(store.get(5));
+        assertNull(store.getCurrency(5));
+        store.set(5, FastMoney.of(new BigDecimal("12.5"), EURO));
+        store.set(6, Money.of(-3, DOLLAR));
+        assertFalse(store.isEmpty(5));
+        assertEquals(store.get(5), FastMoney.of(new BigDecimal("12.5"), EURO));
+        assertEquals(store.getUnscaledValue(5), 1_250_000L);
+        assertSame(store.getCurrency(6), DOLLAR);
+        assertEquals(store.get(6), FastMoney.of(-3, DOLLAR));
+        store.clear(5);
+        assertTrue(store.isEmpty(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.set(-1, FastMoney.of(1, EURO)));
+    }
+
+    @Test
+    public void testAddUnscaledValue() {
+        MonetaryAmountStore store = MonetaryAmountStore.allocate(10);
+        assertEquals(store.addUnscaledValue(0, EURO, 100L), 100L);
+        assertEquals(store.addUnscaledValue(0, EURO, -30L), 70L);
+        assertEquals(store.get(0), FastMoney.of(new BigDecimal("0.0007"), EURO));
+        assertThrows(MonetaryException.class, () -> store.addUnscaledValue(0, DOLLAR, 1L));
+        store.setUnscaledValue(1, EURO, Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> store.addUnscaledValue(1, EURO, 1L));
+    }
+
+    @Test
+    public void testAggregation() {
+        MonetaryAmountStore store = MonetaryAmountStore.allocate(1000);
+        for (int i = 0; i < 1000; i += 2) {
+            store.set(i, FastMoney.of(i, i % 4 == 0 ? EURO : DOLLAR));
+        }
+        assertEquals(store.count(EURO), 250L);
+        assertEquals(store.count(DOLLAR), 250L);
+        assertEquals(store.sum(EURO), FastMoney.of(124_500, EURO));
+        assertEquals(store.sum(DOLLAR), FastMoney.of(125_000, DOLLAR));
+        assertEquals(store.sum(EURO, 0, 10), FastMoney.of(12, EURO));
+        assertEquals(store.sum(Monetary.getCurrency("CHF")), FastMoney.zero(Monetary.getCurrency("CHF")));
+        assertEquals(store.min(EURO).get(), FastMoney.of(0, EURO));
+        assertEquals(store.max(DOLLAR).get(), FastMoney.of(998, DOLLAR));
+        assertFalse(store.max(Monetary.getCurrency("CHF")).isPresent());
+        Map<CurrencyUnit, FastMoney> totals = store.sumByCurrency();
+        assertEquals(totals.size(), 2);
+        assertEquals(totals.get(DOLLAR), FastMoney.of(125_000, DOLLAR));
+        AtomicLong visited = new AtomicLong();
+        store.forEach(10, 20, (index, currency, unscaledValue) -> {
+            assertEquals(unscaledValue, index * 100_000L);
+            visited.incrementAndGet();
+        });
+        assertEquals(visited.get(), 5L);
+    }
+
+    @Test
+    public void testMap() throws Exception {
+        Path file = Files.createTempFile("MonetaryAmountStoreTest", ".store");
+        try {
+            MonetaryAmountStore store = MonetaryAmountStore.map(file, 50);
+            store.set(3, FastMoney.of(7, EURO));
+            store.set(49, FastMoney.of(-1, DOLLAR));
+            store.force();
+            MonetaryAmountStore reopened = MonetaryAmountStore.map(file, 50);
+            assertEquals(reopened.get(3), FastMoney.of(7, EURO));
+            assertEquals(reopened.get(49), FastMoney.of(-1, DOLLAR));
+            assertTrue(reopened.isEmpty(4));
+            assertEquals(reopened.sum(EURO), FastMoney.of(7, EURO));
+            assertThrows(IllegalArgumentException.class, () -> MonetaryAmountStore.map(file, 51));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}